@@ -0,0 +1,122 @@
+package Benchmarks;
+
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base comum dos benchmarks de ordenação: gera a entrada uma vez por execução e,
+ * a cada invocação, ordena uma cópia dela pelo caminho primitivo do algoritmo.
+ *
+ * A cópia (System.arraycopy, linear) faz parte do tempo medido; ela é desprezível frente à ordenação
+ * e evita o custo de marcar o tempo a cada invocação, que distorceria os tamanhos pequenos.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSortBenchmark {
+
+    @Param({"n", "c", "l", "d", "s"})
+    public String type;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE"})
+    public InputShape shape;
+
+    private PrimitiveSortAlgorithm algorithm;
+    private final SortMetrics metrics = new SortMetrics();
+    private int[] intInput;
+    private char[] charInput;
+    private long[] longInput;
+    private double[] doubleInput;
+    private String[] stringInput;
+    private int[] intWork;
+    private char[] charWork;
+    private long[] longWork;
+    private double[] doubleWork;
+    private String[] stringWork;
+
+    /**
+     * Obtém o código do algoritmo medido (o mesmo do argumento "a").
+     *
+     * @return O código do algoritmo.
+     */
+    protected abstract String algorithmCode();
+
+    /**
+     * Obtém o tamanho da entrada medida.
+     *
+     * @return O tamanho do array.
+     */
+    protected abstract int size();
+
+    @Setup
+    public void setUp() {
+        algorithm = SortAlgorithms.create(algorithmCode(), SortAlgorithms.DEFAULT_CUTOFF);
+        switch (type) {
+            case "n":
+                intInput = shape.ints(size());
+                intWork = new int[intInput.length];
+                break;
+            case "c":
+                charInput = shape.chars(size());
+                charWork = new char[charInput.length];
+                break;
+            case "l":
+                longInput = shape.longs(size());
+                longWork = new long[longInput.length];
+                break;
+            case "d":
+                doubleInput = shape.doubles(size());
+                doubleWork = new double[doubleInput.length];
+                break;
+            default:
+                stringInput = shape.strings(size());
+                stringWork = new String[stringInput.length];
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object sort() {
+        if (intInput != null) {
+            System.arraycopy(intInput, 0, intWork, 0, intInput.length);
+            algorithm.sort(intWork, SortOrder.AZ, metrics);
+            return intWork;
+        }
+        if (charInput != null) {
+            System.arraycopy(charInput, 0, charWork, 0, charInput.length);
+            algorithm.sort(charWork, SortOrder.AZ, metrics);
+            return charWork;
+        }
+        if (longInput != null) {
+            System.arraycopy(longInput, 0, longWork, 0, longInput.length);
+            algorithm.sort(longWork, SortOrder.AZ, metrics);
+            return longWork;
+        }
+        if (doubleInput != null) {
+            System.arraycopy(doubleInput, 0, doubleWork, 0, doubleInput.length);
+            algorithm.sort(doubleWork, SortOrder.AZ, metrics);
+            return doubleWork;
+        }
+        System.arraycopy(stringInput, 0, stringWork, 0, stringInput.length);
+        algorithm.sort(stringWork, SortOrder.AZ, metrics);
+        return stringWork;
+    }
+}
@@ -0,0 +1,48 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Ponto de entrada do jar de benchmarks.
+ *
+ * Aceita as mesmas opções de linha de comando do JMH (por exemplo, {@code -p size=1000} ou um filtro
+ * de nomes) e sempre adiciona o profiler de GC, para que a taxa de alocação apareça nos resultados.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Executa os benchmarks selecionados.
+     *
+     * @param args Opções de linha de comando do JMH.
+     * @throws RunnerException            Se a execução dos benchmarks falhar.
+     * @throws CommandLineOptionException Se alguma opção for inválida.
+     * @throws IOException                Se a ajuda não puder ser exibida.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include("Benchmarks\\..*Benchmark");
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package Benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Formatos de entrada usados nos benchmarks.
+ *
+ * Os dados são gerados com semente fixa, para que execuções diferentes meçam exatamente a mesma entrada.
+ */
+public enum InputShape {
+    RANDOM,
+    SORTED,
+    REVERSED,
+    FEW_UNIQUE;
+
+    private static final long SEED = 42L;
+
+    /**
+     * Quantidade de valores distintos no formato {@link #FEW_UNIQUE}.
+     */
+    private static final int FEW_UNIQUE_KEYS = 8;
+
+    /**
+     * Gera um array de inteiros neste formato.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public int[] ints(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] values = new int[size];
+        if (this == FEW_UNIQUE) {
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(FEW_UNIQUE_KEYS) * 1000;
+            }
+            return values;
+        }
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        arrange(values);
+        return values;
+    }
+
+    /**
+     * Gera um array de caracteres neste formato, com letras de 'A' a 'Z' como o ArgumentProcessor.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public char[] chars(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int keys = this == FEW_UNIQUE ? FEW_UNIQUE_KEYS : 26;
+        char[] values = new char[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (char) ('A' + random.nextInt(keys));
+        }
+        if (this == SORTED || this == REVERSED) {
+            Arrays.sort(values);
+            if (this == REVERSED) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    char temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gera um array de longs neste formato.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public long[] longs(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = this == FEW_UNIQUE ? random.nextInt(FEW_UNIQUE_KEYS) * 1000L : random.nextLong();
+        }
+        if (this == SORTED || this == REVERSED) {
+            Arrays.sort(values);
+            if (this == REVERSED) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    long temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gera um array de doubles neste formato, no intervalo de -1000 a 1000 como o ArgumentProcessor.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public double[] doubles(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = this == FEW_UNIQUE ? random.nextInt(FEW_UNIQUE_KEYS) * 0.5 : random.nextDouble() * 2000 - 1000;
+        }
+        if (this == SORTED || this == REVERSED) {
+            Arrays.sort(values);
+            if (this == REVERSED) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    double temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gera um array de strings neste formato, com palavras de 1 a 8 letras minúsculas como o ArgumentProcessor.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public String[] strings(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] keys = new String[FEW_UNIQUE_KEYS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = word(random);
+        }
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = this == FEW_UNIQUE ? keys[random.nextInt(keys.length)] : word(random);
+        }
+        if (this == SORTED || this == REVERSED) {
+            //Apenas letras ASCII, então a ordem de String é a mesma dos bytes UTF-8
+            Arrays.sort(values);
+            if (this == REVERSED) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    String temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String word(SplittableRandom random) {
+        char[] letters = new char[1 + random.nextInt(8)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Ordena ou inverte os valores aleatórios conforme o formato.
+     */
+    private void arrange(int[] values) {
+        if (this == SORTED || this == REVERSED) {
+            Arrays.sort(values);
+            if (this == REVERSED) {
+                for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                    int temp = values[i];
+                    values[i] = values[j];
+                    values[j] = temp;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks dos algoritmos O(n²). Os tamanhos param em 1e4, pois acima disso uma única
+ * invocação levaria minutos.
+ */
+@State(Scope.Thread)
+public class QuadraticSortBenchmark extends AbstractSortBenchmark {
+
+    @Param({"b", "i", "s"})
+    public String algorithm;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Override
+    protected String algorithmCode() {
+        return algorithm;
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+}
@@ -0,0 +1,30 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks dos algoritmos O(n log n) (inclusive o Quick Sort em três vias, para as entradas com poucas chaves
+ * distintas), da ordenação híbrida, dos lineares (Counting e Radix Sort) e da escolha automática, de 1e2 a 1e7
+ * elementos; a análise da amostra feita pela escolha automática entra no tempo medido.
+ */
+@State(Scope.Thread)
+public class SortBenchmark extends AbstractSortBenchmark {
+
+    @Param({"m", "q", "t", "c", "r", "h", "auto"})
+    public String algorithm;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Override
+    protected String algorithmCode() {
+        return algorithm;
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+}
@@ -1,3 +1,10 @@
+import Headless.ExportRunner;
+import Headless.ExternalRunner;
+import Headless.HeadlessRunner;
+import Headless.ServiceRunner;
+import Panel.ActiveRenderer;
+import Panel.RacePanel;
+import Panel.SegmentPanel;
 import Panel.SortingPanel;
 import TratamentoArgs.ArgumentProcessor;
 import javax.swing.*;
@@ -6,7 +13,11 @@ import javax.swing.*;
  * A classe principal para iniciar a aplicação de visualização de algoritmos de ordenação.
  *
  * Esta classe inicializa o processador de argumentos, configura o painel de ordenação,
- * e exibe a interface gráfica do usuário (GUI) com o painel de ordenação.
+ * e exibe a interface gráfica do usuário (GUI) com o painel de ordenação. Com "mode=headless",
+ * a ordenação é executada sem interface gráfica e o resultado é escrito na saída padrão; com
+ * "mode=external", um arquivo binário é ordenado em outro arquivo por intercalação de blocos; com
+ * "mode=export", a animação da ordenação é gravada em imagens, também sem interface gráfica; com
+ * "mode=serve", a aplicação vira um serviço HTTP local que ordena os arrays recebidos.
  *
  * <p>Nome: Bruno Ricardo da Silva Reis</p>
  * <p>Versão do Java: 22</p>
@@ -26,32 +37,111 @@ public class Algorithm {
             //Inicializa o ArgumentProcessor com os argumentos da linha de comando
             ArgumentProcessor processor = new ArgumentProcessor(args);
 
+            if (processor.isExternal()) {
+                //Ordena de arquivo para arquivo, sem carregar os dados e sem interface gráfica
+                System.setProperty("java.awt.headless", "true");
+                new ExternalRunner(processor).run(System.out);
+                return;
+            }
+
+            if (processor.isHeadless()) {
+                //Executa sem interface gráfica, sem inicializar o AWT
+                System.setProperty("java.awt.headless", "true");
+                new HeadlessRunner(processor).run(System.out);
+                return;
+            }
+
+            if (processor.isService()) {
+                //Atende requisições até o processo ser encerrado
+                System.setProperty("java.awt.headless", "true");
+                new ServiceRunner(processor).run(System.out);
+                return;
+            }
+
+            if (processor.isExport()) {
+                //Desenha os quadros em imagens, sem janela
+                System.setProperty("java.awt.headless", "true");
+                new ExportRunner(processor).run(System.out);
+                return;
+            }
+
+            startGui(processor);
+        } catch (Exception e) {
+            //Exibe qualquer exceção que ocorra durante a inicialização
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Cria o painel de ordenação, inicia a ordenação e exibe a janela. Com "render=active", o painel é
+     * desenhado por um {@link ActiveRenderer}, iniciado depois que a janela estiver visível.
+     *
+     * @param processor Os argumentos da linha de comando já processados.
+     */
+    private static void startGui(ArgumentProcessor processor) {
+        JPanel panel;
+        Runnable start;
+        if (processor.isOffHeap()) {
+            //Desenha amostras lidas direto da memória nativa ou do arquivo mapeado
+            SegmentPanel segmentPanel = new SegmentPanel();
+            segmentPanel.setData(
+                    processor.getIntSegment(),
+                    processor.getAlgorithm(),
+                    processor.getOrder(),
+                    processor.getCutoff()
+            );
+            start = segmentPanel::startSorting;
+            panel = segmentPanel;
+        } else if (processor.isRace()) {
+            //Cria um painel por algoritmo, todos reproduzidos pelo mesmo Timer
+            RacePanel racePanel = new RacePanel();
+            racePanel.setData(
+                    processor.getData(),
+                    processor.getAlgorithms(),
+                    processor.getOrder(),
+                    processor.getLabelType(),
+                    processor.getPause(),
+                    processor.getCutoff(),
+                    processor.getTopK()
+            );
+            start = racePanel::startRacing;
+            panel = racePanel;
+        } else {
             //Cria e configura o painel
-            SortingPanel panel = new SortingPanel();
-            panel.setData(
+            SortingPanel sortingPanel = new SortingPanel();
+            sortingPanel.setData(
                     processor.getData(),
                     processor.getAlgorithm(),
                     processor.getOrder(),
                     processor.getLabelType(),
-                    processor.getPause()
+                    processor.getPause(),
+                    processor.getCutoff(),
+                    processor.getTopK()
             );
+            start = sortingPanel::startSorting;
+            panel = sortingPanel;
+        }
 
-            //Inicia a ordenação no painel
-            panel.startSorting();
-
-            //Configura a interface gráfica
-            JFrame frame = new JFrame("Visualização do Algoritmo");
-            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        //Configura a interface gráfica
+        JFrame frame = new JFrame("Visualização do Algoritmo");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
-            //Define o tamanho do frame com base no tamanho especificado pelo ArgumentProcessor
-            int size = Math.max(processor.getSize(), 900); //Define um tamanho padrão se o valor for inválido
-            frame.setSize(size, size);
+        //Define o tamanho do frame com base no tamanho especificado pelo ArgumentProcessor
+        int size = Math.max(processor.getSize(), 900); //Define um tamanho padrão se o valor for inválido
+        frame.setSize(size, size);
+        if (processor.isActiveRendering()) {
+            //Uma thread própria desenha os quadros direto nos buffers da janela
+            ActiveRenderer renderer = new ActiveRenderer(panel, processor.getFramesPerSecond());
+            frame.add(renderer);
+            frame.pack();
+            frame.setVisible(true);
+            renderer.start();
+        } else {
+            //Inicia a ordenação no painel
+            start.run();
             frame.add(panel);
             frame.pack();
             frame.setVisible(true);
-        } catch (Exception e) {
-            //Exibe qualquer exceção que ocorra durante a inicialização
-            e.printStackTrace();
         }
     }
 }
@@ -0,0 +1,604 @@
+package Data;
+
+import OffHeap.IntSegment;
+import OffHeap.SegmentSort;
+import Sorts.CountingSort;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gera arrays primitivos de dados de entrada, em paralelo e de forma reproduzível.
+ *
+ * O array é dividido recursivamente em blocos de {@link #BLOCK_SIZE} elementos, e cada divisão entrega
+ * à metade esquerda um {@link SplittableRandom} separado do da metade direita. Como a divisão depende apenas
+ * do tamanho do array, a mesma semente gera sempre os mesmos dados, qualquer que seja a quantidade de
+ * threads do {@link ForkJoinPool}. As distribuições de ordem ({@link Distribution#SORTED} e as seguintes)
+ * ordenam os valores sorteados e depois os rearranjam: os inteiros pelo {@link CountingSort} (que passa ao
+ * Radix Sort paralelo nos intervalos grandes), os demais tipos com {@link Arrays#parallelSort}. Os dentes de
+ * {@link Distribution#SAWTOOTH} são pequenos e são ordenados um a um.
+ *
+ * Os valores inteiros são sorteados como longs no intervalo pedido; os doubles são sorteados como inteiros
+ * de 53 bits e convertidos para o intervalo, o que preserva a ordem; as strings são palavras de 1 a 8 letras
+ * derivadas de uma chave sorteada, de modo que chaves repetidas (em {@link Distribution#ZIPF}, por exemplo)
+ * geram palavras repetidas.
+ */
+public final class DataGenerator {
+
+    /**
+     * Quantidade de elementos preenchidos sequencialmente por uma tarefa.
+     */
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Quantidade máxima de valores distintos em {@link Distribution#ZIPF}.
+     */
+    private static final int ZIPF_VALUES = 1 << 16;
+
+    /**
+     * Quantidade de valores distintos em {@link Distribution#FEW_UNIQUE}.
+     */
+    private static final int FEW_UNIQUE_VALUES = 8;
+
+    /**
+     * Multiplicador ímpar que espalha os postos de Zipf entre os valores (uma permutação módulo potências de dois).
+     */
+    private static final int ZIPF_SPREAD = 0x9E3779B1;
+
+    /**
+     * Maior chave dos doubles: os valores são sorteados entre 0 e 2^53 - 1 antes da conversão.
+     */
+    private static final long DOUBLE_KEYS = (1L << 53) - 1;
+
+    /**
+     * Maior chave das strings.
+     */
+    private static final long WORD_KEYS = (1L << 40) - 1;
+
+    private final Distribution distribution;
+    private final long seed;
+    private final int swaps;
+
+    /**
+     * Valores sorteados a partir de um gerador.
+     */
+    private interface Sampler {
+        long next(SplittableRandom random);
+    }
+
+    /**
+     * Preenchimento de um bloco [from, to) do array com um gerador próprio.
+     */
+    private interface BlockFiller {
+        void fill(long from, long to, SplittableRandom random);
+    }
+
+    /**
+     * Rearranjo de um array já preenchido, independente do tipo dos elementos.
+     */
+    private interface Arrangement {
+        void sort(long from, long to);
+
+        void swap(long i, long j);
+    }
+
+    /**
+     * Cria o gerador. Em {@link Distribution#NEARLY_SORTED}, 1% dos elementos (ao menos um) são trocados.
+     *
+     * @param distribution A distribuição dos dados.
+     * @param seed         A semente; a mesma semente gera sempre os mesmos dados.
+     */
+    public DataGenerator(Distribution distribution, long seed) {
+        this(distribution, seed, -1);
+    }
+
+    /**
+     * Cria o gerador com a quantidade de trocas de {@link Distribution#NEARLY_SORTED}.
+     *
+     * @param distribution A distribuição dos dados.
+     * @param seed         A semente; a mesma semente gera sempre os mesmos dados.
+     * @param swaps        A quantidade de trocas entre posições sorteadas, ou -1 para 1% do tamanho.
+     * @throws IllegalArgumentException Se a quantidade de trocas for menor que -1.
+     */
+    public DataGenerator(Distribution distribution, long seed, int swaps) {
+        if (swaps < -1) {
+            throw new IllegalArgumentException("A quantidade de trocas não pode ser negativa.");
+        }
+        this.distribution = distribution;
+        this.seed = seed;
+        this.swaps = swaps;
+    }
+
+    /**
+     * Gera um array de inteiros no intervalo [min, max].
+     *
+     * @param size O tamanho do array.
+     * @param min  O menor valor possível.
+     * @param max  O maior valor possível.
+     * @return O array gerado.
+     */
+    public int[] ints(int size, int min, int max) {
+        int[] values = new int[size];
+        Sampler sampler = sampler(min, max);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            for (int i = (int) from; i < to; i++) {
+                values[i] = (int) sampler.next(r);
+            }
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                if (from == 0 && to == size) {
+                    new CountingSort().sort(values, SortOrder.AZ, new SortMetrics());
+                } else {
+                    Arrays.sort(values, (int) from, (int) to);
+                }
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                int temp = values[(int) i];
+                values[(int) i] = values[(int) j];
+                values[(int) j] = temp;
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Preenche um array fora do heap com inteiros no intervalo [min, max]. Os blocos e os geradores são os
+     * mesmos de {@link #ints(int, int, int)}, então, até o tamanho máximo de um array do heap, a mesma
+     * semente gera os mesmos valores nos dois.
+     *
+     * @param target O array a preencher, de qualquer tamanho.
+     * @param min    O menor valor possível.
+     * @param max    O maior valor possível.
+     */
+    public void ints(IntSegment target, int min, int max) {
+        long size = target.length();
+        Sampler sampler = sampler(min, max);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            //Cada bloco é sorteado no heap e copiado para o segmento de uma vez
+            int[] block = new int[(int) (to - from)];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = (int) sampler.next(r);
+            }
+            target.copyFrom(block, 0, from, block.length);
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                if (from == 0 && to == size) {
+                    new SegmentSort(new CountingSort()).sort(target, SortOrder.AZ, new SortMetrics());
+                } else {
+                    int[] tooth = new int[(int) (to - from)];
+                    target.copyTo(from, tooth, 0, tooth.length);
+                    Arrays.sort(tooth);
+                    target.copyFrom(tooth, 0, from, tooth.length);
+                }
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                int temp = target.get(i);
+                target.set(i, target.get(j));
+                target.set(j, temp);
+            }
+        });
+    }
+
+    /**
+     * Gera um array de caracteres no intervalo [min, max].
+     *
+     * @param size O tamanho do array.
+     * @param min  O menor caractere possível.
+     * @param max  O maior caractere possível.
+     * @return O array gerado.
+     */
+    public char[] chars(int size, char min, char max) {
+        char[] values = new char[size];
+        Sampler sampler = sampler(min, max);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            for (int i = (int) from; i < to; i++) {
+                values[i] = (char) sampler.next(r);
+            }
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                if (from == 0 && to == size) {
+                    new CountingSort().sort(values, SortOrder.AZ, new SortMetrics());
+                } else {
+                    Arrays.sort(values, (int) from, (int) to);
+                }
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                char temp = values[(int) i];
+                values[(int) i] = values[(int) j];
+                values[(int) j] = temp;
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Gera um array de longs no intervalo [min, max].
+     *
+     * @param size O tamanho do array.
+     * @param min  O menor valor possível.
+     * @param max  O maior valor possível.
+     * @return O array gerado.
+     */
+    public long[] longs(int size, long min, long max) {
+        long[] values = new long[size];
+        Sampler sampler = sampler(min, max);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            for (int i = (int) from; i < to; i++) {
+                values[i] = sampler.next(r);
+            }
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                if (from == 0 && to == size) {
+                    new CountingSort().sort(values, SortOrder.AZ, new SortMetrics());
+                } else {
+                    Arrays.sort(values, (int) from, (int) to);
+                }
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                long temp = values[(int) i];
+                values[(int) i] = values[(int) j];
+                values[(int) j] = temp;
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Gera um array de doubles no intervalo [min, max).
+     *
+     * @param size O tamanho do array.
+     * @param min  O menor valor possível.
+     * @param max  O limite superior, exclusivo.
+     * @return O array gerado.
+     */
+    public double[] doubles(int size, double min, double max) {
+        double[] values = new double[size];
+        Sampler sampler = sampler(0, DOUBLE_KEYS);
+        double scale = (max - min) / (DOUBLE_KEYS + 1.0);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            for (int i = (int) from; i < to; i++) {
+                values[i] = min + sampler.next(r) * scale;
+            }
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                Arrays.parallelSort(values, (int) from, (int) to);
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                double temp = values[(int) i];
+                values[(int) i] = values[(int) j];
+                values[(int) j] = temp;
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Gera um array de palavras de 1 a 8 letras minúsculas.
+     *
+     * @param size O tamanho do array.
+     * @return O array gerado.
+     */
+    public String[] strings(int size) {
+        String[] values = new String[size];
+        Sampler sampler = sampler(0, WORD_KEYS);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom arrangeRandom = random.split();
+        fill(size, random, (from, to, r) -> {
+            char[] word = new char[8];
+            for (int i = (int) from; i < to; i++) {
+                values[i] = word(sampler.next(r), word);
+            }
+        });
+        arrange(size, arrangeRandom, new Arrangement() {
+            @Override
+            public void sort(long from, long to) {
+                //Apenas letras ASCII, então a ordem de String é a mesma dos bytes UTF-8
+                Arrays.parallelSort(values, (int) from, (int) to);
+            }
+
+            @Override
+            public void swap(long i, long j) {
+                String temp = values[(int) i];
+                values[(int) i] = values[(int) j];
+                values[(int) j] = temp;
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Cria o sorteio dos valores do intervalo [min, max] conforme a distribuição.
+     * As distribuições de ordem sorteiam valores uniformes.
+     */
+    private Sampler sampler(long min, long max) {
+        //A diferença é tratada sem sinal, então cobre até o intervalo inteiro dos longs
+        long span = max - min;
+        switch (distribution) {
+            case GAUSSIAN: {
+                double mean = min / 2.0 + max / 2.0;
+                double deviation = (max / 2.0 - min / 2.0) / 3;
+                return random -> Math.max(min, Math.min(max, Math.round(mean + deviation * random.nextGaussian())));
+            }
+            case ZIPF: {
+                int count = Long.compareUnsigned(span, ZIPF_VALUES - 1) >= 0 ? ZIPF_VALUES : (int) span + 1;
+                count = Integer.highestOneBit(count);
+                AliasTable ranks = zipfRanks(count);
+                long[] values = evenlySpaced(min, span, count);
+                int mask = count - 1;
+                return random -> values[(ranks.sample(random) * ZIPF_SPREAD) & mask];
+            }
+            case FEW_UNIQUE: {
+                long[] values = evenlySpaced(min, span, FEW_UNIQUE_VALUES);
+                return random -> values[random.nextInt(FEW_UNIQUE_VALUES)];
+            }
+            default:
+                if (span == -1) {
+                    return SplittableRandom::nextLong;
+                } else if (span >= 0 && span < Long.MAX_VALUE) {
+                    return random -> min + random.nextLong(span + 1);
+                } else {
+                    //Intervalo maior que a metade dos longs: sorteia em todo o intervalo e descarta o que sobra
+                    return random -> {
+                        long value;
+                        do {
+                            value = random.nextLong();
+                        } while (Long.compareUnsigned(value - min, span) > 0);
+                        return value;
+                    };
+                }
+        }
+    }
+
+    /**
+     * Calcula count valores igualmente espaçados de min a min + span, com a diferença tratada sem sinal.
+     * O deslocamento de cada valor é calculado pelo quociente e pelo resto, sem estourar nem no intervalo
+     * inteiro dos longs.
+     */
+    private static long[] evenlySpaced(long min, long span, int count) {
+        long[] values = new long[count];
+        if (count == 1) {
+            values[0] = min;
+            return values;
+        }
+        long quotient = Long.divideUnsigned(span, count - 1);
+        long remainder = Long.remainderUnsigned(span, count - 1);
+        for (int k = 0; k < count; k++) {
+            values[k] = min + k * quotient + k * remainder / (count - 1);
+        }
+        return values;
+    }
+
+    /**
+     * Cria a tabela de sorteio dos postos de Zipf com expoente 1: o posto k (a partir de zero) tem peso 1/(k + 1).
+     */
+    private static AliasTable zipfRanks(int count) {
+        double[] weights = new double[count];
+        for (int k = 0; k < count; k++) {
+            weights[k] = 1.0 / (k + 1);
+        }
+        return new AliasTable(weights);
+    }
+
+    /**
+     * Converte uma chave em uma palavra de 1 a 8 letras minúsculas, sempre a mesma para a mesma chave.
+     */
+    private static String word(long key, char[] word) {
+        //Mistura os bits da chave (finalizador do MurmurHash3) para que chaves vizinhas gerem palavras diferentes
+        long h = key;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        int length = 1 + (int) (h & 7);
+        h >>>= 3;
+        for (int i = 0; i < length; i++) {
+            word[i] = (char) ('a' + h % 26);
+            h /= 26;
+        }
+        return new String(word, 0, length);
+    }
+
+    /**
+     * Preenche o array em paralelo, com um gerador separado para cada bloco.
+     */
+    private static void fill(long size, SplittableRandom random, BlockFiller filler) {
+        if (size <= BLOCK_SIZE) {
+            filler.fill(0, size, random);
+        } else {
+            ForkJoinPool.commonPool().invoke(new FillTask(0, size, random, filler));
+        }
+    }
+
+    /**
+     * Rearranja os valores sorteados conforme a distribuição de ordem.
+     */
+    private void arrange(long size, SplittableRandom random, Arrangement arrangement) {
+        switch (distribution) {
+            case SORTED:
+                arrangement.sort(0, size);
+                break;
+            case REVERSED:
+                arrangement.sort(0, size);
+                for (long i = 0, j = size - 1; i < j; i++, j--) {
+                    arrangement.swap(i, j);
+                }
+                break;
+            case NEARLY_SORTED:
+                arrangement.sort(0, size);
+                long count = swaps >= 0 ? swaps : Math.max(1, size / 100);
+                for (long k = 0; k < count && size > 1; k++) {
+                    arrangement.swap(index(random, size), index(random, size));
+                }
+                break;
+            case SAWTOOTH:
+                long tooth = Math.max(2, (long) Math.ceil(Math.sqrt(size)));
+                long teeth = (size + tooth - 1) / tooth;
+                ForkJoinPool.commonPool().invoke(new SortTeethTask(0, teeth, tooth, size, arrangement));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Sorteia uma posição de [0, size). Os tamanhos que cabem em um int continuam sorteados com
+     * {@link SplittableRandom#nextInt(int)}, então os arrays do heap recebem as mesmas trocas de sempre.
+     */
+    private static long index(SplittableRandom random, long size) {
+        return size <= Integer.MAX_VALUE ? random.nextInt((int) size) : random.nextLong(size);
+    }
+
+    /**
+     * Tarefa que ordena os dentes [from, to) de {@link Distribution#SAWTOOTH}, cada um com {@code tooth} elementos
+     * (o último pode ter menos), dividindo-os entre tarefas paralelas. Os dentes não se sobrepõem.
+     */
+    private static final class SortTeethTask extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private final long tooth;
+        private final long size;
+        private final Arrangement arrangement;
+
+        SortTeethTask(long from, long to, long tooth, long size, Arrangement arrangement) {
+            this.from = from;
+            this.to = to;
+            this.tooth = tooth;
+            this.size = size;
+            this.arrangement = arrangement;
+        }
+
+        @Override
+        protected void compute() {
+            //Cada dente tem cerca de raiz de n elementos, então poucos dentes já formam uma tarefa de bom tamanho
+            if ((to - from) * tooth <= BLOCK_SIZE || to - from == 1) {
+                for (long t = from; t < to; t++) {
+                    long start = t * tooth;
+                    arrangement.sort(start, Math.min(size, start + tooth));
+                }
+                return;
+            }
+            long mid = (from + to) >>> 1;
+            invokeAll(new SortTeethTask(from, mid, tooth, size, arrangement),
+                    new SortTeethTask(mid, to, tooth, size, arrangement));
+        }
+    }
+
+    /**
+     * Tabela de alias (método de Vose) para sortear índices com pesos arbitrários em tempo constante: cada
+     * coluna da tabela tem a mesma probabilidade e guarda o seu próprio índice e, no espaço que sobra, um alias.
+     */
+    private static final class AliasTable {
+        private final double[] probability;
+        private final int[] alias;
+
+        AliasTable(double[] weights) {
+            int count = weights.length;
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            probability = new double[count];
+            alias = new int[count];
+            double[] scaled = new double[count];
+            int[] small = new int[count];
+            int[] large = new int[count];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int k = 0; k < count; k++) {
+                scaled[k] = weights[k] * count / total;
+                if (scaled[k] < 1) {
+                    small[smallCount++] = k;
+                } else {
+                    large[largeCount++] = k;
+                }
+            }
+            //Cada coluna pequena é completada por uma grande, que perde o que cedeu
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] += scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            //O que sobra tem peso 1, a menos de erros de arredondamento
+            while (largeCount > 0) {
+                probability[large[--largeCount]] = 1;
+            }
+            while (smallCount > 0) {
+                probability[small[--smallCount]] = 1;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int column = random.nextInt(probability.length);
+            return random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+
+    /**
+     * Tarefa que preenche o intervalo [from, to), dividindo-o enquanto ele tiver mais de {@link #BLOCK_SIZE} elementos.
+     * O gerador da metade esquerda é separado do da direita antes de qualquer tarefa rodar, então o gerador
+     * de cada bloco depende apenas da semente e da posição do bloco.
+     */
+    private static final class FillTask extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private final SplittableRandom random;
+        private final BlockFiller filler;
+
+        FillTask(long from, long to, SplittableRandom random, BlockFiller filler) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.filler = filler;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK_SIZE) {
+                filler.fill(from, to, random);
+                return;
+            }
+            long mid = (from + to) >>> 1;
+            invokeAll(new FillTask(from, mid, random.split(), filler), new FillTask(mid, to, random, filler));
+        }
+    }
+}
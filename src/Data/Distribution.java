@@ -0,0 +1,83 @@
+package Data;
+
+/**
+ * Distribuições dos dados gerados pelo {@link DataGenerator}, identificadas pelo código do argumento "dist".
+ *
+ * As quatro primeiras definem como os valores são sorteados; as demais sorteiam valores uniformes
+ * e definem a ordem em que eles aparecem no array.
+ */
+public enum Distribution {
+
+    /**
+     * Valores uniformes no intervalo.
+     */
+    UNIFORM("uniform"),
+
+    /**
+     * Valores normais, com a média no centro do intervalo e três desvios-padrão até cada extremo (os raros
+     * valores mais distantes ficam nos extremos).
+     */
+    GAUSSIAN("gaussian"),
+
+    /**
+     * Valores de Zipf: o k-ésimo valor mais frequente aparece com probabilidade proporcional a 1/k.
+     * Os valores frequentes ficam espalhados pelo intervalo, não concentrados em uma das pontas.
+     */
+    ZIPF("zipf"),
+
+    /**
+     * Poucos valores distintos, igualmente espaçados no intervalo.
+     */
+    FEW_UNIQUE("few"),
+
+    /**
+     * Valores uniformes em ordem crescente.
+     */
+    SORTED("sorted"),
+
+    /**
+     * Valores uniformes em ordem decrescente.
+     */
+    REVERSED("reversed"),
+
+    /**
+     * Valores uniformes em ordem crescente, seguidos de trocas entre posições sorteadas.
+     */
+    NEARLY_SORTED("nearly"),
+
+    /**
+     * Valores uniformes em sequências crescentes de cerca de raiz de n elementos cada.
+     */
+    SAWTOOTH("sawtooth");
+
+    private final String code;
+
+    Distribution(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Obtém o código da distribuição usado na linha de comando.
+     *
+     * @return O código.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Obtém a distribuição correspondente a um código da linha de comando.
+     *
+     * @param code O código ("uniform", "gaussian", "zipf", "few", "sorted", "reversed", "nearly" ou "sawtooth").
+     * @return A distribuição.
+     * @throws IllegalArgumentException Se o código não corresponder a nenhuma distribuição.
+     */
+    public static Distribution fromCode(String code) {
+        for (Distribution distribution : values()) {
+            if (distribution.code.equalsIgnoreCase(code)) {
+                return distribution;
+            }
+        }
+        throw new IllegalArgumentException("Distribuição não suportada: " + code);
+    }
+}
@@ -0,0 +1,277 @@
+package Export;
+
+import Panel.FrameRenderer;
+import Trace.KeyframeRecorder.Keyframe;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOInvalidTreeException;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Desenha os quadros gravados por um {@link Trace.KeyframeRecorder} e os grava como uma sequência de PNGs
+ * ou como um GIF animado, sem tela.
+ *
+ * Cada quadro é independente dos demais, então os quadros são desenhados em paralelo, um por thread.
+ * Na sequência de PNGs, cada thread também codifica e grava o seu quadro. No GIF, a codificação é
+ * sequencial: as threads desenham os quadros à frente enquanto o anterior é gravado, e no máximo
+ * algumas imagens por thread ficam na memória ao mesmo tempo.
+ */
+public class AnimationExporter {
+
+    /**
+     * Quantidade padrão de quadros da animação.
+     */
+    public static final int DEFAULT_FRAME_COUNT = 300;
+
+    /**
+     * Quantidade padrão de quadros por segundo do GIF (quatro centésimos de segundo por quadro).
+     */
+    public static final int DEFAULT_FRAMES_PER_SECOND = 25;
+
+    /**
+     * Quantidade de quadros desenhados à frente do que está sendo gravado, por thread.
+     */
+    private static final int FRAMES_AHEAD_PER_THREAD = 2;
+
+    private final FrameRenderer renderer;
+    private final String title;
+    private final int framesPerSecond;
+    private final int threads;
+
+    /**
+     * Cria o exportador.
+     *
+     * @param renderer        O desenhista dos quadros.
+     * @param title           O texto exibido antes da contagem de operações em cada quadro.
+     * @param framesPerSecond A quantidade de quadros por segundo do GIF.
+     * @param threads         A quantidade de threads que desenham os quadros.
+     * @throws IllegalArgumentException Se a quantidade de quadros por segundo ou de threads não for positiva.
+     */
+    public AnimationExporter(FrameRenderer renderer, String title, int framesPerSecond, int threads) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("A quantidade de quadros por segundo tem que ser maior que zero.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("A quantidade de threads tem que ser maior que zero.");
+        }
+        this.renderer = renderer;
+        this.title = title;
+        this.framesPerSecond = framesPerSecond;
+        this.threads = threads;
+    }
+
+    /**
+     * Indica se o destino é um GIF animado, pela extensão ".gif"; qualquer outro destino é um diretório de PNGs.
+     *
+     * @param output O destino.
+     * @return true se os quadros devem ser gravados como um GIF animado.
+     */
+    public static boolean isGif(Path output) {
+        return output.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gif");
+    }
+
+    /**
+     * Desenha e grava os quadros: em um GIF animado se o destino terminar em ".gif", ou em um diretório,
+     * criado se preciso, com um arquivo "frame-00000.png" por quadro.
+     *
+     * @param frames Os quadros, em ordem.
+     * @param output O destino.
+     * @throws IOException Se a gravação falhar.
+     */
+    public void export(List<Keyframe> frames, Path output) throws IOException {
+        if (isGif(output)) {
+            Path parent = output.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            exportGif(frames, output);
+        } else {
+            Files.createDirectories(output);
+            exportPng(frames, output);
+        }
+    }
+
+    /**
+     * Desenha e grava cada quadro em um PNG próprio, em paralelo.
+     */
+    private void exportPng(List<Keyframe> frames, Path directory) throws IOException {
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            Deque<Future<?>> pending = new ArrayDeque<>();
+            try {
+                for (int i = 0; i < frames.size(); i++) {
+                    int index = i;
+                    pending.add(pool.submit(() -> {
+                        BufferedImage image = render(frames, index);
+                        Path file = directory.resolve(String.format("frame-%05d.png", index));
+                        if (!ImageIO.write(image, "png", file.toFile())) {
+                            throw new IOException("Nenhum codificador de PNG disponível.");
+                        }
+                        return null;
+                    }));
+                    if (pending.size() > threads * FRAMES_AHEAD_PER_THREAD) {
+                        await(pending.poll());
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    await(pending.poll());
+                }
+            } finally {
+                cancel(pending);
+            }
+        }
+    }
+
+    /**
+     * Desenha os quadros em paralelo e os grava em ordem em um GIF animado que se repete indefinidamente.
+     */
+    private void exportGif(List<Keyframe> frames, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        Files.deleteIfExists(file); //O fluxo de imagem não trunca um arquivo existente
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads);
+             ImageOutputStream stream = ImageIO.createImageOutputStream(file.toFile())) {
+            if (stream == null) {
+                throw new IOException("Não foi possível criar o arquivo: " + file);
+            }
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            Deque<Future<BufferedImage>> pending = new ArrayDeque<>();
+            try {
+                int next = 0;
+                for (int written = 0; written < frames.size(); written++) {
+                    //Mantém as threads ocupadas com os quadros seguintes enquanto este é codificado
+                    while (next < frames.size() && pending.size() < threads * FRAMES_AHEAD_PER_THREAD) {
+                        int index = next++;
+                        pending.add(pool.submit(() -> render(frames, index)));
+                    }
+                    BufferedImage image = await(pending.poll());
+                    IIOMetadata metadata = gifMetadata(writer, param, image, written == 0);
+                    writer.writeToSequence(new IIOImage(image, null, metadata), param);
+                }
+            } finally {
+                cancel(pending);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Desenha um quadro com a contagem de operações e a posição do quadro na animação.
+     */
+    private BufferedImage render(List<Keyframe> frames, int index) {
+        Keyframe frame = frames.get(index);
+        String caption = String.format("%s  Operações: %,d  Quadro %d de %d",
+                title, frame.getOperations(), index + 1, frames.size());
+        return renderer.render(frame.getIds(), frame.getComparedFirst(), frame.getComparedSecond(), caption);
+    }
+
+    /**
+     * Monta os metadados de um quadro do GIF: o tempo de exibição, a paleta da imagem e, no primeiro quadro,
+     * a repetição infinita (extensão NETSCAPE2.0).
+     */
+    private IIOMetadata gifMetadata(ImageWriter writer, ImageWriteParam param, BufferedImage image, boolean first)
+            throws IIOInvalidTreeException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), param);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        //O GIF mede o tempo de cada quadro em centésimos de segundo
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Integer.toString(Math.max(1, Math.round(100f / framesPerSecond))));
+        control.setAttribute("transparentColorIndex", "0");
+
+        //A tabela local padrão é a paleta genérica do codificador, e não a da imagem
+        IndexColorModel palette = (IndexColorModel) image.getColorModel();
+        root.removeChild(child(root, "LocalColorTable"));
+        IIOMetadataNode table = child(root, "LocalColorTable");
+        table.setAttribute("sizeOfLocalColorTable", Integer.toString(palette.getMapSize()));
+        table.setAttribute("sortFlag", "FALSE");
+        for (int i = 0; i < palette.getMapSize(); i++) {
+            IIOMetadataNode entry = new IIOMetadataNode("ColorTableEntry");
+            entry.setAttribute("index", Integer.toString(i));
+            entry.setAttribute("red", Integer.toString(palette.getRed(i)));
+            entry.setAttribute("green", Integer.toString(palette.getGreen(i)));
+            entry.setAttribute("blue", Integer.toString(palette.getBlue(i)));
+            table.appendChild(entry);
+        }
+
+        if (first) {
+            IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+            extension.setAttribute("applicationID", "NETSCAPE");
+            extension.setAttribute("authenticationCode", "2.0");
+            extension.setUserObject(new byte[]{1, 0, 0}); //Sub-bloco de repetição, zero vezes = sem fim
+            child(root, "ApplicationExtensions").appendChild(extension);
+        }
+
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    /**
+     * Obtém o filho com o nome informado, criando-o se ele não existir.
+     */
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (int i = 0; i < root.getLength(); i++) {
+            if (root.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+
+    /**
+     * Espera uma tarefa terminar, repassando as falhas de gravação como {@link IOException}.
+     */
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("A exportação foi interrompida.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Cancela as tarefas que ainda não terminaram, quando a exportação é interrompida por uma falha.
+     */
+    private static void cancel(Deque<? extends Future<?>> pending) {
+        for (Future<?> future : pending) {
+            future.cancel(true);
+        }
+    }
+}
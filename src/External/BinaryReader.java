@@ -0,0 +1,113 @@
+package External;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Leitor sequencial de valores binários little-endian, com um buffer direto de tamanho fixo.
+ */
+final class BinaryReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfFile;
+
+    /**
+     * Abre o arquivo para leitura.
+     *
+     * @param path        O caminho do arquivo.
+     * @param bufferBytes O tamanho do buffer de leitura, em bytes (múltiplo de 8).
+     * @throws IOException Se o arquivo não puder ser aberto.
+     */
+    BinaryReader(Path path, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.flip();
+    }
+
+    /**
+     * Garante que o buffer tenha ao menos a quantidade de bytes informada, lendo mais do arquivo se preciso.
+     *
+     * @return false se o arquivo acabou antes disso.
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (!endOfFile && buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Lê inteiros de 32 bits para o array até preenchê-lo ou o arquivo acabar.
+     *
+     * @param values O array de destino.
+     * @return A quantidade de valores lidos.
+     * @throws IOException Se a leitura falhar.
+     */
+    int read(int[] values) throws IOException {
+        int count = 0;
+        while (count < values.length && fill(Integer.BYTES)) {
+            int n = Math.min(values.length - count, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(values, count, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            count += n;
+        }
+        return count;
+    }
+
+    /**
+     * Lê inteiros de 64 bits para o array até preenchê-lo ou o arquivo acabar.
+     *
+     * @param values O array de destino.
+     * @return A quantidade de valores lidos.
+     * @throws IOException Se a leitura falhar.
+     */
+    int read(long[] values) throws IOException {
+        int count = 0;
+        while (count < values.length && fill(Long.BYTES)) {
+            int n = Math.min(values.length - count, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(values, count, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            count += n;
+        }
+        return count;
+    }
+
+    /**
+     * Lê o próximo valor, com a largura informada, como long.
+     *
+     * @param width A largura do valor em bytes (4 ou 8).
+     * @return false se o arquivo acabou.
+     * @throws IOException Se a leitura falhar.
+     */
+    boolean hasNext(int width) throws IOException {
+        return fill(width);
+    }
+
+    /**
+     * Lê o próximo valor, depois de {@link #hasNext(int)} ter retornado true para a mesma largura.
+     *
+     * @param width A largura do valor em bytes (4 ou 8).
+     * @return O valor lido, estendido para long.
+     */
+    long next(int width) {
+        return width == Integer.BYTES ? buffer.getInt() : buffer.getLong();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,112 @@
+package External;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escritor sequencial de valores binários little-endian, com um buffer direto de tamanho fixo.
+ */
+final class BinaryWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Cria (ou substitui) o arquivo para escrita.
+     *
+     * @param path        O caminho do arquivo.
+     * @param bufferBytes O tamanho do buffer de escrita, em bytes (múltiplo de 8).
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    BinaryWriter(Path path, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Escreve os primeiros valores do array de inteiros de 32 bits.
+     *
+     * @param values O array de origem.
+     * @param length A quantidade de valores a escrever.
+     * @throws IOException Se a escrita falhar.
+     */
+    void write(int[] values, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            if (buffer.remaining() < Integer.BYTES) {
+                drain();
+            }
+            int n = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            offset += n;
+        }
+    }
+
+    /**
+     * Escreve os primeiros valores do array de inteiros de 64 bits.
+     *
+     * @param values O array de origem.
+     * @param length A quantidade de valores a escrever.
+     * @throws IOException Se a escrita falhar.
+     */
+    void write(long[] values, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            if (buffer.remaining() < Long.BYTES) {
+                drain();
+            }
+            int n = Math.min(length - offset, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            offset += n;
+        }
+    }
+
+    /**
+     * Escreve um valor com a largura informada.
+     *
+     * @param value O valor; com largura 4, apenas os 32 bits inferiores são escritos.
+     * @param width A largura do valor em bytes (4 ou 8).
+     * @throws IOException Se a escrita falhar.
+     */
+    void write(long value, int width) throws IOException {
+        if (buffer.remaining() < width) {
+            drain();
+        }
+        if (width == Integer.BYTES) {
+            buffer.putInt((int) value);
+        } else {
+            buffer.putLong(value);
+        }
+    }
+
+    /**
+     * Escreve no arquivo todo o conteúdo do buffer.
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Escreve o que ainda estiver no buffer e fecha o arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package External;
+
+import Sorts.KeyType;
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ordenação externa de arquivos binários little-endian de inteiros ({@code int} ou {@code long}).
+ *
+ * O arquivo de entrada é lido em blocos que cabem na memória; cada bloco é ordenado pelo algoritmo
+ * primitivo escolhido e gravado em um arquivo temporário (uma "corrida"). As corridas são então
+ * intercaladas por um heap de mínimo sobre arrays primitivos, lendo e escrevendo por buffers diretos,
+ * e o resultado é escrito no arquivo de saída à medida que é produzido. Assim, apenas um bloco e os
+ * buffers de leitura ficam na memória, qualquer que seja o tamanho da entrada.
+ */
+public class ExternalMergeSort {
+
+    /**
+     * Quantidade padrão de elementos de cada bloco ordenado na memória.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 23;
+
+    /**
+     * Quantidade máxima de corridas intercaladas de uma vez; acima disso a intercalação é feita em etapas.
+     */
+    private static final int MAX_FAN_IN = 128;
+
+    /**
+     * Tamanho dos buffers de leitura da entrada e de escrita das corridas e da saída.
+     */
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Memória total dividida entre os buffers de leitura das corridas durante a intercalação.
+     */
+    private static final int MERGE_BUFFER_BYTES = 1 << 25;
+
+    /**
+     * Menor buffer de leitura de uma corrida.
+     */
+    private static final int MIN_RUN_BUFFER_BYTES = 1 << 16;
+
+    private final PrimitiveSortAlgorithm algorithm;
+    private final int width;
+    private final boolean descending;
+    private final int chunkSize;
+    private final Path tempDirectory;
+    private int runCount;
+
+    /**
+     * Cria a ordenação externa.
+     *
+     * @param algorithm     O algoritmo usado para ordenar cada bloco na memória.
+     * @param keyType       O tipo dos valores do arquivo ({@link KeyType#INT} ou {@link KeyType#LONG}).
+     * @param order         A direção da ordenação.
+     * @param chunkSize     A quantidade de elementos de cada bloco ordenado na memória.
+     * @param tempDirectory O diretório onde as corridas são criadas, ou null para o diretório temporário do sistema.
+     * @throws IllegalArgumentException Se o tipo não for suportado ou o bloco não for positivo.
+     */
+    public ExternalMergeSort(PrimitiveSortAlgorithm algorithm, KeyType keyType, SortOrder order, int chunkSize,
+                             Path tempDirectory) {
+        switch (keyType) {
+            case INT:
+                this.width = Integer.BYTES;
+                break;
+            case LONG:
+                this.width = Long.BYTES;
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo não suportado na ordenação externa: " + keyType.getCode());
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do bloco tem que ser maior que zero.");
+        }
+        this.algorithm = algorithm;
+        this.descending = order.isDescending();
+        this.chunkSize = chunkSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Ordena o arquivo de entrada e escreve o resultado no arquivo de saída.
+     *
+     * @param input   O arquivo binário de entrada.
+     * @param output  O arquivo binário de saída (criado ou substituído).
+     * @param metrics Os contadores que recebem as operações dos blocos e da intercalação.
+     * @return A quantidade de elementos ordenados.
+     * @throws IOException              Se a leitura ou a escrita falhar.
+     * @throws IllegalArgumentException Se o tamanho da entrada não for múltiplo da largura dos valores.
+     */
+    public long sort(Path input, Path output, SortMetrics metrics) throws IOException {
+        long size = Files.size(input);
+        if (size % width != 0) {
+            throw new IllegalArgumentException("O tamanho do arquivo não é múltiplo de " + width + " bytes.");
+        }
+        long elements = size / width;
+
+        //Uma entrada que cabe em um único bloco vai direto para a saída, sem corridas
+        if (elements <= chunkSize) {
+            sortInMemory(input, (int) elements, output, metrics);
+            runCount = 1;
+            return elements;
+        }
+
+        Path directory = tempDirectory == null
+                ? Files.createTempDirectory("sort-runs")
+                : Files.createTempDirectory(tempDirectory, "sort-runs");
+        try {
+            List<Path> runs = sortChunks(input, directory, metrics);
+            runCount = runs.size();
+
+            //Intercala em etapas enquanto houver mais corridas do que arquivos abertos de uma vez
+            for (int generation = 0; runs.size() > MAX_FAN_IN; generation++) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                    List<Path> group = runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size()));
+                    Path target = directory.resolve("merge-" + generation + "-" + merged.size());
+                    merge(group, target, metrics);
+                    for (Path run : group) {
+                        Files.delete(run);
+                    }
+                    merged.add(target);
+                }
+                runs = merged;
+            }
+            merge(runs, output, metrics);
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+        return elements;
+    }
+
+    /**
+     * Obtém a quantidade de corridas criadas pela última ordenação.
+     *
+     * @return A quantidade de blocos ordenados na memória.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Ordena na memória uma entrada que cabe em um único bloco e a escreve na saída.
+     */
+    private void sortInMemory(Path input, int elements, Path output, SortMetrics metrics) throws IOException {
+        SortOrder order = descending ? SortOrder.ZA : SortOrder.AZ;
+        try (BinaryReader reader = new BinaryReader(input, IO_BUFFER_BYTES);
+             BinaryWriter writer = new BinaryWriter(output, IO_BUFFER_BYTES)) {
+            if (width == Integer.BYTES) {
+                int[] block = new int[elements];
+                reader.read(block);
+                algorithm.sort(block, order, metrics);
+                writer.write(block, elements);
+            } else {
+                long[] block = new long[elements];
+                reader.read(block);
+                algorithm.sort(block, order, metrics);
+                writer.write(block, elements);
+            }
+        }
+    }
+
+    /**
+     * Lê a entrada em blocos, ordena cada um na memória e o grava em uma nova corrida.
+     *
+     * @param input     O arquivo binário de entrada.
+     * @param directory O diretório das corridas.
+     * @param metrics   Os contadores de comparações.
+     * @return As corridas criadas, na ordem da entrada.
+     */
+    private List<Path> sortChunks(Path input, Path directory, SortMetrics metrics) throws IOException {
+        SortOrder order = descending ? SortOrder.ZA : SortOrder.AZ;
+        List<Path> runs = new ArrayList<>();
+        try (BinaryReader reader = new BinaryReader(input, IO_BUFFER_BYTES)) {
+            if (width == Integer.BYTES) {
+                int[] block = new int[chunkSize];
+                int count;
+                while ((count = reader.read(block)) > 0) {
+                    //O último bloco pode ser menor; os algoritmos ordenam o array inteiro
+                    if (count < block.length) {
+                        block = Arrays.copyOf(block, count);
+                    }
+                    algorithm.sort(block, order, metrics);
+                    Path run = directory.resolve("run-" + runs.size());
+                    try (BinaryWriter writer = new BinaryWriter(run, IO_BUFFER_BYTES)) {
+                        writer.write(block, count);
+                    }
+                    runs.add(run);
+                }
+            } else {
+                long[] block = new long[chunkSize];
+                int count;
+                while ((count = reader.read(block)) > 0) {
+                    if (count < block.length) {
+                        block = Arrays.copyOf(block, count);
+                    }
+                    algorithm.sort(block, order, metrics);
+                    Path run = directory.resolve("run-" + runs.size());
+                    try (BinaryWriter writer = new BinaryWriter(run, IO_BUFFER_BYTES)) {
+                        writer.write(block, count);
+                    }
+                    runs.add(run);
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Intercala as corridas no arquivo de destino.
+     *
+     * O heap guarda apenas os índices das corridas; o valor corrente de cada corrida fica em um array
+     * de longs, de modo que nenhuma comparação ou troca cria objetos.
+     *
+     * @param runs    As corridas já ordenadas.
+     * @param target  O arquivo de destino.
+     * @param metrics Os contadores de comparações.
+     */
+    private void merge(List<Path> runs, Path target, SortMetrics metrics) throws IOException {
+        int k = runs.size();
+        int bufferBytes = Math.max(MIN_RUN_BUFFER_BYTES, (MERGE_BUFFER_BYTES / k) & ~7);
+        BinaryReader[] readers = new BinaryReader[k];
+        long[] heads = new long[k];
+        int[] heap = new int[k];
+        int heapSize = 0;
+        long comparisons = 0;
+        long written = 0;
+        try (BinaryWriter writer = new BinaryWriter(target, IO_BUFFER_BYTES)) {
+            for (int i = 0; i < k; i++) {
+                readers[i] = new BinaryReader(runs.get(i), bufferBytes);
+                if (readers[i].hasNext(width)) {
+                    heads[i] = readers[i].next(width);
+                    heap[heapSize++] = i;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                comparisons += siftDown(heap, heapSize, heads, i);
+            }
+
+            while (heapSize > 0) {
+                int run = heap[0];
+                writer.write(heads[run], width);
+                written++;
+                if (readers[run].hasNext(width)) {
+                    heads[run] = readers[run].next(width);
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                comparisons += siftDown(heap, heapSize, heads, 0);
+            }
+        } finally {
+            for (BinaryReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+            metrics.addComparisons(comparisons);
+            metrics.addWrites(written);
+        }
+    }
+
+    /**
+     * Desce a corrida da posição informada até restaurar a propriedade do heap.
+     *
+     * @return A quantidade de comparações realizadas.
+     */
+    private int siftDown(int[] heap, int size, long[] heads, int index) {
+        if (size == 0) {
+            return 0;
+        }
+        int run = heap[index];
+        long value = heads[run];
+        int comparisons = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size) {
+                comparisons++;
+                if (before(heads[heap[child + 1]], heads[heap[child]])) {
+                    child++;
+                }
+            }
+            comparisons++;
+            if (!before(heads[heap[child]], value)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = run;
+        return comparisons;
+    }
+
+    /**
+     * Indica se o valor {@code a} vem antes do valor {@code b} na direção da ordenação.
+     */
+    private boolean before(long a, long b) {
+        return descending ? a > b : a < b;
+    }
+}
@@ -0,0 +1,118 @@
+package External;
+
+import Sorts.BoundedHeap;
+import Sorts.KeyType;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Ordenação parcial de arquivos binários little-endian de inteiros ({@code int} ou {@code long}): escreve
+ * no arquivo de saída apenas os k primeiros valores da entrada na direção da ordenação.
+ *
+ * A entrada é lida uma única vez, em blocos de tamanho fixo, e cada valor é oferecido a um
+ * {@link BoundedHeap} de capacidade k. Não há corridas nem arquivos temporários: a memória usada é a do
+ * heap e a do bloco de leitura, qualquer que seja o tamanho da entrada, e o custo é O(n log k).
+ */
+public class StreamingTopK {
+
+    /**
+     * Tamanho do buffer de leitura da entrada e do de escrita da saída.
+     */
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Quantidade de valores lidos de cada vez para o array oferecido ao heap.
+     */
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private final int width;
+    private final SortOrder order;
+    private final int k;
+    private int selectedCount;
+
+    /**
+     * Cria a ordenação parcial.
+     *
+     * @param keyType O tipo dos valores do arquivo ({@link KeyType#INT} ou {@link KeyType#LONG}).
+     * @param order   A direção da ordenação: os k menores em {@link SortOrder#AZ}, os k maiores em {@link SortOrder#ZA}.
+     * @param k       A quantidade de valores escritos na saída.
+     * @throws IllegalArgumentException Se o tipo não for suportado ou k não for positivo.
+     */
+    public StreamingTopK(KeyType keyType, SortOrder order, int k) {
+        switch (keyType) {
+            case INT:
+                this.width = Integer.BYTES;
+                break;
+            case LONG:
+                this.width = Long.BYTES;
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo não suportado na ordenação externa: " + keyType.getCode());
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("A quantidade de elementos da ordenação parcial tem que ser maior que zero.");
+        }
+        this.order = order;
+        this.k = k;
+    }
+
+    /**
+     * Lê o arquivo de entrada e escreve os k primeiros valores, em ordem, no arquivo de saída.
+     *
+     * @param input   O arquivo binário de entrada.
+     * @param output  O arquivo binário de saída (criado ou substituído).
+     * @param metrics Os contadores que recebem as comparações e escritas do heap.
+     * @return A quantidade de elementos lidos da entrada.
+     * @throws IOException              Se a leitura ou a escrita falhar.
+     * @throws IllegalArgumentException Se o tamanho da entrada não for múltiplo da largura dos valores.
+     */
+    public long select(Path input, Path output, SortMetrics metrics) throws IOException {
+        long size = Files.size(input);
+        if (size % width != 0) {
+            throw new IllegalArgumentException("O tamanho do arquivo não é múltiplo de " + width + " bytes.");
+        }
+        long elements = size / width;
+
+        //O heap nunca precisa ser maior que a própria entrada
+        BoundedHeap heap = new BoundedHeap((int) Math.min(k, Math.max(elements, 1)), order);
+        try (BinaryReader reader = new BinaryReader(input, IO_BUFFER_BYTES)) {
+            if (width == Integer.BYTES) {
+                int[] block = new int[BLOCK_SIZE];
+                int count;
+                while ((count = reader.read(block)) > 0) {
+                    heap.offer(block, count);
+                }
+            } else {
+                long[] block = new long[BLOCK_SIZE];
+                int count;
+                while ((count = reader.read(block)) > 0) {
+                    heap.offer(block, count);
+                }
+            }
+        }
+
+        long[] selected = heap.drain();
+        heap.publish(metrics);
+        try (BinaryWriter writer = new BinaryWriter(output, IO_BUFFER_BYTES)) {
+            for (long value : selected) {
+                writer.write(value, width);
+            }
+        }
+        metrics.addWrites(selected.length);
+        selectedCount = selected.length;
+        return elements;
+    }
+
+    /**
+     * Obtém a quantidade de valores escritos na saída pela última seleção.
+     *
+     * @return k, ou menos se a entrada tiver menos de k valores.
+     */
+    public int getSelectedCount() {
+        return selectedCount;
+    }
+}
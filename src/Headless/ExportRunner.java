@@ -0,0 +1,90 @@
+package Headless;
+
+import Export.AnimationExporter;
+import Panel.FrameRenderer;
+import Sorts.SortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+import Trace.KeyframeRecorder;
+import Trace.KeyframeRecorder.Keyframe;
+import TratamentoArgs.ArgumentProcessor;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exporta a animação de uma ordenação para imagens, sem interface gráfica.
+ *
+ * A ordenação roda sem pausas sobre os objetos, como no painel, enquanto um {@link KeyframeRecorder} guarda
+ * o estado do array a intervalos regulares de operações; depois os quadros são desenhados em paralelo e
+ * gravados pelo {@link AnimationExporter}, muito mais rápido que a reprodução em tempo real.
+ */
+public class ExportRunner {
+
+    private final ArgumentProcessor processor;
+
+    /**
+     * Cria o executor a partir dos argumentos já processados.
+     *
+     * @param processor Os argumentos da linha de comando.
+     */
+    public ExportRunner(ArgumentProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Ordena os dados, exporta a animação e escreve as medições.
+     *
+     * @param out A saída onde as medições serão escritas.
+     * @throws IOException Se a gravação das imagens falhar.
+     */
+    public void run(PrintStream out) throws IOException {
+        SortAlgorithm algorithm = SortAlgorithms.create(
+                processor.getAlgorithm(), processor.getCutoff(), processor.getTopK());
+        Object[] array = processor.getData();
+        SortOrder order = processor.getSortOrder();
+        Comparator<Object> comparator = processor.getKeyType().comparator(order);
+
+        //O desenhista guarda os elementos antes da ordenação, já que os quadros se referem a eles
+        FrameRenderer renderer = new FrameRenderer(array, processor.getKeyType(),
+                FrameRenderer.DEFAULT_WIDTH, FrameRenderer.DEFAULT_HEIGHT);
+        SortMetrics metrics = new SortMetrics();
+        KeyframeRecorder recorder = new KeyframeRecorder(array, processor.getFrameCount(), metrics);
+
+        long start = System.nanoTime();
+        metrics.start();
+        try {
+            algorithm.sort(array, comparator, recorder);
+        } finally {
+            metrics.stop();
+            recorder.finish();
+        }
+        long sortElapsed = System.nanoTime() - start;
+
+        List<Keyframe> frames = recorder.getFrames();
+        int threads = Runtime.getRuntime().availableProcessors();
+        AnimationExporter exporter = new AnimationExporter(renderer, algorithm.getClass().getSimpleName(),
+                processor.getFramesPerSecond(), threads);
+        start = System.nanoTime();
+        exporter.export(frames, processor.getOutputFile());
+        long exportElapsed = System.nanoTime() - start;
+
+        out.printf("Algoritmo: %s%n", processor.getAlgorithm());
+        out.printf("Elementos: %d%n", processor.getSize());
+        if (processor.isRandomInput()) {
+            out.printf("Distribuição: %s%n", processor.getDistribution().getCode());
+            out.printf("Semente: %d%n", processor.getSeed());
+        }
+        out.printf("Quadros: %d%n", frames.size());
+        out.printf("Saída: %s%n", processor.getOutputFile());
+        out.printf("Tempo de ordenação: %d ns%n", sortElapsed);
+        out.printf("Tempo de exportação: %d ns (%d threads)%n", exportElapsed, threads);
+        out.printf("Comparações: %d%n", metrics.getComparisons());
+        out.printf("Trocas: %d%n", metrics.getSwaps());
+        out.printf("Escritas: %d%n", metrics.getWrites());
+        out.flush();
+    }
+}
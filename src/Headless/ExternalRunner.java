@@ -0,0 +1,92 @@
+package Headless;
+
+import External.ExternalMergeSort;
+import External.StreamingTopK;
+import Sorts.AutoSort;
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import TratamentoArgs.ArgumentProcessor;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Executa a ordenação externa, de arquivo para arquivo, e escreve as medições na saída. Com a ordenação
+ * parcial ("a=k"), a entrada passa uma única vez por um heap limitado ({@link StreamingTopK}) e apenas os
+ * k primeiros valores são escritos.
+ */
+public class ExternalRunner {
+
+    private final ArgumentProcessor processor;
+
+    /**
+     * Cria o executor a partir dos argumentos já processados.
+     *
+     * @param processor Os argumentos da linha de comando.
+     */
+    public ExternalRunner(ArgumentProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Ordena o arquivo de entrada no arquivo de saída e escreve as medições.
+     *
+     * @param out A saída onde as medições serão escritas.
+     * @throws IOException Se a leitura ou a escrita dos arquivos falhar.
+     */
+    public void run(PrintStream out) throws IOException {
+        if (processor.isPartialSort()) {
+            runTopK(out);
+            return;
+        }
+        PrimitiveSortAlgorithm algorithm = SortAlgorithms.create(processor.getAlgorithm(), processor.getCutoff());
+        ExternalMergeSort sorter = new ExternalMergeSort(
+                algorithm,
+                processor.getKeyType(),
+                processor.getSortOrder(),
+                processor.getChunkSize(),
+                processor.getTempDirectory()
+        );
+        SortMetrics metrics = new SortMetrics();
+
+        long start = System.nanoTime();
+        long elements = sorter.sort(processor.getInputFile(), processor.getOutputFile(), metrics);
+        long elapsed = System.nanoTime() - start;
+
+        out.printf("Algoritmo: %s (externo)%n", processor.getAlgorithm());
+        if (algorithm instanceof AutoSort) {
+            //Cada bloco é analisado separadamente; a escolha exibida é a do último
+            out.printf("Escolha automática: %s%n", ((AutoSort) algorithm).getLastChoice());
+        }
+        out.printf("Elementos: %d%n", elements);
+        out.printf("Corridas: %d%n", sorter.getRunCount());
+        out.printf("Saída: %s%n", processor.getOutputFile());
+        out.printf("Tempo: %d ns%n", elapsed);
+        out.printf("Comparações: %d%n", metrics.getComparisons());
+        out.printf("Trocas: %d%n", metrics.getSwaps());
+        out.printf("Escritas: %d%n", metrics.getWrites());
+        out.flush();
+    }
+
+    /**
+     * Seleciona os k primeiros valores do arquivo de entrada no arquivo de saída e escreve as medições.
+     */
+    private void runTopK(PrintStream out) throws IOException {
+        StreamingTopK selector = new StreamingTopK(processor.getKeyType(), processor.getSortOrder(), processor.getTopK());
+        SortMetrics metrics = new SortMetrics();
+
+        long start = System.nanoTime();
+        long elements = selector.select(processor.getInputFile(), processor.getOutputFile(), metrics);
+        long elapsed = System.nanoTime() - start;
+
+        out.printf("Algoritmo: %s (heap limitado)%n", processor.getAlgorithm());
+        out.printf("Elementos: %d%n", elements);
+        out.printf("Selecionados: %d%n", selector.getSelectedCount());
+        out.printf("Saída: %s%n", processor.getOutputFile());
+        out.printf("Tempo: %d ns%n", elapsed);
+        out.printf("Comparações: %d%n", metrics.getComparisons());
+        out.printf("Escritas: %d%n", metrics.getWrites());
+        out.flush();
+    }
+}
@@ -0,0 +1,240 @@
+package Headless;
+
+import OffHeap.IntSegment;
+import OffHeap.SegmentSort;
+import Sorts.AutoSort;
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+import TratamentoArgs.ArgumentProcessor;
+
+import java.io.PrintStream;
+
+/**
+ * Executa a ordenação sem interface gráfica.
+ *
+ * O algoritmo escolhido roda pelo caminho primitivo, sem pausas, e o resultado ordenado é escrito
+ * na saída seguido do tempo de execução e da taxa de comparações. Os dados fora do heap são ordenados
+ * no lugar pelo {@link SegmentSort}, com o algoritmo escolhido nas folhas, e escritos direto do segmento.
+ * Na ordenação parcial ("a=k"), apenas os k primeiros valores são escritos.
+ */
+public class HeadlessRunner {
+
+    /**
+     * Quantidade de caracteres acumulados antes de cada escrita na saída.
+     */
+    private static final int OUTPUT_CHUNK = 1 << 16;
+
+    private final ArgumentProcessor processor;
+
+    /**
+     * Cria o executor a partir dos argumentos já processados.
+     *
+     * @param processor Os argumentos da linha de comando.
+     */
+    public HeadlessRunner(ArgumentProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Ordena os dados e escreve o resultado e as medições.
+     *
+     * @param out A saída onde o resultado será escrito.
+     */
+    public void run(PrintStream out) {
+        PrimitiveSortAlgorithm algorithm = SortAlgorithms.create(
+                processor.getAlgorithm(), processor.getCutoff(), processor.getTopK());
+        SortMetrics metrics = new SortMetrics();
+        SortOrder order = processor.getSortOrder();
+        long start;
+        long elapsed;
+
+        if (processor.isOffHeap()) {
+            long length;
+            try (IntSegment segment = processor.getIntSegment()) {
+                length = segment.length(); //Lido antes de o fechamento liberar a memória do segmento
+                start = System.nanoTime();
+                new SegmentSort(algorithm).sort(segment, order, metrics);
+                elapsed = System.nanoTime() - start;
+                segment.force();
+                writeValues(segment, out);
+            }
+            writeTiming(elapsed, length, metrics, algorithm, out);
+            return;
+        }
+
+        //Na ordenação parcial, o resto do array fica em uma ordem qualquer e não é escrito
+        int count = processor.isPartialSort()
+                ? Math.min(processor.getTopK(), processor.getSize())
+                : processor.getSize();
+        switch (processor.getKeyType()) {
+            case INT:
+                start = System.nanoTime();
+                algorithm.sort(processor.getIntData(), order, metrics);
+                elapsed = System.nanoTime() - start;
+                writeValues(processor.getIntData(), count, out);
+                break;
+            case CHAR:
+                start = System.nanoTime();
+                algorithm.sort(processor.getCharData(), order, metrics);
+                elapsed = System.nanoTime() - start;
+                writeValues(processor.getCharData(), count, out);
+                break;
+            case LONG:
+                start = System.nanoTime();
+                algorithm.sort(processor.getLongData(), order, metrics);
+                elapsed = System.nanoTime() - start;
+                writeValues(processor.getLongData(), count, out);
+                break;
+            case DOUBLE:
+                start = System.nanoTime();
+                algorithm.sort(processor.getDoubleData(), order, metrics);
+                elapsed = System.nanoTime() - start;
+                writeValues(processor.getDoubleData(), count, out);
+                break;
+            default:
+                start = System.nanoTime();
+                algorithm.sort(processor.getStringData(), order, metrics);
+                elapsed = System.nanoTime() - start;
+                writeValues(processor.getStringData(), count, out);
+                break;
+        }
+        writeTiming(elapsed, processor.getSize(), metrics, algorithm, out);
+    }
+
+    /**
+     * Escreve os inteiros separados por vírgula, no mesmo formato do argumento "v", até a quantidade informada.
+     */
+    private void writeValues(int[] values, int count, PrintStream out) {
+        StringBuilder line = new StringBuilder(OUTPUT_CHUNK + 16);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(values[i]);
+            if (line.length() >= OUTPUT_CHUNK) {
+                out.append(line);
+                line.setLength(0);
+            }
+        }
+        out.append(line).println();
+    }
+
+    /**
+     * Escreve os inteiros de um array fora do heap separados por vírgula, lidos em blocos para um buffer reutilizado.
+     */
+    private void writeValues(IntSegment values, PrintStream out) {
+        StringBuilder line = new StringBuilder(OUTPUT_CHUNK + 16);
+        int[] buffer = new int[OUTPUT_CHUNK / 8];
+        long length = values.length();
+        for (long from = 0; from < length; from += buffer.length) {
+            int count = (int) Math.min(buffer.length, length - from);
+            values.copyTo(from, buffer, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (from + i > 0) {
+                    line.append(',');
+                }
+                line.append(buffer[i]);
+                if (line.length() >= OUTPUT_CHUNK) {
+                    out.append(line);
+                    line.setLength(0);
+                }
+            }
+        }
+        out.append(line).println();
+    }
+
+    /**
+     * Escreve os longs separados por vírgula, no mesmo formato do argumento "v", até a quantidade informada.
+     */
+    private void writeValues(long[] values, int count, PrintStream out) {
+        StringBuilder line = new StringBuilder(OUTPUT_CHUNK + 32);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(values[i]);
+            if (line.length() >= OUTPUT_CHUNK) {
+                out.append(line);
+                line.setLength(0);
+            }
+        }
+        out.append(line).println();
+    }
+
+    /**
+     * Escreve os doubles separados por vírgula, no mesmo formato do argumento "v", até a quantidade informada.
+     */
+    private void writeValues(double[] values, int count, PrintStream out) {
+        StringBuilder line = new StringBuilder(OUTPUT_CHUNK + 32);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(values[i]);
+            if (line.length() >= OUTPUT_CHUNK) {
+                out.append(line);
+                line.setLength(0);
+            }
+        }
+        out.append(line).println();
+    }
+
+    /**
+     * Escreve as strings separadas por vírgula, no mesmo formato do argumento "v".
+     */
+    private void writeValues(String[] values, int count, PrintStream out) {
+        StringBuilder line = new StringBuilder(OUTPUT_CHUNK + 64);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(values[i]);
+            if (line.length() >= OUTPUT_CHUNK) {
+                out.append(line);
+                line.setLength(0);
+            }
+        }
+        out.append(line).println();
+    }
+
+    /**
+     * Escreve os caracteres em sequência, no mesmo formato do argumento "v", até a quantidade informada.
+     */
+    private void writeValues(char[] values, int count, PrintStream out) {
+        for (int i = 0; i < count; i += OUTPUT_CHUNK) {
+            out.print(new String(values, i, Math.min(OUTPUT_CHUNK, count - i)));
+        }
+        out.println();
+    }
+
+    /**
+     * Escreve o tempo de ordenação, a taxa de comparações e os demais contadores; com "a=auto", também o
+     * algoritmo escolhido e o motivo.
+     */
+    private void writeTiming(long elapsedNanos, long length, SortMetrics metrics, PrimitiveSortAlgorithm algorithm,
+                             PrintStream out) {
+        long comparisons = metrics.getComparisons();
+        double perSecond = elapsedNanos > 0 ? comparisons * 1e9 / elapsedNanos : 0;
+        out.printf("Algoritmo: %s%n", processor.getAlgorithm());
+        if (algorithm instanceof AutoSort && ((AutoSort) algorithm).getLastChoice() != null) {
+            //Fora do heap, é a escolha da última folha ordenada
+            out.printf("Escolha automática: %s%n", ((AutoSort) algorithm).getLastChoice());
+        }
+        out.printf("Elementos: %d%n", length);
+        if (processor.isPartialSort()) {
+            out.printf("Selecionados: %d%n", Math.min(processor.getTopK(), processor.getSize()));
+        }
+        if (processor.isRandomInput()) {
+            out.printf("Distribuição: %s%n", processor.getDistribution().getCode());
+            out.printf("Semente: %d%n", processor.getSeed());
+        }
+        out.printf("Tempo: %d ns%n", elapsedNanos);
+        out.printf("Comparações: %d%n", comparisons);
+        out.printf("Comparações/s: %.0f%n", perSecond);
+        out.printf("Trocas: %d%n", metrics.getSwaps());
+        out.printf("Escritas: %d%n", metrics.getWrites());
+        out.flush();
+    }
+}
@@ -0,0 +1,44 @@
+package Headless;
+
+import Service.SortService;
+import TratamentoArgs.ArgumentProcessor;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+
+/**
+ * Inicia o serviço HTTP de ordenação e escreve o endereço em que ele atende.
+ * O serviço continua rodando depois que {@link #run(PrintStream)} retorna, até o processo ser encerrado.
+ */
+public class ServiceRunner {
+
+    private final ArgumentProcessor processor;
+
+    /**
+     * Cria o executor a partir dos argumentos já processados.
+     *
+     * @param processor Os argumentos da linha de comando.
+     */
+    public ServiceRunner(ArgumentProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Inicia o serviço e escreve o endereço e os valores padrão das requisições.
+     *
+     * @param out A saída onde o endereço será escrito.
+     * @throws IOException Se a porta não puder ser aberta.
+     */
+    public void run(PrintStream out) throws IOException {
+        SortService service = new SortService(processor.getAlgorithm(), processor.getSortOrder(), processor.getCutoff());
+        InetSocketAddress address = service.start(processor.getPort());
+        //Dá às requisições em andamento um segundo para terminar quando o processo é encerrado
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> service.stop(1)));
+
+        out.printf("Serviço: http://%s:%d/sort%n", address.getHostString(), address.getPort());
+        out.printf("Algoritmo padrão: %s%n", processor.getAlgorithm());
+        out.printf("Ordem padrão: %s%n", processor.getSortOrder());
+        out.flush();
+    }
+}
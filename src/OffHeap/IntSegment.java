@@ -0,0 +1,197 @@
+package OffHeap;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Array de inteiros de 32 bits fora do heap, em um {@link MemorySegment}: alocado na memória nativa ou
+ * mapeado diretamente de um arquivo binário, com índices long.
+ *
+ * Os elementos ficam em little-endian, o mesmo formato dos arquivos binários ("in=b"), então um arquivo
+ * mapeado é ordenado no próprio disco, sem cópia. Como a memória não pertence ao heap, o coletor de lixo
+ * nunca a percorre nem a move, qualquer que seja o tamanho. A memória pertence a uma {@link Arena}
+ * compartilhada, acessível de qualquer thread, e é liberada (ou o mapeamento desfeito) em {@link #close()}.
+ */
+public final class IntSegment implements AutoCloseable {
+
+    /**
+     * Formato de cada elemento.
+     */
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final long length;
+    private final boolean mapped;
+
+    private IntSegment(Arena arena, MemorySegment segment, boolean mapped) {
+        this.arena = arena;
+        this.segment = segment;
+        this.length = segment.byteSize() / Integer.BYTES;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Aloca um array na memória nativa, com todos os elementos em zero.
+     *
+     * A JVM limita a memória nativa alocada por {@code -XX:MaxDirectMemorySize}, que por padrão é o tamanho
+     * máximo do heap; arrays maiores que isso exigem aumentar o limite.
+     *
+     * @param length A quantidade de elementos.
+     * @return O array alocado.
+     * @throws IllegalArgumentException Se a quantidade não for positiva ou não couber no limite da memória nativa.
+     */
+    public static IntSegment allocate(long length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("O tamanho tem que ser maior que zero.");
+        }
+        Arena arena = Arena.ofShared();
+        try {
+            return new IntSegment(arena, arena.allocate(length * Integer.BYTES, Integer.BYTES), false);
+        } catch (OutOfMemoryError e) {
+            arena.close();
+            throw new IllegalArgumentException("Memória nativa insuficiente para " + length
+                    + " elementos (aumente -XX:MaxDirectMemorySize).", e);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Mapeia um arquivo binário de inteiros para leitura e escrita: as alterações vão para o próprio arquivo.
+     *
+     * @param path O caminho do arquivo.
+     * @return O array mapeado.
+     * @throws IllegalArgumentException Se o arquivo não puder ser aberto, estiver vazio ou o tamanho não
+     *                                  for múltiplo de 4 bytes.
+     */
+    public static IntSegment map(Path path) {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = checkSize(path, channel.size());
+            //O mapeamento continua válido depois que o canal é fechado, até a arena ser fechada
+            return new IntSegment(arena, channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes, arena), true);
+        } catch (IOException e) {
+            arena.close();
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copia um arquivo binário de inteiros para a memória nativa; o arquivo não é alterado.
+     *
+     * @param path O caminho do arquivo.
+     * @return O array com os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido, estiver vazio ou o tamanho não
+     *                                  for múltiplo de 4 bytes.
+     */
+    public static IntSegment copyOf(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena mapping = Arena.ofConfined()) {
+            long bytes = checkSize(path, channel.size());
+            IntSegment copy = allocate(bytes / Integer.BYTES);
+            MemorySegment.copy(channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes, mapping), 0,
+                    copy.segment, 0, bytes);
+            return copy;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        }
+    }
+
+    private static long checkSize(Path path, long bytes) {
+        if (bytes == 0 || bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "O tamanho do arquivo tem que ser um múltiplo positivo de " + Integer.BYTES + " bytes: " + path);
+        }
+        return bytes;
+    }
+
+    /**
+     * Obtém a quantidade de elementos.
+     *
+     * @return O tamanho do array.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Indica se o array é um arquivo mapeado.
+     *
+     * @return true se as alterações vão para o arquivo.
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Lê um elemento.
+     *
+     * @param index A posição, de 0 a {@link #length()} - 1.
+     * @return O valor.
+     */
+    public int get(long index) {
+        return segment.getAtIndex(INT, index);
+    }
+
+    /**
+     * Escreve um elemento.
+     *
+     * @param index A posição, de 0 a {@link #length()} - 1.
+     * @param value O valor.
+     */
+    public void set(long index, int value) {
+        segment.setAtIndex(INT, index, value);
+    }
+
+    /**
+     * Copia os elementos [from, from + count) para um array do heap.
+     *
+     * @param from   A primeira posição copiada.
+     * @param target O array de destino.
+     * @param offset A posição do primeiro elemento no destino.
+     * @param count  A quantidade de elementos.
+     */
+    public void copyTo(long from, int[] target, int offset, int count) {
+        MemorySegment.copy(segment, INT, from * Integer.BYTES, target, offset, count);
+    }
+
+    /**
+     * Copia elementos de um array do heap para as posições [to, to + count).
+     *
+     * @param source O array de origem.
+     * @param offset A posição do primeiro elemento na origem.
+     * @param to     A primeira posição escrita.
+     * @param count  A quantidade de elementos.
+     */
+    public void copyFrom(int[] source, int offset, long to, int count) {
+        MemorySegment.copy(source, offset, segment, INT, to * Integer.BYTES, count);
+    }
+
+    /**
+     * Grava no disco as alterações de um arquivo mapeado; não faz nada na memória nativa.
+     */
+    public void force() {
+        if (mapped) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Libera a memória nativa ou desfaz o mapeamento. O array não pode mais ser usado depois disso.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,210 @@
+package OffHeap;
+
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordena no lugar um {@link IntSegment}, de qualquer tamanho, com um Quick Sort paralelo (fork/join)
+ * sobre índices long.
+ *
+ * As partições (esquema de Hoare com pivô pela mediana de três) são feitas direto no segmento, até que
+ * cada intervalo tenha no máximo {@link #LEAF_SIZE} elementos. Cada folha é então copiada para um
+ * {@code int[]}, ordenada pelo algoritmo escolhido e copiada de volta, de modo que apenas uma folha por
+ * thread fica no heap ao mesmo tempo. Se a recursão passar de 2 log2 n níveis (pivôs ruins seguidos), o
+ * intervalo é ordenado por Heap Sort no próprio segmento, o que limita o pior caso a O(n log n).
+ */
+public final class SegmentSort {
+
+    /**
+     * Maior intervalo copiado para o heap e ordenado pelo algoritmo escolhido (4 MB por folha).
+     */
+    public static final int LEAF_SIZE = 1 << 20;
+
+    private final PrimitiveSortAlgorithm algorithm;
+
+    /**
+     * Cria a ordenação.
+     *
+     * @param algorithm O algoritmo que ordena as folhas no heap.
+     */
+    public SegmentSort(PrimitiveSortAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Ordena o segmento no lugar.
+     *
+     * @param segment O array a ordenar; se for um arquivo mapeado, o arquivo é ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações das partições e das folhas.
+     */
+    public void sort(IntSegment segment, SortOrder order, SortMetrics metrics) {
+        long length = segment.length();
+        if (length < 2) {
+            return;
+        }
+        int depthLimit = 2 * (64 - Long.numberOfLeadingZeros(length));
+        ForkJoinPool.commonPool().invoke(new SortTask(segment, 0, length - 1, order, depthLimit, metrics));
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do segmento.
+     * As comparações, trocas e escritas das partições são contadas localmente e publicadas no fim da tarefa.
+     */
+    private final class SortTask extends RecursiveAction {
+        private final IntSegment a;
+        private final long lo;
+        private final long hi;
+        private final SortOrder order;
+        private final boolean descending;
+        private final int depth;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+
+        SortTask(IntSegment a, long lo, long hi, SortOrder order, int depth, SortMetrics metrics) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.order = order;
+            this.descending = order.isDescending();
+            this.depth = depth;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < LEAF_SIZE) {
+                sortLeaf();
+                return;
+            }
+            if (depth == 0) {
+                heapSort();
+                publish();
+                return;
+            }
+            long p = partition();
+            publish();
+            invokeAll(new SortTask(a, lo, p, order, depth - 1, metrics),
+                    new SortTask(a, p + 1, hi, order, depth - 1, metrics));
+        }
+
+        /**
+         * Publica os contadores da tarefa.
+         */
+        private void publish() {
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Copia o intervalo para o heap, ordena com o algoritmo escolhido e copia de volta.
+         */
+        private void sortLeaf() {
+            int n = (int) (hi - lo + 1);
+            int[] values = new int[n];
+            a.copyTo(lo, values, 0, n);
+            algorithm.sort(values, order, metrics);
+            a.copyFrom(values, 0, lo, n);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private long partition() {
+            long mid = (lo + hi) >>> 1;
+            if (before(a.get(mid), a.get(lo))) {
+                swap(lo, mid);
+            }
+            if (before(a.get(hi), a.get(lo))) {
+                swap(lo, hi);
+            }
+            if (before(a.get(hi), a.get(mid))) {
+                swap(mid, hi);
+            }
+            comparisons += 3;
+            int pivot = a.get(mid);
+            long i = lo - 1;
+            long j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (before(a.get(i), pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (before(pivot, a.get(j)));
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Ordena [lo, hi] por Heap Sort no próprio segmento, sem memória adicional.
+         */
+        private void heapSort() {
+            long n = hi - lo + 1;
+            for (long root = n / 2 - 1; root >= 0; root--) {
+                siftDown(root, n);
+            }
+            for (long end = n - 1; end > 0; end--) {
+                swap(lo, lo + end);
+                siftDown(0, end);
+            }
+        }
+
+        /**
+         * Desce o elemento da posição root (relativa a lo) no heap de n elementos, com o último da ordem na raiz.
+         */
+        private void siftDown(long root, long n) {
+            int value = a.get(lo + root);
+            while (true) {
+                long child = 2 * root + 1;
+                if (child >= n) {
+                    break;
+                }
+                if (child + 1 < n) {
+                    comparisons++;
+                    if (before(a.get(lo + child), a.get(lo + child + 1))) {
+                        child++;
+                    }
+                }
+                int larger = a.get(lo + child);
+                comparisons++;
+                if (!before(value, larger)) {
+                    break;
+                }
+                a.set(lo + root, larger);
+                writes++;
+                root = child;
+            }
+            a.set(lo + root, value);
+            writes++;
+        }
+
+        /**
+         * Indica se x vem antes de y na direção da ordenação.
+         */
+        private boolean before(int x, int y) {
+            return descending ? x > y : x < y;
+        }
+
+        private void swap(long i, long j) {
+            int temp = a.get(i);
+            a.set(i, a.get(j));
+            a.set(j, temp);
+            swaps++;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package Panel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Renderização ativa: uma thread própria avança e desenha um painel animado ({@link AnimatedPanel}) em um
+ * {@link Canvas} com {@link BufferStrategy}, no lugar do {@link Timer} e do {@code repaint()} do Swing.
+ *
+ * A cada quadro, a thread avança a animação, desenha o painel inteiro no buffer de trás (uma
+ * {@link java.awt.image.VolatileImage} acelerada, quando a placa de vídeo permite) e o exibe, sem passar
+ * pela fila de eventos nem pela união de regiões do RepaintManager. O ritmo segue uma meta fixa de quadros
+ * por segundo ({@link FramePacer}), e o tempo de cada quadro, a taxa real e os quadros perdidos são
+ * exibidos no rodapé. O painel nunca é adicionado a uma janela: ele serve apenas para desenhar. A thread de
+ * renderização só avança o estado da animação, sem chamar o Swing, e o desenha; o leiaute do painel, quando o
+ * tamanho muda, é feito na thread de eventos enquanto ela espera. Quando a animação termina, a thread para, e
+ * os redimensionamentos seguintes são desenhados na thread de eventos.
+ */
+public class ActiveRenderer extends Canvas {
+
+    /**
+     * Quantidade de buffers da estratégia: o exibido e o de trás.
+     */
+    private static final int BUFFERS = 2;
+
+    private final JPanel panel;
+    private final AnimatedPanel animation;
+    private final FramePacer pacer;
+    private volatile boolean finished;
+
+    /**
+     * Cria o renderizador de um painel já configurado, ainda parado.
+     *
+     * @param panel           O painel desenhado; tem que implementar {@link AnimatedPanel}.
+     * @param framesPerSecond A meta de quadros por segundo, ou zero para a frequência da tela.
+     * @throws IllegalArgumentException Se o painel não for animado ou a meta for negativa.
+     */
+    public ActiveRenderer(JPanel panel, int framesPerSecond) {
+        if (!(panel instanceof AnimatedPanel)) {
+            throw new IllegalArgumentException("Painel sem animação: " + panel.getClass().getSimpleName());
+        }
+        if (framesPerSecond < 0) {
+            throw new IllegalArgumentException("A quantidade de quadros por segundo não pode ser negativa.");
+        }
+        this.panel = panel;
+        this.animation = (AnimatedPanel) panel;
+        this.pacer = new FramePacer(framesPerSecond == 0 ? StepScheduler.refreshRate() : framesPerSecond);
+        //O buffer de trás já é o da estratégia; o do Swing só acrescentaria uma cópia por quadro
+        disableDoubleBuffering(panel);
+        setPreferredSize(panel.getPreferredSize());
+        setBackground(Color.WHITE);
+        setIgnoreRepaint(true);
+    }
+
+    /**
+     * Cria os buffers e inicia a animação e a thread de renderização. Deve ser chamado depois que a janela
+     * que contém o renderizador estiver visível.
+     */
+    public void start() {
+        //Buffers acelerados na frente e atrás; se a configuração não aceitar, a estratégia padrão
+        BufferCapabilities accelerated = new BufferCapabilities(
+                new ImageCapabilities(true), new ImageCapabilities(true), null);
+        try {
+            createBufferStrategy(BUFFERS, accelerated);
+        } catch (AWTException e) {
+            createBufferStrategy(BUFFERS);
+        }
+        animation.beginAnimation();
+        Thread.ofPlatform().name("render").daemon().start(this::renderLoop);
+    }
+
+    /**
+     * Laço da thread de renderização: um quadro por período até a animação terminar.
+     */
+    private void renderLoop() {
+        BufferStrategy strategy = getBufferStrategy();
+        pacer.start(System.nanoTime());
+        boolean done = false;
+        while (!done) {
+            long frameStart = System.nanoTime();
+            done = animation.advanceFrame();
+            render(strategy);
+            long wait = pacer.frameDone(frameStart, System.nanoTime());
+            if (!done && wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+        finished = true;
+        setIgnoreRepaint(false);
+    }
+
+    /**
+     * Desenha o painel e as medições no buffer de trás e o exibe, repetindo enquanto o conteúdo dos buffers
+     * acelerados for perdido (por exemplo, quando outra aplicação toma a placa de vídeo).
+     */
+    private void render(BufferStrategy strategy) {
+        int width = getWidth();
+        int height = getHeight();
+        if (panel.getWidth() != width || panel.getHeight() != height) {
+            resizePanel(width, height);
+        }
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    panel.paint(g);
+                    drawStatistics(g, height);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        //No X11 o quadro só chega à tela quando a fila de comandos é esvaziada
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Ajusta o painel ao tamanho do renderizador na thread de eventos, a única em que o Swing pode refazer o
+     * leiaute. A thread de renderização espera o ajuste terminar, então nunca desenha um leiaute pela metade.
+     */
+    private void resizePanel(int width, int height) {
+        Runnable resize = () -> {
+            panel.setSize(width, height);
+            panel.doLayout(); //Os painéis da corrida são posicionados sem que o painel esteja em uma janela
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            resize.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(resize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Falha ao redimensionar o painel.", e.getCause());
+        }
+    }
+
+    /**
+     * Escreve no rodapé a taxa real e a meta de quadros, o tempo de trabalho de cada quadro e os quadros perdidos.
+     */
+    private void drawStatistics(Graphics2D g, int height) {
+        g.setFont(SortingPanel.LABEL_FONT);
+        g.setColor(Color.BLACK);
+        g.drawString(String.format("Renderização ativa: %.0f/%d fps  Quadro: %.2f ms  Perdidos: %,d de %,d",
+                        pacer.getFramesPerSecond(), pacer.getTargetFramesPerSecond(), pacer.getFrameMillis(),
+                        pacer.getDroppedFrames(), pacer.getFrames() + pacer.getDroppedFrames()),
+                SortingPanel.MARGIN, height - 8);
+    }
+
+    /**
+     * Desenha sem apagar o fundo antes, já que o quadro cobre o componente inteiro.
+     *
+     * @param g O objeto Graphics do componente.
+     */
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    /**
+     * Depois da animação, desenha de novo o último quadro quando a janela é redimensionada ou exposta;
+     * durante a animação, só a thread de renderização desenha.
+     *
+     * @param g O objeto Graphics do componente.
+     */
+    @Override
+    public void paint(Graphics g) {
+        BufferStrategy strategy = getBufferStrategy();
+        if (finished && strategy != null) {
+            render(strategy);
+        }
+    }
+
+    private static void disableDoubleBuffering(Component component) {
+        if (component instanceof JComponent) {
+            ((JComponent) component).setDoubleBuffered(false);
+        }
+        if (component instanceof Container) {
+            for (Component child : ((Container) component).getComponents()) {
+                disableDoubleBuffering(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package Panel;
+
+/**
+ * Painel animado quadro a quadro, desenhado pelo {@link javax.swing.Timer} do próprio painel ou, na
+ * renderização ativa, pela thread do {@link ActiveRenderer}.
+ *
+ * Quem chama {@link #beginAnimation()} passa a ser a única thread que avança e desenha o painel: as
+ * ordenações rodam nas suas próprias threads, e o estado desenhado só muda em {@link #advanceFrame()}.
+ */
+public interface AnimatedPanel {
+
+    /**
+     * Inicia as ordenações, sem iniciar nenhum Timer.
+     */
+    void beginAnimation();
+
+    /**
+     * Avança a animação até o instante atual, sem desenhar.
+     *
+     * @return true quando não há mais nada a animar.
+     */
+    boolean advanceFrame();
+}
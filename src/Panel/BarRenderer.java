@@ -0,0 +1,163 @@
+package Panel;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+
+/**
+ * Desenha uma barra por elemento do array, com o rótulo de cada valor quando ele cabe na largura da barra.
+ *
+ * Os rótulos são formatados uma única vez por identificador de valor (a primeira posição do array original
+ * que contém um valor igual) e reaproveitados entre os quadros, já que a ordenação apenas permuta os valores.
+ */
+class BarRenderer {
+
+    static final Color COMPARED_COLOR = Color.GREEN;
+    static final Color[] COLORS = {
+            Color.BLACK, Color.RED, Color.YELLOW, Color.CYAN, Color.PINK, Color.MAGENTA
+    };
+
+    private final FontMetrics labelMetrics;
+    private Object[] labelSource; // Elementos antes da ordenação, indexados pelo identificador de valor
+    private boolean charLabels;
+    private String[] labels; // Rótulos já formatados, por identificador de valor
+    private int[] labelWidths;
+    private int barWidth;
+    private int spaceBetweenBars;
+
+    /**
+     * Cria o desenhista com as métricas da fonte dos rótulos.
+     *
+     * @param labelMetrics As métricas da fonte usada nos rótulos.
+     */
+    BarRenderer(FontMetrics labelMetrics) {
+        this.labelMetrics = labelMetrics;
+    }
+
+    /**
+     * Define os elementos que dão origem aos rótulos, descartando os rótulos já formatados.
+     *
+     * @param labelSource Os elementos antes da ordenação, indexados pelo identificador de valor.
+     * @param charLabels  Se os elementos são caracteres, sempre rotulados acima das barras.
+     */
+    void setLabelSource(Object[] labelSource, boolean charLabels) {
+        this.labelSource = labelSource;
+        this.charLabels = charLabels;
+        this.labels = null;
+        this.labelWidths = null;
+    }
+
+    /**
+     * Indica se os elementos precisam ser agrupados em colunas por falta de espaço para uma barra por elemento
+     * (com ao menos um pixel de largura e um de espaçamento).
+     *
+     * @param numBars    A quantidade de elementos.
+     * @param totalSpace A largura disponível, em pixels.
+     * @return true se os elementos devem ser desenhados pelo {@link BinnedRenderer}.
+     */
+    static boolean isBinned(int numBars, int totalSpace) {
+        return numBars * 2 > totalSpace;
+    }
+
+    /**
+     * Calcula a largura das barras e o espaçamento para garantir que todas as barras sejam visíveis.
+     *
+     * @param numBars    A quantidade de barras.
+     * @param totalSpace A largura disponível, em pixels.
+     */
+    void layout(int numBars, int totalSpace) {
+        barWidth = totalSpace / numBars; // Largura ajustada das barras
+        spaceBetweenBars = numBars > 1
+                ? Math.max(1, (totalSpace - (barWidth * numBars)) / (numBars - 1)) // Espaço entre as barras
+                : 0;
+        if (barWidth + spaceBetweenBars > totalSpace / numBars) {
+            barWidth = Math.max(1, totalSpace / numBars - spaceBetweenBars);
+        }
+    }
+
+    /**
+     * Obtém a distância entre o início de duas barras vizinhas, calculada pelo último {@link #layout(int, int)}.
+     *
+     * @return A largura de uma barra somada ao espaçamento.
+     */
+    int getStride() {
+        return barWidth + spaceBetweenBars;
+    }
+
+    /**
+     * Obtém o espaçamento entre as barras, calculado pelo último {@link #layout(int, int)}.
+     *
+     * @return O espaçamento, em pixels.
+     */
+    int getSpaceBetweenBars() {
+        return spaceBetweenBars;
+    }
+
+    /**
+     * Desenha as barras que cruzam a área de recorte, com uma barra de folga para os rótulos.
+     * {@link #layout(int, int)} deve ter sido chamado para a quantidade de valores.
+     *
+     * @param g              O objeto Graphics usado para desenhar.
+     * @param clip           A área de recorte.
+     * @param values         O valor numérico de cada posição.
+     * @param ids            O identificador de valor de cada posição.
+     * @param x              A posição horizontal da primeira barra.
+     * @param height         A altura da área de desenho.
+     * @param minValue       O menor valor do array.
+     * @param maxValue       O maior valor do array.
+     * @param comparedFirst  A primeira posição destacada, ou -1.
+     * @param comparedSecond A segunda posição destacada, ou -1.
+     */
+    void render(Graphics g, Rectangle clip, int[] values, int[] ids, int x, int height,
+                int minValue, int maxValue, int comparedFirst, int comparedSecond) {
+        int numBars = values.length;
+        double range = Math.max(1, maxValue - minValue);
+
+        //Calcula a linha de base para as barras
+        int zeroLine = (int) (height * 0.1 + (maxValue / range) * (height * 0.8));
+        if (labels == null) {
+            labels = new String[labelSource.length];
+            labelWidths = new int[labelSource.length];
+        }
+
+        //Limita o desenho às barras que cruzam a área de recorte, com uma barra de folga para os rótulos
+        int stride = getStride();
+        int first = Math.max(0, (clip.x - x) / stride - 1);
+        int last = Math.min(numBars - 1, (clip.x + clip.width - x) / stride + 1);
+
+        for (int i = first; i <= last; i++) {
+            int value = values[i];
+            int barHeight = (int) ((double) Math.abs(value) / range * (height * 0.8)); // Dimensiona a altura das barras
+
+            int barX = x + i * stride; // Calcula a posição x de cada barra
+            int y = value >= 0 ? zeroLine - barHeight : zeroLine; // Calcula a posição y de cada barra
+
+            //Define a cor das barras, destacando as posições da última comparação
+            g.setColor(i == comparedFirst || i == comparedSecond ? COMPARED_COLOR : COLORS[i % COLORS.length]);
+            g.fillRect(barX, y, barWidth, barHeight);
+
+            //Exibe o rótulo de acordo com o tipo, apenas se ele couber na largura da barra
+            int id = ids[i];
+            String valueString = labels[id];
+            if (valueString == null) {
+                valueString = String.valueOf(labelSource[id]);
+                labels[id] = valueString;
+                labelWidths[id] = labelMetrics.stringWidth(valueString);
+            }
+            int labelWidth = labelWidths[id];
+            if (labelWidth > stride) {
+                continue;
+            }
+            g.setColor(Color.BLACK);
+            if (charLabels) {
+                //Exibe os caracteres acima das barras
+                g.drawString(valueString, barX + barWidth / 2 - labelWidth / 2, y - 5);
+            } else {
+                // Exibe os valores acima das barras (ou abaixo para negativos)
+                int labelY = value >= 0 ? y - 5 : y + barHeight + 15;
+                g.drawString(valueString, barX + barWidth / 2 - labelWidth / 2, labelY);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package Panel;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * Desenha arrays com mais elementos do que colunas de pixels disponíveis.
+ *
+ * Cada coluna de pixels representa um intervalo contínuo de elementos: a faixa entre o menor e o maior
+ * valor do intervalo é pintada em tom claro e a média em tom escuro. O desenho é feito diretamente nos
+ * pixels de uma {@link BufferedImage} reutilizada entre os quadros, que só é recriada quando o tamanho muda.
+ * Enquanto a imagem continua válida, apenas as colunas dentro da área de recorte são recalculadas.
+ */
+class BinnedRenderer {
+
+    static final int BACKGROUND = Color.WHITE.getRGB();
+    static final int RANGE_COLOR = new Color(0x9DB4D6).getRGB();
+    static final int AVERAGE_COLOR = new Color(0x1F3F73).getRGB();
+
+    private BufferedImage image;
+    private int[] pixels;
+    private boolean valid;
+    private int lastMinValue;
+    private int lastMaxValue;
+
+    /**
+     * Descarta o conteúdo da imagem, forçando o recálculo de todas as colunas no próximo desenho.
+     * Deve ser chamado sempre que os valores forem trocados por outro array.
+     */
+    void reset() {
+        valid = false;
+    }
+
+    /**
+     * Desenha o array agrupando os elementos em colunas.
+     *
+     * @param g        O objeto Graphics usado para desenhar.
+     * @param values   Os valores do array.
+     * @param x        A posição horizontal da primeira coluna.
+     * @param width    A quantidade de colunas de pixels disponíveis.
+     * @param height   A altura do painel.
+     * @param minValue O menor valor do array.
+     * @param maxValue O maior valor do array.
+     */
+    void render(Graphics g, int[] values, int x, int width, int height, int minValue, int maxValue) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        int fromColumn = 0;
+        int toColumn = width;
+        if (ensureImage(width, height) && valid && minValue == lastMinValue && maxValue == lastMaxValue) {
+            //As colunas fora do recorte não mudaram desde o último desenho
+            Rectangle clip = g.getClipBounds();
+            if (clip != null) {
+                fromColumn = Math.max(0, clip.x - x);
+                toColumn = Math.min(width, clip.x + clip.width - x);
+            }
+        } else {
+            valid = true;
+            lastMinValue = minValue;
+            lastMaxValue = maxValue;
+        }
+
+        int n = values.length;
+        double range = Math.max(1, maxValue - minValue);
+        double scale = height * 0.8 / range;
+        double top = height * 0.1;
+        int zeroLine = clamp((int) (top + maxValue * scale), height);
+
+        for (int column = fromColumn; column < toColumn; column++) {
+            //Intervalo de elementos da coluna; com menos elementos que colunas, cada elemento ocupa várias colunas
+            int lo = (int) ((long) column * n / width);
+            int hi = Math.max(lo + 1, (int) ((long) (column + 1) * n / width));
+
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            long sum = 0;
+            for (int i = lo; i < hi; i++) {
+                int value = values[i];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                sum += value;
+            }
+            double average = (double) sum / (hi - lo);
+
+            fillColumn(column, width, 0, height, BACKGROUND);
+            int rangeTop = Math.min(clamp((int) (top + (maxValue - max) * scale), height), zeroLine);
+            int rangeBottom = Math.max(clamp((int) (top + (maxValue - min) * scale), height), zeroLine);
+            fillColumn(column, width, rangeTop, rangeBottom, RANGE_COLOR);
+
+            int averageY = clamp((int) (top + (maxValue - average) * scale), height);
+            fillColumn(column, width, Math.min(averageY, zeroLine), Math.max(averageY, zeroLine), AVERAGE_COLOR);
+        }
+
+        g.drawImage(image, x, 0, null);
+    }
+
+    /**
+     * Recria a imagem apenas quando o tamanho da área de desenho muda.
+     *
+     * @return true se a imagem existente foi mantida.
+     */
+    private boolean ensureImage(int width, int height) {
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pinta as linhas [fromY, toY) de uma coluna da imagem.
+     */
+    private void fillColumn(int column, int width, int fromY, int toY, int color) {
+        for (int y = fromY; y < toY; y++) {
+            pixels[y * width + column] = color;
+        }
+    }
+
+    private static int clamp(int y, int height) {
+        return Math.max(0, Math.min(height, y));
+    }
+}
@@ -0,0 +1,130 @@
+package Panel;
+
+/**
+ * Ritmo e medições da renderização ativa ({@link ActiveRenderer}): uma meta fixa de quadros por segundo.
+ *
+ * Cada quadro tem um instante de início previsto, um período depois do anterior. Quando um quadro termina
+ * depois do início previsto do seguinte, os instantes que já passaram são contados como quadros perdidos e
+ * o próximo quadro começa no primeiro instante ainda por vir, sem tentar recuperar o atraso. O tempo de
+ * trabalho de cada quadro (avançar a animação e desenhar) é acompanhado por uma média móvel, e a taxa real
+ * de quadros é medida a cada segundo. Todos os métodos devem ser chamados pela mesma thread.
+ */
+final class FramePacer {
+
+    /**
+     * Peso de cada novo quadro na média móvel do tempo de trabalho.
+     */
+    private static final double SMOOTHING = 0.1;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int targetFramesPerSecond;
+    private final long periodNanos;
+    private long deadline;
+    private long frames;
+    private long droppedFrames;
+    private double frameNanos;
+    private long windowStart;
+    private long windowFrames;
+    private double framesPerSecond;
+
+    /**
+     * Cria o ritmo para uma meta de quadros por segundo.
+     *
+     * @param targetFramesPerSecond A meta de quadros por segundo.
+     * @throws IllegalArgumentException Se a meta não for positiva.
+     */
+    FramePacer(int targetFramesPerSecond) {
+        if (targetFramesPerSecond <= 0) {
+            throw new IllegalArgumentException("A quantidade de quadros por segundo tem que ser maior que zero.");
+        }
+        this.targetFramesPerSecond = targetFramesPerSecond;
+        this.periodNanos = NANOS_PER_SECOND / targetFramesPerSecond;
+    }
+
+    /**
+     * Marca o início do primeiro quadro.
+     *
+     * @param nowNanos O instante atual, de {@link System#nanoTime()}.
+     */
+    void start(long nowNanos) {
+        deadline = nowNanos + periodNanos;
+        windowStart = nowNanos;
+    }
+
+    /**
+     * Registra o fim de um quadro e calcula quanto esperar até o início do próximo.
+     *
+     * @param startNanos O instante em que o quadro começou.
+     * @param nowNanos   O instante atual, em que o quadro terminou.
+     * @return O tempo de espera em nanossegundos.
+     */
+    long frameDone(long startNanos, long nowNanos) {
+        long work = nowNanos - startNanos;
+        frameNanos = frames == 0 ? work : frameNanos + SMOOTHING * (work - frameNanos);
+        frames++;
+
+        windowFrames++;
+        if (nowNanos - windowStart >= NANOS_PER_SECOND) {
+            framesPerSecond = windowFrames * (double) NANOS_PER_SECOND / (nowNanos - windowStart);
+            windowStart = nowNanos;
+            windowFrames = 0;
+        }
+
+        if (nowNanos > deadline) {
+            //Os instantes que passaram durante o quadro ficam sem quadro próprio
+            long missed = (nowNanos - deadline) / periodNanos + 1;
+            droppedFrames += missed;
+            deadline += missed * periodNanos;
+        }
+        long wait = deadline - nowNanos;
+        deadline += periodNanos;
+        return wait;
+    }
+
+    /**
+     * Obtém a meta de quadros por segundo.
+     *
+     * @return A meta informada na criação.
+     */
+    int getTargetFramesPerSecond() {
+        return targetFramesPerSecond;
+    }
+
+    /**
+     * Obtém a quantidade de quadros desenhados.
+     *
+     * @return Os quadros desde o início.
+     */
+    long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Obtém a quantidade de quadros perdidos: instantes previstos em que nenhum quadro começou porque o
+     * anterior ainda não tinha terminado.
+     *
+     * @return Os quadros perdidos desde o início.
+     */
+    long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Obtém a média móvel do tempo de trabalho de cada quadro.
+     *
+     * @return O tempo em milissegundos.
+     */
+    double getFrameMillis() {
+        return frameNanos / 1e6;
+    }
+
+    /**
+     * Obtém a taxa real de quadros, medida no último segundo completo.
+     *
+     * @return Os quadros por segundo, ou zero antes do primeiro segundo.
+     */
+    double getFramesPerSecond() {
+        return framesPerSecond;
+    }
+}
@@ -0,0 +1,139 @@
+package Panel;
+
+import Sorts.KeyType;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+
+/**
+ * Desenha quadros da ordenação em imagens, sem tela e sem componentes Swing, com o mesmo desenho do
+ * {@link SortingPanel}: uma barra por elemento com os rótulos, ou colunas agrupadas pelo {@link BinnedRenderer}
+ * quando os elementos não cabem na largura.
+ *
+ * As imagens são indexadas, com uma paleta formada apenas pelas cores usadas no desenho, o que deixa
+ * a codificação em PNG e GIF mais rápida e dispensa a redução de cores. Cada chamada de
+ * {@link #render(int[], int, int, String)} usa os seus próprios desenhistas, então vários quadros podem
+ * ser desenhados ao mesmo tempo, em threads diferentes.
+ */
+public class FrameRenderer {
+
+    /**
+     * Largura padrão dos quadros, a mesma do painel.
+     */
+    public static final int DEFAULT_WIDTH = 1470;
+
+    /**
+     * Altura padrão dos quadros, a mesma do painel.
+     */
+    public static final int DEFAULT_HEIGHT = 700;
+
+    private static final IndexColorModel PALETTE = createPalette();
+
+    private final Object[] elements;
+    private final int[] heights;
+    private final boolean charLabels;
+    private final int width;
+    private final int height;
+    private final int minValue;
+    private final int maxValue;
+
+    /**
+     * Cria o desenhista para o array informado, antes de ele ser ordenado.
+     *
+     * @param array   Os elementos antes da ordenação, indexados pelo identificador de valor.
+     * @param keyType O tipo dos elementos.
+     * @param width   A largura dos quadros, em pixels.
+     * @param height  A altura dos quadros, em pixels.
+     * @throws IllegalArgumentException Se o tamanho não deixar espaço para o desenho.
+     */
+    public FrameRenderer(Object[] array, KeyType keyType, int width, int height) {
+        if (width <= 2 * SortingPanel.MARGIN || height <= 0) {
+            throw new IllegalArgumentException("O tamanho dos quadros é pequeno demais.");
+        }
+        this.elements = array.clone();
+        this.heights = SortingPanel.toValues(array, keyType);
+        this.charLabels = keyType == KeyType.CHAR;
+        this.width = width;
+        this.height = height;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : heights) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.minValue = min;
+        this.maxValue = max;
+    }
+
+    /**
+     * Desenha um quadro.
+     *
+     * @param ids            O identificador de valor de cada posição: a primeira posição do array original
+     *                       que contém um valor igual.
+     * @param comparedFirst  A primeira posição destacada, ou -1.
+     * @param comparedSecond A segunda posição destacada, ou -1.
+     * @param caption        O texto exibido no canto superior esquerdo.
+     * @return A imagem do quadro.
+     */
+    public BufferedImage render(int[] ids, int comparedFirst, int comparedSecond, String caption) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, PALETTE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setFont(SortingPanel.LABEL_FONT);
+
+            int n = ids.length;
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = heights[ids[i]];
+            }
+            int totalSpace = width - 2 * SortingPanel.MARGIN;
+            if (BarRenderer.isBinned(n, totalSpace)) {
+                new BinnedRenderer().render(g, values, SortingPanel.MARGIN, totalSpace, height, minValue, maxValue);
+            } else if (n > 0) {
+                BarRenderer bars = new BarRenderer(g.getFontMetrics(SortingPanel.LABEL_FONT));
+                bars.setLabelSource(elements, charLabels);
+                bars.layout(n, totalSpace);
+                bars.render(g, new Rectangle(0, 0, width, height), values, ids, SortingPanel.MARGIN, height,
+                        minValue, maxValue, comparedFirst, comparedSecond);
+            }
+
+            g.setColor(Color.BLACK);
+            g.drawString(caption, SortingPanel.MARGIN, 20);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Monta a paleta com as cores usadas pelos desenhistas de barras e de colunas.
+     */
+    private static IndexColorModel createPalette() {
+        int[] rgbs = new int[BarRenderer.COLORS.length + 5];
+        rgbs[0] = Color.WHITE.getRGB();
+        rgbs[1] = Color.BLACK.getRGB();
+        rgbs[2] = BarRenderer.COMPARED_COLOR.getRGB();
+        rgbs[3] = BinnedRenderer.RANGE_COLOR;
+        rgbs[4] = BinnedRenderer.AVERAGE_COLOR;
+        for (int i = 0; i < BarRenderer.COLORS.length; i++) {
+            rgbs[5 + i] = BarRenderer.COLORS[i].getRGB();
+        }
+        //A tabela de cores do GIF tem que ter uma potência de dois de entradas; as que sobram repetem o branco
+        int size = 16;
+        byte[] red = new byte[size];
+        byte[] green = new byte[size];
+        byte[] blue = new byte[size];
+        for (int i = 0; i < size; i++) {
+            int rgb = i < rgbs.length ? rgbs[i] : rgbs[0];
+            red[i] = (byte) (rgb >> 16);
+            green[i] = (byte) (rgb >> 8);
+            blue[i] = (byte) rgb;
+        }
+        return new IndexColorModel(4, size, red, green, blue);
+    }
+}
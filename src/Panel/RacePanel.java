@@ -0,0 +1,112 @@
+package Panel;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Painel do modo de corrida: vários algoritmos ordenam cópias dos mesmos dados ao mesmo tempo,
+ * cada um desenhado em um {@link SortingPanel} próprio.
+ *
+ * Cada ordenação roda em uma thread virtual e grava as suas operações; um único {@link Timer}, na thread
+ * de desenho, reproduz a cada quadro as operações de todos os painéis. Com tempo por passo zero, cada
+ * painel reproduz tudo o que já foi gravado e a corrida compara a velocidade real dos algoritmos; com um
+ * tempo por passo, todos avançam no mesmo ritmo e a corrida compara a quantidade de operações.
+ */
+public class RacePanel extends JPanel implements AnimatedPanel {
+
+    private final List<SortingPanel> panels = new ArrayList<>();
+    private Timer timer;
+
+    /**
+     * Constrói um RacePanel com um fundo branco e um tamanho predefinido.
+     */
+    public RacePanel() {
+        setBackground(Color.WHITE);
+        setPreferredSize(new Dimension(1470, 700));
+    }
+
+    /**
+     * Configura os dados e os algoritmos da corrida, criando um painel por algoritmo.
+     *
+     * @param data       O array de dados; cada algoritmo ordena a sua própria cópia.
+     * @param algorithms Os códigos dos algoritmos (de {@link Sorts.SortAlgorithms}).
+     * @param order      A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
+     * @param labelType  O tipo dos dados ("n", "c", "l", "d" ou "s").
+     * @param pause      O tempo em milissegundos reservado a cada operação reproduzida (0 reproduz tudo a cada quadro).
+     * @param cutoff     O limite sequencial dos algoritmos paralelos.
+     * @param topK       A quantidade de elementos da ordenação parcial ("k"), ou zero se ela não estiver na corrida.
+     */
+    public void setData(Object[] data, String[] algorithms, String order, String labelType, double pause, int cutoff,
+                        int topK) {
+        removeAll();
+        panels.clear();
+
+        //Organiza os painéis em uma grade o mais quadrada possível
+        int columns = (int) Math.ceil(Math.sqrt(algorithms.length));
+        int rows = (algorithms.length + columns - 1) / columns;
+        setLayout(new GridLayout(rows, columns));
+        Dimension size = getPreferredSize();
+        for (String algorithm : algorithms) {
+            SortingPanel panel = new SortingPanel();
+            panel.setData(data.clone(), algorithm, order, labelType, pause, cutoff, topK);
+            panel.setShowStatus(true);
+            panel.setPreferredSize(new Dimension(size.width / columns, size.height / rows));
+            panel.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
+            panels.add(panel);
+            add(panel);
+        }
+    }
+
+    /**
+     * Inicia todas as ordenações, cada uma em uma thread virtual, e a reprodução compartilhada.
+     */
+    public void startRacing() {
+        beginAnimation();
+        timer = new Timer(StepScheduler.frameIntervalMillis(), event -> { //Dispara na thread de desenho
+            if (replayFrame()) {
+                timer.stop();
+            }
+        });
+        timer.start();
+    }
+
+    /**
+     * Inicia todas as ordenações, cada uma em uma thread virtual, sem iniciar a reprodução.
+     */
+    @Override
+    public void beginAnimation() {
+        for (int i = 0; i < panels.size(); i++) {
+            panels.get(i).begin(Thread.ofVirtual().name("sort-" + i));
+        }
+    }
+
+    /**
+     * Reproduz um quadro de todos os painéis, sem agendar nenhum redesenho.
+     *
+     * @return true quando todos tiverem terminado.
+     */
+    @Override
+    public boolean advanceFrame() {
+        boolean finished = true;
+        for (SortingPanel panel : panels) {
+            finished &= panel.advanceFrame();
+        }
+        return finished;
+    }
+
+    /**
+     * Reproduz um quadro de todos os painéis e agenda o redesenho do que mudou. Deve ser chamado na thread
+     * de desenho.
+     *
+     * @return true quando todos tiverem terminado.
+     */
+    private boolean replayFrame() {
+        boolean finished = true;
+        for (SortingPanel panel : panels) {
+            finished &= panel.replayFrame();
+        }
+        return finished;
+    }
+}
@@ -0,0 +1,184 @@
+package Panel;
+
+import OffHeap.IntSegment;
+import OffHeap.SegmentSort;
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.IntSummaryStatistics;
+import java.util.stream.LongStream;
+
+/**
+ * Painel que acompanha a ordenação de um array fora do heap ({@link IntSegment}), grande demais para ser
+ * copiado ou gravado operação por operação como no {@link SortingPanel}.
+ *
+ * A ordenação ({@link SegmentSort}) roda em segundo plano, sem rastreamento. A cada quadro, o painel lê do
+ * próprio segmento {@link #SAMPLES_PER_COLUMN} elementos igualmente espaçados por coluna de pixels, para um
+ * array reutilizado, e os desenha com o {@link BinnedRenderer}. As leituras acontecem enquanto a ordenação
+ * escreve, sem sincronização: cada inteiro é lido inteiro, mas um quadro pode misturar estados vizinhos da
+ * ordenação, o que não importa para a imagem. O mínimo e o máximo são calculados uma vez, antes do início,
+ * já que a ordenação apenas permuta os valores.
+ */
+public class SegmentPanel extends JPanel implements AnimatedPanel {
+
+    /**
+     * Quantidade de elementos lidos por coluna de pixels a cada quadro.
+     */
+    private static final int SAMPLES_PER_COLUMN = 32;
+
+    private IntSegment segment;
+    private SegmentSort segmentSort;
+    private String algorithmName;
+    private SortOrder order;
+    private int minValue;
+    private int maxValue;
+    private int[] samples = new int[0];
+    private final BinnedRenderer binnedRenderer = new BinnedRenderer();
+    private final FontMetrics labelMetrics;
+    private SortMetrics metrics;
+    private volatile boolean finished;
+    private long startTime;
+    private long elapsedTime;
+    private Timer timer;
+
+    /**
+     * Constrói o painel com um fundo branco e o mesmo tamanho predefinido do {@link SortingPanel}.
+     */
+    public SegmentPanel() {
+        setBackground(Color.WHITE);
+        setPreferredSize(new Dimension(1470, 700));
+        setFont(SortingPanel.LABEL_FONT);
+        labelMetrics = getFontMetrics(SortingPanel.LABEL_FONT);
+    }
+
+    /**
+     * Configura o array e o algoritmo que ordena as folhas.
+     *
+     * @param segment   O array a ser ordenado no lugar.
+     * @param algorithm O código do algoritmo (de {@link SortAlgorithms}) usado nas folhas do {@link SegmentSort}.
+     * @param order     A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
+     * @param cutoff    O limite sequencial dos algoritmos paralelos.
+     */
+    public void setData(IntSegment segment, String algorithm, String order, int cutoff) {
+        this.segment = segment;
+        this.order = SortOrder.fromString(order);
+        PrimitiveSortAlgorithm leafAlgorithm = SortAlgorithms.create(algorithm, cutoff);
+        this.segmentSort = new SegmentSort(leafAlgorithm);
+        this.algorithmName = leafAlgorithm.getClass().getSimpleName();
+
+        //Uma passagem paralela pelo segmento, sem copiá-lo
+        IntSummaryStatistics range = LongStream.range(0, segment.length()).parallel()
+                .mapToInt(segment::get).summaryStatistics();
+        minValue = range.getMin();
+        maxValue = range.getMax();
+        binnedRenderer.reset();
+    }
+
+    /**
+     * Inicia a ordenação em segundo plano e redesenha o painel a cada quadro até ela terminar.
+     */
+    public void startSorting() {
+        beginAnimation();
+        timer = new Timer(StepScheduler.frameIntervalMillis(), event -> { //Dispara na thread de desenho
+            boolean done = advanceFrame();
+            repaint();
+            if (done) {
+                timer.stop(); //O último quadro já mostra o array ordenado
+            }
+        });
+        timer.start();
+    }
+
+    /**
+     * Inicia a ordenação em segundo plano, sem iniciar o redesenho; um arquivo mapeado é gravado no disco
+     * ao fim da ordenação.
+     */
+    @Override
+    public void beginAnimation() {
+        metrics = new SortMetrics();
+        metrics.register("Segmento " + algorithmName);
+        finished = false;
+        startTime = System.currentTimeMillis();
+        elapsedTime = 0;
+        Thread.ofVirtual().name("sort").start(() -> {
+            metrics.start();
+            try {
+                segmentSort.sort(segment, order, metrics);
+                segment.force();
+            } finally {
+                metrics.stop();
+                metrics.unregister(); //Os contadores finais continuam no painel
+                finished = true;
+            }
+        });
+    }
+
+    /**
+     * Atualiza o tempo decorrido; as amostras são lidas a cada desenho.
+     *
+     * @return true quando a ordenação já terminou.
+     */
+    @Override
+    public boolean advanceFrame() {
+        boolean done = finished;
+        elapsedTime = System.currentTimeMillis() - startTime;
+        return done;
+    }
+
+    /**
+     * Pinta as colunas com as amostras lidas do segmento, o tempo decorrido e os contadores da ordenação.
+     *
+     * @param g O objeto Graphics usado para desenhar.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (segment == null) {
+            return;
+        }
+        int width = getWidth();
+        int totalSpace = width - 2 * SortingPanel.MARGIN;
+        if (totalSpace <= 0) {
+            return;
+        }
+
+        readSamples(totalSpace);
+        binnedRenderer.reset(); //As amostras mudam a cada quadro, então nenhuma coluna pode ser reaproveitada
+        binnedRenderer.render(g, samples, SortingPanel.MARGIN, totalSpace, getHeight(), minValue, maxValue);
+
+        g.setColor(Color.BLACK);
+        String timeString = String.format("Tempo decorrido: %.2f segundos", elapsedTime / 1000.0);
+        g.drawString(timeString, width - labelMetrics.stringWidth(timeString) - 10, 20);
+        g.drawString(String.format("%s: %,d elementos %s", algorithmName, segment.length(),
+                segment.isMapped() ? "no arquivo mapeado" : "na memória nativa"), SortingPanel.MARGIN, 20);
+        if (metrics != null) {
+            g.drawString(String.format("Comparações: %,d  Trocas: %,d  Escritas: %,d  Tempo ativo: %.2f ms",
+                            metrics.getComparisons(), metrics.getSwaps(), metrics.getWrites(),
+                            metrics.getActiveNanos() / 1e6),
+                    SortingPanel.MARGIN, 20 + labelMetrics.getHeight());
+        }
+    }
+
+    /**
+     * Lê do segmento os elementos igualmente espaçados desenhados neste quadro, no máximo
+     * {@link #SAMPLES_PER_COLUMN} por coluna; arrays menores são lidos inteiros.
+     */
+    private void readSamples(int columns) {
+        long length = segment.length();
+        int count = (int) Math.min(length, (long) columns * SAMPLES_PER_COLUMN);
+        if (samples.length != count) {
+            samples = new int[count];
+        }
+        if (count == length) {
+            segment.copyTo(0, samples, 0, count);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            samples[i] = segment.get(i * length / count);
+        }
+    }
+}
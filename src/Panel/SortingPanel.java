@@ -3,39 +3,86 @@ package Panel;
 import javax.swing.*;
 import java.awt.*;
 import java.util.Arrays;
-import java.util.Timer;
-import java.util.TimerTask;
-import Sorts.BubbleSort;
-import Sorts.InsertionSort;
-import Sorts.SelectionSort;
+import java.util.Comparator;
+import Sorts.AutoSort;
+import Sorts.KeyType;
+import Sorts.PartialSort;
 import Sorts.SortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+import Sorts.SortTracer;
+import Sorts.ThreeWayQuickSort;
+import Trace.ArrayView;
+import Trace.SnapshotReplayer;
+import Trace.SnapshotTracer;
+import Trace.TraceRecorder;
+import Trace.TraceReplayer;
 
 /**
  * A classe SortingPanel é um JPanel personalizado usado para visualizar algoritmos de ordenação.
  * Ela exibe um array de dados sendo ordenados, com opções para personalizar o algoritmo de ordenação,
  * a ordem e os rótulos.
+ *
+ * A ordenação roda em uma thread própria, sem pausas, e grava suas operações em um {@link TraceRecorder};
+ * o painel reproduz essas operações no seu próprio ritmo, a partir da thread de desenho. Sem tempo por passo,
+ * as operações não são gravadas: a ordenação publica uma cópia do array a cada quadro por meio de um
+ * {@link SnapshotTracer}, e nunca espera a animação. Em ambos os casos o painel desenha apenas a sua própria
+ * cópia do estado, alterada somente na thread de desenho. A cada quadro,
+ * apenas as barras alteradas e o relógio são redesenhados. Os contadores da ordenação (comparações, trocas,
+ * escritas e tempo ativo) são exibidos no canto do painel e registrados como MBean enquanto ela executa. No modo de corrida
+ * ({@link RacePanel}), o painel também exibe o algoritmo, o progresso e a taxa de operações reproduzidas.
+ * Na ordenação parcial ({@link PartialSort}), uma linha separa as k primeiras posições, onde a seleção
+ * leva os elementos escolhidos, do resto do array. Quando o algoritmo informa faixas de chaves iguais já na
+ * posição final ({@link ThreeWayQuickSort}), a última delas é marcada no pé do painel. Na escolha automática ({@link AutoSort}), o algoritmo
+ * escolhido e o motivo são exibidos abaixo dos contadores.
  */
-public class SortingPanel extends JPanel {
+public class SortingPanel extends JPanel implements AnimatedPanel {
+
+    static final Font LABEL_FONT = new Font("SansSerif", Font.PLAIN, 12);
+    static final int MARGIN = 20; // Margem das bordas
+    static final Color SELECTION_COLOR = Color.BLUE;
+    static final Color EQUAL_RANGE_COLOR = Color.ORANGE;
+    static final int EQUAL_RANGE_HEIGHT = 4; // Altura da faixa que marca as chaves iguais, no pé do painel
+
     private Object[] array;
+    private int[] values;
+    private int[] ids;
+    private int minValue;
+    private int maxValue;
+    private final FontMetrics labelMetrics;
+    private final Rectangle timeBounds = new Rectangle();
+    private final Rectangle statusBounds = new Rectangle();
+    private final Rectangle metricsBounds = new Rectangle();
+    private int metricsWidth;
+    private SortMetrics metrics;
+    private boolean showStatus;
+    private int statusWidth;
+    private boolean finished;
     private SortAlgorithm sortAlgorithm;
+    private int topK;
+    private String choiceString;
+    private AutoSort.Choice previousChoice; //A escolha de uma ordenação anterior, que não deve ser exibida
     private String order;
-    private String labelType;
-    private Color[] colors;
+    private KeyType keyType;
     private long startTime;
-    private int pause; // Campo para o tempo de pausa entre os passos de ordenação
+    private double pause; // Campo para o tempo de cada passo de ordenação, em milissegundos
     private Timer timer;
     private long elapsedTime;
+    private ArrayView replayer;
+    private StepScheduler scheduler;
+    private final BinnedRenderer binnedRenderer = new BinnedRenderer();
+    private final BarRenderer barRenderer;
 
     /**
      * Constrói um SortingPanel com um fundo branco e um tamanho predefinido.
-     * Inicializa um array de cores para as barras.
      */
     public SortingPanel() {
         setBackground(Color.WHITE);
         setPreferredSize(new Dimension(1470, 700));
-        colors = new Color[]{
-                Color.BLACK,Color.RED,Color.YELLOW,Color.CYAN,Color.PINK,Color.MAGENTA
-        };
+        setFont(LABEL_FONT);
+        labelMetrics = getFontMetrics(LABEL_FONT);
+        barRenderer = new BarRenderer(labelMetrics);
     }
 
     /**
@@ -45,6 +92,12 @@ public class SortingPanel extends JPanel {
      */
     public void setArray(Object[] array) {
         this.array = array;
+        this.replayer = null;
+        if (array.length > 0) {
+            this.keyType = KeyType.of(array[0]);
+        }
+        barRenderer.setLabelSource(array.clone(), keyType == KeyType.CHAR);
+        setValues(toValues(array, keyType), null);
         repaint();
     }
 
@@ -52,57 +105,269 @@ public class SortingPanel extends JPanel {
      * Configura os dados e o algoritmo de ordenação para o painel.
      *
      * @param data      O array de dados a ser ordenado.
-     * @param algorithm O algoritmo de ordenação a ser usado ("b" para BubbleSort, "i" para InsertionSort, "s" para SelectionSort).
+     * @param algorithm O algoritmo de ordenação a ser usado (código de {@link SortAlgorithms}, por exemplo "b" para BubbleSort).
      * @param order     A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
-     * @param labelType O tipo de rótulo a ser exibido nas barras ("n" para números, "c" para caracteres).
-     * @param pause     O tempo de pausa em milissegundos entre os passos de ordenação.
+     * @param labelType O tipo dos dados ("n" para números, "c" para caracteres, "l" para longs, "d" para doubles, "s" para strings).
+     * @param pause     O tempo em milissegundos reservado a cada operação reproduzida, possivelmente fracionário
+     *                  (0 reproduz tudo o que já foi gravado a cada quadro).
+     * @param cutoff    O limite sequencial dos algoritmos paralelos.
+     * @param topK      A quantidade de elementos da ordenação parcial ("k"), ou zero para os demais algoritmos.
      */
-    public void setData(Object[] data, String algorithm, String order, String labelType, int pause) {
+    public void setData(Object[] data, String algorithm, String order, String labelType, double pause, int cutoff,
+                        int topK) {
         this.array = data;
+        this.keyType = KeyType.fromCode(labelType);
+        barRenderer.setLabelSource(data.clone(), keyType == KeyType.CHAR);
+        setValues(toValues(data, keyType), null);
         this.order = order;
-        this.labelType = labelType;
         this.pause = pause; //Define o tempo de pausa
 
         //Configura o algoritmo de ordenação
-        switch (algorithm.toLowerCase()) {
-            case "b":
-                this.sortAlgorithm = new BubbleSort();
-                break;
-            case "i":
-                this.sortAlgorithm = new InsertionSort();
-                break;
-            case "s":
-                this.sortAlgorithm = new SelectionSort();
-                break;
-            default:
-                throw new IllegalArgumentException("Algoritmo não suportado");
-        }
+        this.sortAlgorithm = SortAlgorithms.create(algorithm, cutoff, topK);
+        //Só a ordenação parcial tem um prefixo separado; com k maior que o array, tudo é ordenado
+        this.topK = sortAlgorithm instanceof PartialSort
+                ? Math.min(((PartialSort) sortAlgorithm).getK(), data.length)
+                : 0;
     }
 
     /**
      * Inicia o processo de ordenação e atualiza a interface gráfica periodicamente para refletir os passos da ordenação.
+     * A ordenação grava as operações em segundo plano; a cada quadro da tela, o painel reproduz as operações
+     * correspondentes ao tempo real decorrido, de acordo com o tempo por passo configurado.
      */
     public void startSorting() {
+        beginAnimation();
+        timer = new Timer(StepScheduler.frameIntervalMillis(), event -> { //Dispara na thread de desenho
+            if (replayFrame()) {
+                timer.stop(); //Para o Timer quando a reprodução termina
+            }
+        });
+        timer.start();
+    }
+
+    /**
+     * Inicia a ordenação em uma thread virtual, sem iniciar a reprodução.
+     */
+    @Override
+    public void beginAnimation() {
+        begin(Thread.ofVirtual().name("sort"));
+    }
+
+    /**
+     * Reproduz as operações de um quadro sem agendar nenhum redesenho (ver {@link #advanceReplay()}); quem
+     * chama desenha o painel inteiro a cada quadro, então as posições alteradas são descartadas.
+     *
+     * @return true quando todas as operações já foram reproduzidas.
+     */
+    @Override
+    public boolean advanceFrame() {
+        boolean done = advanceReplay();
+        updateChoice();
+        replayer.clearDirty();
+        return done;
+    }
+
+    /**
+     * Inicia a ordenação em uma thread criada pelo construtor informado, sem iniciar a reprodução:
+     * quem chama passa a ser responsável por chamar, a cada quadro, {@link #replayFrame()} na thread de desenho
+     * ou {@link #advanceFrame()} na thread que desenha o painel inteiro.
+     *
+     * @param threadBuilder O construtor da thread que executa a ordenação.
+     */
+    void begin(Thread.Builder threadBuilder) {
+        metrics = new SortMetrics();
+        metrics.register(sortAlgorithm.getClass().getSimpleName());
+        SortOrder sortOrder = SortOrder.fromString(order);
+        SortTracer tracer;
+        Runnable finish;
+        if (pause == 0) {
+            //Sem ritmo por operação, o painel só precisa do estado do array a cada quadro
+            SnapshotTracer snapshotTracer = new SnapshotTracer(array, metrics);
+            replayer = new SnapshotReplayer(snapshotTracer, values, sortOrder.isDescending());
+            tracer = snapshotTracer;
+            finish = snapshotTracer::finish;
+        } else {
+            TraceRecorder recorder = new TraceRecorder(array, TraceRecorder.DEFAULT_CAPACITY, metrics);
+            replayer = new TraceReplayer(recorder, values, sortOrder.isDescending());
+            tracer = recorder;
+            finish = recorder::finish;
+        }
+        Comparator<Object> comparator = keyType.comparator(sortOrder);
+        if (sortAlgorithm instanceof AutoSort) {
+            //A escolha é exibida quando a thread de ordenação a fizer (ver updateChoice)
+            previousChoice = ((AutoSort) sortAlgorithm).getLastChoice();
+            choiceString = null;
+        }
+        setValues(replayer.getValues(), replayer.getIds());
+        scheduler = new StepScheduler(pause);
+        finished = false;
         startTime = System.currentTimeMillis(); //Marca o início da ordenação
         elapsedTime = 0; //Reseta o tempo decorrido
-        timer = new Timer(); //Cria um novo Timer
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                elapsedTime = System.currentTimeMillis() - startTime;
-                repaint(); //Repinta para atualizar o tempo
+
+        scheduler.start(System.nanoTime());
+        threadBuilder.start(() -> {
+            metrics.start();
+            try {
+                sortAlgorithm.sort(array, comparator, tracer);
+            } finally {
+                metrics.stop();
+                metrics.unregister(); //Os contadores finais continuam no painel
+                finish.run(); //Libera o painel para terminar a reprodução
             }
-        }, 0, 100); //Atualiza a cada 100 ms
+        });
+    }
 
-        new Thread(() -> {
-            sortAlgorithm.sort(array, order, pause);
-            timer.cancel(); //Para o Timer quando a ordenação termina
-            repaint();
-        }).start();
+    /**
+     * Define se o painel exibe, no canto superior esquerdo, o algoritmo, o progresso e a taxa de operações.
+     *
+     * @param showStatus true para exibir a linha de estado.
+     */
+    void setShowStatus(boolean showStatus) {
+        this.showStatus = showStatus;
     }
 
     /**
-     * Pinta o componente, desenhando as barras que representam os elementos do array, seus rótulos e o tempo decorrido.
+     * Troca os valores desenhados, recalculando o que só depende do conjunto de valores.
+     * Como a ordenação apenas permuta os valores, o mínimo, o máximo e os rótulos continuam válidos até a próxima troca.
+     *
+     * @param values Os valores a desenhar.
+     * @param ids    O identificador de valor de cada posição, ou null para usar a própria posição.
+     */
+    private void setValues(int[] values, int[] ids) {
+        this.values = values;
+        binnedRenderer.reset();
+        if (values == null) {
+            this.ids = null;
+            return;
+        }
+        if (ids == null) {
+            ids = new int[values.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = i;
+            }
+        }
+        this.ids = ids;
+
+        //Obtém os valores máximo e mínimo do array em uma única passagem
+        maxValue = Integer.MIN_VALUE;
+        minValue = Integer.MAX_VALUE;
+        for (int value : values) {
+            maxValue = Math.max(maxValue, value);
+            minValue = Math.min(minValue, value);
+        }
+    }
+
+    /**
+     * Reproduz as operações de um quadro e redesenha apenas as barras alteradas e o relógio.
+     * Deve ser chamado na thread de desenho.
+     *
+     * @return true quando todas as operações já foram reproduzidas.
+     */
+    boolean replayFrame() {
+        if (finished) {
+            return true;
+        }
+        if (advanceReplay()) {
+            updateChoice();
+            repaint(); //Remove o destaque da última comparação
+            return true;
+        }
+        if (updateChoice()) {
+            repaint(); //Exibe a escolha automática abaixo dos contadores
+        } else {
+            repaintIndices(replayer.getDirtyFrom(), replayer.getDirtyTo());
+        }
+        replayer.clearDirty();
+        repaintTime();
+        return false;
+    }
+
+    /**
+     * Reproduz as operações de um quadro e atualiza o tempo decorrido, sem chamar o Swing: as posições
+     * alteradas ficam acumuladas no reprodutor até quem desenha descartá-las.
+     *
+     * @return true quando todas as operações já foram reproduzidas.
+     */
+    private boolean advanceReplay() {
+        if (finished) {
+            return true;
+        }
+        replayer.advance(scheduler.stepsFor(System.nanoTime()));
+        elapsedTime = System.currentTimeMillis() - startTime;
+        finished = replayer.isFinished();
+        return finished;
+    }
+
+    /**
+     * Copia para o painel a escolha que a thread de ordenação fez na escolha automática, a mesma que ela está
+     * executando. Como a escolha é publicada antes da primeira operação, ela já está disponível quando a
+     * reprodução termina.
+     *
+     * @return true se a escolha acabou de ser copiada.
+     */
+    private boolean updateChoice() {
+        if (choiceString != null || !(sortAlgorithm instanceof AutoSort)) {
+            return false;
+        }
+        AutoSort.Choice choice = ((AutoSort) sortAlgorithm).getLastChoice();
+        if (choice == null || choice == previousChoice) {
+            return false;
+        }
+        choiceString = "Escolha automática: " + choice;
+        return true;
+    }
+
+    /**
+     * Agenda o redesenho da faixa horizontal que contém as posições [from, to].
+     */
+    private void repaintIndices(int from, int to) {
+        if (from > to) {
+            return;
+        }
+        int n = values.length;
+        int totalSpace = getWidth() - 2 * MARGIN;
+        int fromX;
+        int toX;
+        if (BarRenderer.isBinned(n, totalSpace)) {
+            fromX = MARGIN + (int) ((long) from * totalSpace / n);
+            toX = MARGIN + (int) ((long) (to + 1) * totalSpace / n) + 1;
+        } else {
+            barRenderer.layout(n, totalSpace);
+            int stride = barRenderer.getStride();
+            int spaceBetweenBars = barRenderer.getSpaceBetweenBars();
+            //Os rótulos centralizados podem avançar metade do espaçamento sobre as barras vizinhas
+            fromX = MARGIN + from * stride - spaceBetweenBars;
+            toX = MARGIN + (to + 1) * stride + spaceBetweenBars;
+        }
+        repaint(fromX, 0, toX - fromX, getHeight());
+    }
+
+    /**
+     * Redesenha imediatamente a região do relógio. O desenho é imediato para que essa região não seja unida
+     * à das barras alteradas, o que faria o RepaintManager redesenhar tudo o que fica entre as duas.
+     */
+    private void repaintTime() {
+        //O texto é alinhado à direita e só cresce, então a região vai do início do novo texto até a borda
+        int x = getWidth() - labelMetrics.stringWidth(formatTime()) - 10;
+        paintImmediately(x, 20 - labelMetrics.getAscent(), getWidth() - x,
+                labelMetrics.getAscent() + labelMetrics.getDescent());
+        //Os textos da esquerda podem encolher, então cada região cobre também a largura anterior
+        if (showStatus) {
+            int width = Math.max(statusWidth, labelMetrics.stringWidth(formatStatus()));
+            paintImmediately(MARGIN, 20 - labelMetrics.getAscent(), width,
+                    labelMetrics.getAscent() + labelMetrics.getDescent());
+        }
+        if (metrics != null) {
+            int width = Math.max(metricsWidth, labelMetrics.stringWidth(formatMetrics()));
+            paintImmediately(MARGIN, metricsBaseline() - labelMetrics.getAscent(), width,
+                    labelMetrics.getAscent() + labelMetrics.getDescent());
+        }
+    }
+
+    /**
+     * Pinta o componente, desenhando as barras que representam os elementos do array ({@link BarRenderer}),
+     * seus rótulos e o tempo decorrido. Quando não há espaço para uma barra por elemento (com ao menos um pixel de largura e um de espaçamento),
+     * os elementos são agrupados em colunas pelo {@link BinnedRenderer}. Apenas o que cruza a área de recorte é desenhado.
      *
      * @param g O objeto Graphics usado para desenhar.
      */
@@ -110,63 +375,178 @@ public class SortingPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        if (array == null || array.length == 0) {
+        if (values == null || values.length == 0) {
             return; // Evita pintar se o array estiver vazio
         }
 
         int width = getWidth();
         int height = getHeight();
-        int margin = 20; // Margem das bordas
+        int numBars = values.length; //Usa o comprimento do array como o número de barras
+        int totalSpace = width - 2 * MARGIN; // Espaço total disponível para as barras
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, width, height);
+        }
 
-        //Corrige a obtenção dos valores máximo e mínimo do array
-        int maxValue = Arrays.stream(array)
-                .mapToInt(e -> e instanceof Integer ? (Integer) e : (Character) e)
-                .max().orElse(1); // Obtém o valor máximo ou 1 se o array estiver vazio
+        g.setFont(LABEL_FONT);
 
-        int minValue = Arrays.stream(array)
-                .mapToInt(e -> e instanceof Integer ? (Integer) e : (Character) e)
-                .min().orElse(0); // Obtém o valor mínimo ou 0 se o array estiver vazio
+        if (BarRenderer.isBinned(numBars, totalSpace)) {
+            binnedRenderer.render(g, values, MARGIN, totalSpace, height, minValue, maxValue);
+        } else {
+            barRenderer.layout(numBars, totalSpace);
+            boolean highlight = replayer != null && !replayer.isFinished();
+            barRenderer.render(g, clip, values, ids, MARGIN, height, minValue, maxValue,
+                    highlight ? replayer.getComparedFirst() : -1, highlight ? replayer.getComparedSecond() : -1);
+        }
+        if (topK > 0 && topK < numBars) {
+            paintSelectionBoundary(g, numBars, totalSpace, height);
+        }
+        if (replayer != null && !replayer.isFinished() && replayer.getEqualFrom() >= 0) {
+            paintEqualRange(g, numBars, totalSpace, height);
+        }
+
+        //Exibe o tempo decorrido no canto superior direito
+        String timeString = formatTime();
+        int stringWidth = labelMetrics.stringWidth(timeString);
+        timeBounds.setBounds(width - stringWidth - 10, 20 - labelMetrics.getAscent(),
+                stringWidth, labelMetrics.getAscent() + labelMetrics.getDescent());
+        if (clip.intersects(timeBounds)) {
+            g.setColor(Color.BLACK);
+            g.drawString(timeString, timeBounds.x, 20);
+        }
+
+        //Exibe o algoritmo, o progresso e a taxa de operações no canto superior esquerdo
+        if (showStatus) {
+            String status = formatStatus();
+            statusWidth = labelMetrics.stringWidth(status);
+            statusBounds.setBounds(MARGIN, 20 - labelMetrics.getAscent(),
+                    statusWidth, labelMetrics.getAscent() + labelMetrics.getDescent());
+            if (clip.intersects(statusBounds)) {
+                g.setColor(Color.BLACK);
+                g.drawString(status, MARGIN, 20);
+            }
+        }
 
-        int numBars = array.length; //Usa o comprimento do array como o número de barras
-        int totalSpace = width - 2 * margin; // Espaço total disponível para as barras
+        //Exibe os contadores da ordenação abaixo da linha de estado
+        if (metrics != null) {
+            String metricsString = formatMetrics();
+            metricsWidth = labelMetrics.stringWidth(metricsString);
+            int baseline = metricsBaseline();
+            metricsBounds.setBounds(MARGIN, baseline - labelMetrics.getAscent(),
+                    metricsWidth, labelMetrics.getAscent() + labelMetrics.getDescent());
+            if (clip.intersects(metricsBounds)) {
+                g.setColor(Color.BLACK);
+                g.drawString(metricsString, MARGIN, baseline);
+            }
+        }
+        if (choiceString != null) {
+            g.setColor(Color.BLACK);
+            g.drawString(choiceString, MARGIN, metricsBaseline() + labelMetrics.getHeight());
+        }
+    }
 
-        //Ajusta a largura das barras e o espaçamento para garantir que todas as barras sejam visíveis
-        int barWidth = totalSpace / numBars; // Largura ajustada das barras
-        int spaceBetweenBars = Math.max(1, (totalSpace - (barWidth * numBars)) / (numBars - 1)); // Espaço entre as barras
+    /**
+     * Desenha a linha vertical entre as k primeiras posições e o resto do array, com a quantidade selecionada.
+     */
+    private void paintSelectionBoundary(Graphics g, int numBars, int totalSpace, int height) {
+        int x;
+        if (BarRenderer.isBinned(numBars, totalSpace)) {
+            x = MARGIN + (int) ((long) topK * totalSpace / numBars);
+        } else {
+            //A linha fica no meio do espaço entre a última barra selecionada e a seguinte
+            x = MARGIN + topK * barRenderer.getStride() - (barRenderer.getSpaceBetweenBars() + 1) / 2;
+        }
+        int top = metricsBaseline() + labelMetrics.getDescent();
+        g.setColor(SELECTION_COLOR);
+        g.drawLine(x, top, x, height);
+        g.drawString("Top " + topK, x + 4, top + labelMetrics.getAscent());
+    }
 
-        g.setFont(new Font("SansSerif", Font.PLAIN, 12)); // Ajusta o tamanho da fonte para caracteres
+    /**
+     * Desenha, no pé do painel, uma faixa sob as posições da última faixa de chaves iguais deixada na posição final.
+     */
+    private void paintEqualRange(Graphics g, int numBars, int totalSpace, int height) {
+        int from = replayer.getEqualFrom();
+        int to = replayer.getEqualTo();
+        int fromX;
+        int toX;
+        if (BarRenderer.isBinned(numBars, totalSpace)) {
+            fromX = MARGIN + (int) ((long) from * totalSpace / numBars);
+            toX = MARGIN + (int) ((long) (to + 1) * totalSpace / numBars);
+        } else {
+            fromX = MARGIN + from * barRenderer.getStride();
+            toX = MARGIN + to * barRenderer.getStride() + barRenderer.getStride() - barRenderer.getSpaceBetweenBars();
+        }
+        g.setColor(EQUAL_RANGE_COLOR);
+        g.fillRect(fromX, height - 2 * EQUAL_RANGE_HEIGHT, Math.max(1, toX - fromX), EQUAL_RANGE_HEIGHT);
+    }
 
-        //Calcula a linha de base para as barras
-        int zeroLine = (int) (height * 0.1 + (maxValue / (double) (maxValue - minValue)) * (height * 0.8));
+    /**
+     * Formata o tempo decorrido exibido no canto do painel.
+     */
+    private String formatTime() {
+        return String.format("Tempo decorrido: %.2f segundos", elapsedTime / 1000.0);
+    }
 
-        for (int i = 0; i < numBars; i++) {
-            int value = array[i] instanceof Integer ? (Integer) array[i] : (Character) array[i];
-            int barHeight = (int) ((double) Math.abs(value) / (maxValue - minValue) * (height * 0.8)); // Dimensiona a altura das barras
+    /**
+     * Formata a linha de estado do modo de corrida: o algoritmo, a fração de pares vizinhos já em ordem
+     * e a média de operações reproduzidas por segundo.
+     */
+    private String formatStatus() {
+        String name = sortAlgorithm.getClass().getSimpleName();
+        if (replayer == null) {
+            return name;
+        }
+        double operationsPerSecond = elapsedTime > 0 ? replayer.getReplayedOperations() * 1000.0 / elapsedTime : 0;
+        return String.format("%s: %.0f%% ordenado, %,.0f ops/s",
+                name, replayer.getOrderedFraction() * 100, operationsPerSecond);
+    }
 
-            int x = margin + i * (barWidth + spaceBetweenBars); // Calcula a posição x de cada barra
-            int y = value >= 0 ? zeroLine - barHeight : zeroLine; // Calcula a posição y de cada barra
+    /**
+     * Formata os contadores da ordenação: comparações, trocas, escritas e o tempo ativo (sem as esperas pela animação).
+     */
+    private String formatMetrics() {
+        return String.format("Comparações: %,d  Trocas: %,d  Escritas: %,d  Tempo ativo: %.2f ms",
+                metrics.getComparisons(), metrics.getSwaps(), metrics.getWrites(), metrics.getActiveNanos() / 1e6);
+    }
 
-            //Define a cor das barras
-            g.setColor(colors[i % colors.length]);
-            g.fillRect(x, y, barWidth, barHeight);
+    /**
+     * Obtém a linha de base dos contadores: a primeira linha do painel, ou a segunda no modo de corrida.
+     */
+    private int metricsBaseline() {
+        return showStatus ? 20 + labelMetrics.getHeight() : 20;
+    }
 
-            //Exibe o rótulo de acordo com o tipo
-            g.setColor(Color.BLACK);
-            if (labelType.equalsIgnoreCase("n")) {
-                // Exibe os valores numéricos acima das barras (ou abaixo para negativos)
-                String valueString = String.valueOf(value);
-                int labelY = value >= 0 ? y - 5 : y + barHeight + 15;
-                g.drawString(valueString, x + barWidth / 2 - g.getFontMetrics().stringWidth(valueString) / 2, labelY);
-            } else if (labelType.equalsIgnoreCase("c")) {
-                //Exibe os caracteres acima das barras
-                String valueString = String.valueOf((char) value);
-                g.drawString(valueString, x + barWidth / 2 - g.getFontMetrics().stringWidth(valueString) / 2, y - 5);
+    /**
+     * Converte os elementos do array nos valores inteiros desenhados. Inteiros e caracteres são desenhados
+     * pelo próprio valor; os demais tipos, pela posição na ordem crescente (começando em 1, com empates
+     * na mesma posição), já que seus valores não cabem na escala do painel.
+     *
+     * @param array   Os elementos do array.
+     * @param keyType O tipo dos elementos, ou null para inteiros e caracteres.
+     * @return O valor desenhado para cada posição.
+     */
+    static int[] toValues(Object[] array, KeyType keyType) {
+        int[] values = new int[array.length];
+        if (keyType == null || keyType.isIntegral()) {
+            for (int i = 0; i < array.length; i++) {
+                values[i] = array[i] instanceof Integer ? (Integer) array[i] : (Character) array[i];
             }
+            return values;
         }
-
-        //Exibe o tempo decorrido no canto superior direito
-        g.setColor(Color.BLACK);
-        String timeString = String.format("Tempo decorrido: %.2f segundos", elapsedTime / 1000.0);
-        g.drawString(timeString, width - g.getFontMetrics().stringWidth(timeString) - 10, 20);
+        Comparator<Object> comparator = keyType.comparator(SortOrder.AZ);
+        Integer[] indices = new Integer[array.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> comparator.compare(array[a], array[b]));
+        int rank = 0;
+        for (int i = 0; i < indices.length; i++) {
+            if (i == 0 || comparator.compare(array[indices[i - 1]], array[indices[i]]) != 0) {
+                rank++;
+            }
+            values[indices[i]] = rank;
+        }
+        return values;
     }
 }
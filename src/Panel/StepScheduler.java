@@ -0,0 +1,88 @@
+package Panel;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+
+/**
+ * Decide quantas operações da ordenação são reproduzidas em cada quadro da animação.
+ *
+ * O ritmo é medido com {@link System#nanoTime()}: a cada quadro, o tempo real decorrido desde o quadro anterior
+ * é convertido em operações, e a fração que sobra é guardada para o próximo. Assim o ritmo não depende da
+ * precisão do timer, e a quantidade de operações por quadro pode ser fracionária (uma operação a cada
+ * vários quadros) ou chegar a milhares.
+ */
+class StepScheduler {
+
+    /**
+     * Frequência usada quando a da tela não pode ser obtida, em quadros por segundo.
+     */
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    private final double stepsPerNano;
+    private long lastNanos;
+    private double budget;
+
+    /**
+     * Cria o agendador para um tempo por operação.
+     *
+     * @param pauseMillis O tempo em milissegundos reservado a cada operação; zero reproduz tudo o que estiver disponível.
+     * @throws IllegalArgumentException Se o tempo for negativo.
+     */
+    StepScheduler(double pauseMillis) {
+        if (pauseMillis < 0) {
+            throw new IllegalArgumentException("A pausa não pode ser negativa.");
+        }
+        this.stepsPerNano = pauseMillis == 0 ? 0 : 1 / (pauseMillis * 1_000_000);
+    }
+
+    /**
+     * Marca o início da animação.
+     *
+     * @param nowNanos O instante atual, de {@link System#nanoTime()}.
+     */
+    void start(long nowNanos) {
+        lastNanos = nowNanos;
+        budget = 0;
+    }
+
+    /**
+     * Calcula quantas operações devem ser reproduzidas no quadro atual.
+     * Operações que não puderem ser reproduzidas (porque ainda não foram gravadas) não se acumulam.
+     *
+     * @param nowNanos O instante atual, de {@link System#nanoTime()}.
+     * @return A quantidade de operações do quadro.
+     */
+    int stepsFor(long nowNanos) {
+        if (stepsPerNano == 0) {
+            return Integer.MAX_VALUE;
+        }
+        budget += (nowNanos - lastNanos) * stepsPerNano;
+        lastNanos = nowNanos;
+        int steps = (int) Math.min(budget, Integer.MAX_VALUE);
+        budget -= steps;
+        return steps;
+    }
+
+    /**
+     * Obtém o intervalo entre quadros correspondente à frequência de atualização da tela.
+     *
+     * @return O intervalo em milissegundos.
+     */
+    static int frameIntervalMillis() {
+        return Math.max(1, Math.round(1000f / refreshRate()));
+    }
+
+    /**
+     * Obtém a frequência de atualização da tela.
+     *
+     * @return A frequência em quadros por segundo, ou {@link #DEFAULT_REFRESH_RATE} se ela não puder ser obtida.
+     */
+    static int refreshRate() {
+        int refreshRate = DisplayMode.REFRESH_RATE_UNKNOWN;
+        if (!GraphicsEnvironment.isHeadless()) {
+            refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        }
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : refreshRate;
+    }
+}
@@ -0,0 +1,159 @@
+package Service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Converte os corpos das requisições e respostas do serviço em arrays de inteiros, nos mesmos formatos
+ * aceitos pela linha de comando: binário (inteiros de 32 bits little-endian, sem cabeçalho) ou texto
+ * (valores separados por vírgula, ponto e vírgula, espaço ou quebra de linha). Os valores de texto são
+ * convertidos diretamente dos bytes, sem criar uma String por valor.
+ */
+final class IntCodec {
+
+    /**
+     * Maior quantidade de caracteres de um inteiro de 32 bits ("-2147483648").
+     */
+    private static final int MAX_DIGITS = 11;
+
+    private IntCodec() {
+    }
+
+    /**
+     * Lê inteiros de 32 bits little-endian.
+     *
+     * @param body Os bytes recebidos.
+     * @return Os valores.
+     * @throws IllegalArgumentException Se o tamanho não for múltiplo de 4 bytes.
+     */
+    static int[] readBinary(byte[] body) {
+        if (body.length % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("O tamanho do corpo não é múltiplo de " + Integer.BYTES + " bytes.");
+        }
+        int[] values = new int[body.length / Integer.BYTES];
+        ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Escreve os valores como inteiros de 32 bits little-endian.
+     *
+     * @param values Os valores.
+     * @return Os bytes da resposta.
+     */
+    static byte[] writeBinary(int[] values) {
+        byte[] body = new byte[values.length * Integer.BYTES];
+        ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(values);
+        return body;
+    }
+
+    /**
+     * Lê inteiros em texto.
+     *
+     * @param body Os bytes recebidos, em ASCII ou UTF-8.
+     * @return Os valores, na ordem em que aparecem.
+     * @throws IllegalArgumentException Se algum valor tiver formato inválido ou não couber em um int.
+     */
+    static int[] readCsv(byte[] body) {
+        //Cada valor ocupa ao menos dois bytes (o dígito e o separador), exceto o último
+        int[] values = new int[body.length / 2 + 1];
+        int count = 0;
+        int start = -1;
+        for (int i = 0; i <= body.length; i++) {
+            if (i == body.length || isSeparator(body[i])) {
+                if (start >= 0) {
+                    values[count++] = parseInt(body, start, i);
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Escreve os valores separados por vírgula, no mesmo formato do argumento "v", seguidos de uma quebra de linha.
+     *
+     * @param values Os valores.
+     * @return Os bytes da resposta, em ASCII.
+     */
+    static byte[] writeCsv(int[] values) {
+        byte[] body = new byte[values.length * (MAX_DIGITS + 1) + 1];
+        byte[] digits = new byte[MAX_DIGITS];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                body[length++] = ',';
+            }
+            //Gera os dígitos do fim para o começo, em negativo, que comporta Integer.MIN_VALUE
+            int value = values[i];
+            int remaining = value < 0 ? value : -value;
+            int d = digits.length;
+            do {
+                digits[--d] = (byte) ('0' - remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            if (value < 0) {
+                digits[--d] = '-';
+            }
+            System.arraycopy(digits, d, body, length, digits.length - d);
+            length += digits.length - d;
+        }
+        body[length++] = '\n';
+        return Arrays.copyOf(body, length);
+    }
+
+    private static boolean isSeparator(byte b) {
+        switch (b) {
+            case ',':
+            case ';':
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converte os dígitos ASCII em [from, to), com sinal opcional, em um int.
+     *
+     * @throws IllegalArgumentException Se o formato for inválido ou o valor não couber em um int.
+     */
+    private static int parseInt(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        if (i == to) {
+            throw invalidNumber(bytes, from, to);
+        }
+        //Acumula em negativo, que comporta Integer.MIN_VALUE
+        int value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || value < (Integer.MIN_VALUE + digit) / 10) {
+                throw invalidNumber(bytes, from, to);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Integer.MIN_VALUE) {
+                throw invalidNumber(bytes, from, to);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalidNumber(byte[] bytes, int from, int to) {
+        return new IllegalArgumentException(
+                "Formato de número inválido para: " + new String(bytes, from, to - from, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,167 @@
+package Service;
+
+import Sorts.PrimitiveSortAlgorithm;
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Agrupa as requisições pequenas e simultâneas de um mesmo algoritmo em lotes, ordenados de uma vez.
+ *
+ * As requisições entram em uma fila atendida por uma thread por núcleo. Cada thread pega a primeira
+ * requisição da fila e todas as que chegaram enquanto ela estava ocupada, até {@link #MAX_BATCH_ELEMENTS}
+ * elementos; nada espera de propósito, então com pouca carga cada lote tem uma única requisição, e os lotes
+ * crescem sozinhos quando as requisições chegam mais rápido do que são atendidas.
+ *
+ * Os valores do lote são ordenados juntos como chaves de 64 bits: o índice da requisição nos 32 bits altos
+ * e o valor, com o sinal invertido (e todos os bits invertidos na ordem decrescente), nos 32 bits baixos.
+ * Ordenar as chaves em ordem crescente separa as requisições e ordena cada uma na sua própria ordem, com
+ * uma única chamada ao algoritmo no lugar de uma por requisição. Os algoritmos quadráticos não ganham
+ * nada ao juntar os arrays, então neles as requisições do lote são ordenadas uma a uma.
+ */
+class SortBatcher {
+
+    /**
+     * Quantidade máxima de elementos somados das requisições de um lote.
+     */
+    static final int MAX_BATCH_ELEMENTS = 1 << 20;
+
+    /**
+     * Uma requisição na fila: o array, ordenado no lugar, e o tamanho do lote que a atendeu.
+     */
+    private static final class Job {
+
+        private final int[] values;
+        private final SortOrder order;
+        private final CompletableFuture<Integer> done = new CompletableFuture<>();
+
+        Job(int[] values, SortOrder order) {
+            this.values = values;
+            this.order = order;
+        }
+    }
+
+    private final String algorithm;
+    private final int cutoff;
+    private final boolean quadratic;
+    private final SortMetrics metrics;
+    private final LinkedBlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * Cria o agrupador e inicia as suas threads.
+     *
+     * @param algorithm O código do algoritmo (de {@link SortAlgorithms}).
+     * @param cutoff    O limite sequencial dos algoritmos paralelos.
+     * @param metrics   Os contadores que recebem as operações de todos os lotes.
+     * @param workers   A quantidade de threads que ordenam os lotes.
+     */
+    SortBatcher(String algorithm, int cutoff, SortMetrics metrics, int workers) {
+        this.algorithm = algorithm;
+        this.cutoff = cutoff;
+        this.quadratic = SortAlgorithms.isQuadratic(algorithm);
+        this.metrics = metrics;
+        for (int i = 0; i < workers; i++) {
+            Thread.ofPlatform().daemon().name("batch-" + algorithm + "-" + i).start(this::work);
+        }
+    }
+
+    /**
+     * Ordena o array no lugar, junto com as demais requisições que estiverem na fila, e espera o resultado.
+     *
+     * @param values O array a ordenar, com no máximo {@link #MAX_BATCH_ELEMENTS} elementos.
+     * @param order  A direção da ordenação.
+     * @return A quantidade de requisições ordenadas no mesmo lote, incluindo esta.
+     * @throws InterruptedException Se a thread for interrompida enquanto espera.
+     */
+    int sort(int[] values, SortOrder order) throws InterruptedException {
+        Job job = new Job(values, order);
+        queue.put(job);
+        try {
+            return job.done.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Laço de cada thread: monta um lote com o que estiver na fila e o ordena.
+     */
+    private void work() {
+        Job carry = null;
+        List<Job> batch = new ArrayList<>();
+        while (true) {
+            try {
+                Job first = carry != null ? carry : queue.take();
+                carry = null;
+                batch.add(first);
+                long total = first.values.length;
+                Job next;
+                while ((next = queue.poll()) != null) {
+                    if (total + next.values.length > MAX_BATCH_ELEMENTS) {
+                        //Fica para o próximo lote desta mesma thread
+                        carry = next;
+                        break;
+                    }
+                    batch.add(next);
+                    total += next.values.length;
+                }
+                sortBatch(batch, (int) total);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                for (Job job : batch) {
+                    job.done.completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Ordena as requisições de um lote e libera quem espera por elas.
+     */
+    private void sortBatch(List<Job> batch, int total) {
+        PrimitiveSortAlgorithm sorter = SortAlgorithms.create(algorithm, cutoff);
+        int size = batch.size();
+        if (size == 1 || quadratic) {
+            for (Job job : batch) {
+                sorter.sort(job.values, job.order, metrics);
+            }
+        } else {
+            long[] keys = new long[total];
+            int k = 0;
+            for (int j = 0; j < size; j++) {
+                Job job = batch.get(j);
+                long tag = (long) j << 32;
+                int flip = job.order.isDescending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+                for (int value : job.values) {
+                    keys[k++] = tag | ((value ^ flip) & 0xFFFFFFFFL);
+                }
+            }
+            sorter.sort(keys, SortOrder.AZ, metrics);
+            //As chaves de cada requisição ficaram juntas e na mesma sequência das requisições
+            k = 0;
+            for (Job job : batch) {
+                int flip = job.order.isDescending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+                int[] values = job.values;
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = (int) keys[k++] ^ flip;
+                }
+            }
+        }
+        for (Job job : batch) {
+            job.done.complete(size);
+        }
+    }
+}
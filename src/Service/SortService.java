@@ -0,0 +1,214 @@
+package Service;
+
+import Sorts.SortAlgorithms;
+import Sorts.SortMetrics;
+import Sorts.SortOrder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serviço HTTP local que ordena arrays de inteiros, para muitas ordenações pequenas sem pagar a
+ * inicialização da JVM a cada uma: o processo continua aberto e os caminhos mais usados continuam compilados.
+ *
+ * O serviço responde a {@code POST /sort}. O corpo é binário (inteiros de 32 bits little-endian, com
+ * {@code Content-Type: application/octet-stream}) ou texto (valores separados por vírgula, espaço ou quebra
+ * de linha, com qualquer outro tipo), e a resposta vem no mesmo formato. Os parâmetros {@code a} e {@code o}
+ * da URL escolhem o algoritmo e a ordem de cada requisição. Cada requisição é tratada em uma thread virtual;
+ * as pequenas são agrupadas em lotes por um {@link SortBatcher} por algoritmo, e as grandes são ordenadas
+ * diretamente na thread da requisição. O cabeçalho {@code X-Batch-Size} da resposta informa quantas
+ * requisições foram ordenadas no mesmo lote. Os contadores de cada algoritmo são registrados como MBean.
+ */
+public class SortService {
+
+    /**
+     * Porta padrão do serviço.
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Maior quantidade de elementos de uma requisição agrupada em lotes; as maiores são ordenadas sozinhas.
+     */
+    static final int BATCH_THRESHOLD = 1 << 14;
+
+    /**
+     * Maior corpo de requisição aceito, em bytes.
+     */
+    private static final int MAX_BODY_BYTES = 64 << 20;
+
+    private static final String BINARY_TYPE = "application/octet-stream";
+    private static final String TEXT_TYPE = "text/csv; charset=us-ascii";
+
+    private final String defaultAlgorithm;
+    private final SortOrder defaultOrder;
+    private final int cutoff;
+    private final int workers;
+    private final Map<String, SortBatcher> batchers = new ConcurrentHashMap<>();
+    private final Map<String, SortMetrics> metrics = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Cria o serviço, ainda parado.
+     *
+     * @param defaultAlgorithm O algoritmo das requisições que não informam o parâmetro "a".
+     * @param defaultOrder     A ordem das requisições que não informam o parâmetro "o".
+     * @param cutoff           O limite sequencial dos algoritmos paralelos.
+     */
+    public SortService(String defaultAlgorithm, SortOrder defaultOrder, int cutoff) {
+        this.defaultAlgorithm = defaultAlgorithm;
+        this.defaultOrder = defaultOrder;
+        this.cutoff = cutoff;
+        this.workers = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Inicia o serviço no endereço local.
+     *
+     * @param port A porta; zero escolhe uma porta livre.
+     * @return O endereço em que o serviço está escutando.
+     * @throws IOException Se a porta não puder ser aberta.
+     */
+    public InetSocketAddress start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/sort", this::handle);
+        server.start();
+        return server.getAddress();
+    }
+
+    /**
+     * Para o serviço, esperando as requisições em andamento por até o tempo informado.
+     *
+     * @param delaySeconds O tempo máximo de espera, em segundos.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.close();
+    }
+
+    /**
+     * Atende uma requisição, respondendo 400 para dados ou parâmetros inválidos e 500 se a ordenação falhar.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equalsIgnoreCase("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Use POST para enviar os valores.");
+                return;
+            }
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                sendError(exchange, 413, "O corpo excede " + MAX_BODY_BYTES + " bytes.");
+                return;
+            }
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            boolean binary = contentType != null && contentType.toLowerCase().startsWith(BINARY_TYPE);
+
+            int[] values;
+            String algorithm;
+            SortOrder order;
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                algorithm = query.getOrDefault("a", defaultAlgorithm).toLowerCase();
+                SortAlgorithms.create(algorithm, cutoff); //Valida o código antes de criar o agrupador
+                order = query.containsKey("o") ? SortOrder.fromString(query.get("o")) : defaultOrder;
+                values = binary ? IntCodec.readBinary(body) : IntCodec.readCsv(body);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            int batchSize;
+            try {
+                batchSize = sort(values, algorithm, order);
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, "Falha na ordenação: " + e);
+                return;
+            }
+
+            byte[] response = binary ? IntCodec.writeBinary(values) : IntCodec.writeCsv(values);
+            exchange.getResponseHeaders().set("Content-Type", binary ? BINARY_TYPE : TEXT_TYPE);
+            exchange.getResponseHeaders().set("X-Batch-Size", Integer.toString(batchSize));
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ordena os valores no lugar: em lote se a requisição for pequena, ou diretamente na thread atual.
+     *
+     * @return A quantidade de requisições ordenadas junto com esta.
+     */
+    private int sort(int[] values, String algorithm, SortOrder order) throws InterruptedException {
+        SortMetrics algorithmMetrics = metrics.computeIfAbsent(algorithm, code -> {
+            SortMetrics created = new SortMetrics();
+            created.register("Serviço " + SortAlgorithms.create(code, cutoff).getClass().getSimpleName());
+            return created;
+        });
+        if (values.length > BATCH_THRESHOLD) {
+            SortAlgorithms.create(algorithm, cutoff).sort(values, order, algorithmMetrics);
+            return 1;
+        }
+        SortBatcher batcher = batchers.computeIfAbsent(algorithm,
+                code -> new SortBatcher(code, cutoff, algorithmMetrics, workers));
+        return batcher.sort(values, order);
+    }
+
+    /**
+     * Lê o corpo inteiro da requisição.
+     *
+     * @return Os bytes do corpo, ou null se ele for maior que {@link #MAX_BODY_BYTES}.
+     */
+    private static byte[] readBody(InputStream in) throws IOException {
+        byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+        return body.length > MAX_BODY_BYTES ? null : body;
+    }
+
+    /**
+     * Separa os parâmetros da URL ("a=q&o=ZA") em um mapa.
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Responde com um código de erro e a mensagem em texto.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] response = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package Sorts;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escolha automática do algoritmo: a cada chamada, o array é analisado por amostragem ({@link InputProfile})
+ * e ordenado pelo algoritmo mais adequado ao que foi encontrado, nesta ordem de prioridade:
+ *
+ * <ul>
+ *     <li>Insertion Sort ("i") para arrays muito pequenos, ou quando a amostra é o array inteiro e as
+ *     inversões contadas não passam do tamanho do array, já que ele custa O(n + inversões);</li>
+ *     <li>ordenação híbrida ("h") quando a amostra de um array maior está quase em ordem: as posições fora
+ *     da amostra podem esconder muitas inversões, e a detecção de sequências naturais continua barata
+ *     nesse caso, ao contrário do Insertion Sort;</li>
+ *     <li>Counting Sort ("c") para chaves inteiras em um intervalo pequeno;</li>
+ *     <li>ordenação híbrida ("h") quando as sequências naturais, em ordem ou invertidas, são longas, o que
+ *     ela intercala em O(n log k) (nos arrays grandes, só quando elas são poucas, já que a intercalação
+ *     é sequencial);</li>
+ *     <li>ordenação híbrida para os arrays pequenos demais para compensar as threads;</li>
+ *     <li>Radix Sort paralelo ("r") para as demais chaves inteiras, Quick Sort paralelo em três vias ("t")
+ *     quando há poucas chaves distintas e Merge Sort paralelo ("m") nos outros casos.</li>
+ * </ul>
+ *
+ * A análise custa O(s) comparações para uma amostra de s elementos, contadas junto com as do algoritmo
+ * escolhido, e cada algoritmo é criado uma única vez por instância. A última escolha fica disponível em
+ * {@link #getLastChoice()}; o motivo só é formatado quando é lido.
+ */
+public class AutoSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho até o qual o array é sempre ordenado com Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Comprimento médio mínimo das sequências naturais para que a ordenação híbrida as intercale.
+     */
+    private static final int MIN_AVERAGE_RUN_LENGTH = 32;
+
+    /**
+     * Quantidade máxima de sequências naturais intercaladas pela ordenação híbrida nos arrays grandes o
+     * bastante para os algoritmos paralelos.
+     */
+    private static final int MAX_PARALLEL_RUNS = 16;
+
+    /**
+     * Intervalo de valores sempre ordenado por contagem, como no {@link CountingSort}.
+     */
+    private static final long SMALL_RANGE = 1 << 16;
+
+    /**
+     * Proporção de chaves distintas na amostra abaixo da qual as chaves são consideradas repetidas.
+     */
+    private static final double FEW_DISTINCT_RATIO = 0.05;
+
+    /**
+     * Quantidade de blocos do limite sequencial a partir da qual os algoritmos paralelos compensam.
+     */
+    private static final int PARALLEL_BLOCKS = 8;
+
+    private final int cutoff;
+    private final Map<String, PrimitiveSortAlgorithm> algorithms = new ConcurrentHashMap<>();
+    private volatile Choice lastChoice;
+
+    /**
+     * Cria a escolha automática com o limite sequencial padrão.
+     */
+    public AutoSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria a escolha automática com um limite sequencial específico, repassado aos algoritmos paralelos.
+     *
+     * @param cutoff Quantidade mínima de elementos de cada bloco processado em paralelo.
+     */
+    public AutoSort(int cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Algoritmo escolhido para um array e o motivo da escolha.
+     */
+    public static final class Choice {
+        private final String code;
+        private final PrimitiveSortAlgorithm algorithm;
+        private final String reasonFormat;
+        private final Object[] reasonArguments;
+
+        private Choice(String code, PrimitiveSortAlgorithm algorithm, String reasonFormat, Object... reasonArguments) {
+            this.code = code;
+            this.algorithm = algorithm;
+            this.reasonFormat = reasonFormat;
+            this.reasonArguments = reasonArguments;
+        }
+
+        /**
+         * Obtém o código do algoritmo escolhido (de {@link SortAlgorithms}).
+         *
+         * @return O código do algoritmo.
+         */
+        public String getCode() {
+            return code;
+        }
+
+        /**
+         * Obtém o algoritmo escolhido.
+         *
+         * @return A instância do algoritmo, compartilhada pelas escolhas da mesma {@link AutoSort}.
+         */
+        public PrimitiveSortAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * Obtém o motivo da escolha, formatado a cada chamada.
+         *
+         * @return As características do array que levaram à escolha.
+         */
+        public String getReason() {
+            return String.format(reasonFormat, reasonArguments);
+        }
+
+        @Override
+        public String toString() {
+            return algorithm.getClass().getSimpleName() + " (" + code + "): " + getReason();
+        }
+    }
+
+    /**
+     * Escolhe o algoritmo para o perfil de um array.
+     *
+     * @param profile O perfil estimado do array.
+     * @return O algoritmo escolhido e o motivo.
+     */
+    public Choice choose(InputProfile profile) {
+        int n = profile.getLength();
+        if (n <= INSERTION_THRESHOLD) {
+            return choice("i", "poucos elementos (%d)", n);
+        }
+        long inversions = profile.getEstimatedInversions();
+        if (inversions <= n) {
+            if (profile.isExact()) {
+                return choice("i", "quase ordenado (%,d inversões em %,d elementos)", inversions, n);
+            }
+            //A amostra não vê o resto do array, então o custo do Insertion Sort não tem limite garantido
+            return choice("h", "quase ordenado na amostra (até %,d inversões estimadas em %,d elementos)",
+                    inversions, n);
+        }
+        long range = profile.getRange();
+        if (range >= 0 && (range < SMALL_RANGE || range < n)) {
+            return choice("c", "chaves inteiras em um intervalo pequeno (cerca de %,d valores)", range + 1);
+        }
+        boolean parallel = n >= (long) PARALLEL_BLOCKS * cutoff;
+        long runs = profile.getEstimatedRuns();
+        //A intercalação é sequencial: nos arrays grandes, só compensa com poucas sequências
+        if (runs <= n / MIN_AVERAGE_RUN_LENGTH && (!parallel || runs <= MAX_PARALLEL_RUNS)) {
+            String direction = profile.getDescentRatio() > profile.getAscentRatio() ? "invertidas" : "em ordem";
+            return choice("h", "sequências naturais longas %s (cerca de %,d em %,d elementos)", direction, runs, n);
+        }
+        if (!parallel) {
+            return choice("h", "sequências naturais curtas (cerca de %,d) e pequeno demais para paralelizar "
+                    + "(%,d elementos)", runs, n);
+        }
+        if (profile.isIntegral()) {
+            return choice("r", "chaves inteiras em um intervalo amplo, cerca de %,d sequências naturais em %,d "
+                    + "elementos", runs, n);
+        }
+        if (profile.getDistinctRatio() < FEW_DISTINCT_RATIO) {
+            return choice("t", "poucas chaves distintas (%.1f%% da amostra)", profile.getDistinctRatio() * 100);
+        }
+        return choice("m", "chaves sem intervalo inteiro, cerca de %,d sequências naturais em %,d elementos",
+                runs, n);
+    }
+
+    private Choice choice(String code, String reasonFormat, Object... reasonArguments) {
+        PrimitiveSortAlgorithm algorithm = algorithms.computeIfAbsent(code, c -> SortAlgorithms.create(c, cutoff));
+        return new Choice(code, algorithm, reasonFormat, reasonArguments);
+    }
+
+    /**
+     * Obtém a última escolha feita por esta instância.
+     *
+     * @return A escolha da última ordenação, ou null se nenhuma foi feita.
+     */
+    public Choice getLastChoice() {
+        return lastChoice;
+    }
+
+    /**
+     * Analisa o array de objetos e o ordena com o algoritmo escolhido. A análise não é registrada no rastreador.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação do algoritmo escolhido.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        Choice choice = choose(InputProfile.of(array, comparator));
+        lastChoice = choice;
+        choice.getAlgorithm().sort(array, comparator, tracer);
+    }
+
+    /**
+     * Analisa o array de inteiros e o ordena com o algoritmo escolhido.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações da análise e do algoritmo escolhido.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        InputProfile profile = InputProfile.of(array, order);
+        Choice choice = choose(profile);
+        metrics.addComparisons(profile.getComparisons()); //Inclui as da ordenação da amostra, se a escolha a pediu
+        lastChoice = choice;
+        choice.getAlgorithm().sort(array, order, metrics);
+    }
+
+    /**
+     * Analisa o array de caracteres e o ordena com o algoritmo escolhido.
+     * Os valores são analisados e ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações da análise e do algoritmo escolhido.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Analisa o array de longs e o ordena com o algoritmo escolhido.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações da análise e do algoritmo escolhido.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        InputProfile profile = InputProfile.of(array, order);
+        Choice choice = choose(profile);
+        metrics.addComparisons(profile.getComparisons()); //Inclui as da ordenação da amostra, se a escolha a pediu
+        lastChoice = choice;
+        choice.getAlgorithm().sort(array, order, metrics);
+    }
+}
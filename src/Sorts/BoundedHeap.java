@@ -0,0 +1,170 @@
+package Sorts;
+
+/**
+ * Heap de tamanho limitado sobre um array de longs, para obter os k primeiros valores de uma sequência
+ * que chega aos poucos e não cabe (ou não precisa caber) na memória.
+ *
+ * O heap guarda no máximo k valores, com o último deles na ordem da ordenação no topo. Enquanto não está
+ * cheio, cada valor é inserido; depois, um valor só entra se vier antes do topo, que então é descartado.
+ * Cada valor custa uma comparação com o topo e, só quando entra, O(log k) comparações, de modo que a
+ * sequência inteira custa O(n log k) no pior caso e perto de O(n) quando poucos valores entram. Inteiros
+ * são guardados como longs, sem perda.
+ */
+public final class BoundedHeap {
+
+    private final long[] heap;
+    private final boolean descending;
+    private int size;
+    private long comparisons;
+    private long writes;
+
+    /**
+     * Cria o heap vazio.
+     *
+     * @param capacity A quantidade k de valores mantidos.
+     * @param order    A direção da ordenação: os k menores em {@link SortOrder#AZ}, os k maiores em {@link SortOrder#ZA}.
+     * @throws IllegalArgumentException Se a capacidade não for positiva.
+     */
+    public BoundedHeap(int capacity, SortOrder order) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A quantidade de elementos da ordenação parcial tem que ser maior que zero.");
+        }
+        this.heap = new long[capacity];
+        this.descending = order.isDescending();
+    }
+
+    /**
+     * Oferece um valor ao heap.
+     *
+     * @param value O valor.
+     */
+    public void offer(long value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            writes++;
+            siftUp(size++);
+            return;
+        }
+        comparisons++;
+        if (before(value, heap[0])) {
+            //O topo é o último dos k mantidos, e o novo valor toma o lugar dele
+            heap[0] = value;
+            writes++;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Oferece os valores iniciais de um array.
+     *
+     * @param values O array de valores.
+     * @param count  A quantidade de valores oferecidos, a partir da posição zero.
+     */
+    public void offer(int[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            offer(values[i]);
+        }
+    }
+
+    /**
+     * Oferece os valores iniciais de um array.
+     *
+     * @param values O array de valores.
+     * @param count  A quantidade de valores oferecidos, a partir da posição zero.
+     */
+    public void offer(long[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            offer(values[i]);
+        }
+    }
+
+    /**
+     * Obtém a quantidade de valores mantidos: k, ou menos se a sequência tiver menos de k valores.
+     *
+     * @return A quantidade de valores no heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Esvazia o heap, retirando os valores na ordem da ordenação.
+     *
+     * @return Um novo array com os valores mantidos, do primeiro ao último na ordem.
+     */
+    public long[] drain() {
+        long[] sorted = new long[size];
+        //O topo é sempre o último na ordem, então os valores são retirados do fim para o começo
+        while (size > 0) {
+            sorted[size - 1] = heap[0];
+            heap[0] = heap[--size];
+            writes += 2;
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    /**
+     * Publica nos contadores as comparações e escritas feitas desde a última publicação.
+     *
+     * @param metrics Os contadores que recebem as operações.
+     */
+    public void publish(SortMetrics metrics) {
+        metrics.addComparisons(comparisons);
+        metrics.addWrites(writes);
+        comparisons = 0;
+        writes = 0;
+    }
+
+    /**
+     * Indica se x vem antes de y na direção da ordenação.
+     */
+    private boolean before(long x, long y) {
+        return descending ? x > y : x < y;
+    }
+
+    /**
+     * Sobe o valor da posição informada enquanto ele vier depois do pai na ordem.
+     */
+    private void siftUp(int index) {
+        long value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            comparisons++;
+            if (!before(heap[parent], value)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            writes++;
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Desce o valor da posição informada enquanto algum filho vier depois dele na ordem.
+     */
+    private void siftDown(int index) {
+        long value = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size) {
+                comparisons++;
+                if (before(heap[child], heap[child + 1])) {
+                    child++;
+                }
+            }
+            comparisons++;
+            if (!before(value, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            writes++;
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
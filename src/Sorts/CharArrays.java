@@ -0,0 +1,37 @@
+package Sorts;
+
+/**
+ * Conversões entre {@code char[]} e {@code int[]} usadas pelos algoritmos que só possuem
+ * implementação primitiva para inteiros.
+ */
+final class CharArrays {
+
+    private CharArrays() {
+    }
+
+    /**
+     * Copia os caracteres para um novo array de inteiros.
+     *
+     * @param array O array de caracteres.
+     * @return Um array de inteiros com os mesmos valores.
+     */
+    static int[] toIntArray(char[] array) {
+        int[] values = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            values[i] = array[i];
+        }
+        return values;
+    }
+
+    /**
+     * Copia os valores inteiros de volta para o array de caracteres.
+     *
+     * @param values Os valores inteiros (todos no intervalo de {@code char}).
+     * @param array  O array de caracteres de destino.
+     */
+    static void copyBack(int[] values, char[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (char) values[i];
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package Sorts;
+
+import java.util.Comparator;
+
+/**
+ * Implementa o Counting Sort, para chaves em um intervalo limitado.
+ *
+ * O algoritmo encontra o menor e o maior valor, conta quantas vezes cada valor do intervalo aparece
+ * e reescreve o array percorrendo as contagens, em tempo O(n + k) para k valores possíveis. Quando
+ * o intervalo é grande demais para a quantidade de elementos, a ordenação é feita pelo {@link RadixSort}.
+ *
+ * O algoritmo não compara elementos: no {@link SortMetrics} registra apenas as escritas.
+ */
+public class CountingSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Intervalo sempre ordenado por contagem, qualquer que seja a quantidade de elementos.
+     */
+    private static final long SMALL_RANGE = 1 << 16;
+
+    /**
+     * Maior intervalo ordenado por contagem (o array de contagens ocupa 4 bytes por valor possível).
+     */
+    private static final long MAX_RANGE = 1 << 24;
+
+    private final RadixSort fallback;
+
+    /**
+     * Cria o algoritmo com o limite sequencial padrão.
+     */
+    public CountingSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo com um limite sequencial específico, usado pelo {@link RadixSort} nos intervalos grandes.
+     *
+     * @param cutoff Quantidade mínima de elementos de cada bloco processado em paralelo.
+     * @throws IllegalArgumentException Se o limite for menor que 1.
+     */
+    public CountingSort(int cutoff) {
+        this.fallback = new RadixSort(cutoff);
+    }
+
+    /**
+     * Ordena o array de objetos pelas chaves inteiras dos elementos ({@link Integer}, {@link Character}
+     * ou {@link Long}), registrando cada escrita no rastreador. Os elementos são distribuídos de forma estável
+     * a partir das contagens. Outros tipos de elemento, ou intervalos grandes, são ordenados pelo {@link RadixSort}.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        long[] keys = RadixSort.integralKeys(array, comparator);
+        if (keys == null || array.length < 2) {
+            fallback.sort(array, comparator, tracer);
+            return;
+        }
+        //As chaves são comparadas sem sinal; o intervalo é medido a partir da menor delas
+        long min = -1;
+        long max = 0;
+        for (long key : keys) {
+            if (Long.compareUnsigned(key, min) < 0) {
+                min = key;
+            }
+            if (Long.compareUnsigned(key, max) > 0) {
+                max = key;
+            }
+        }
+        long range = max - min;
+        if (range < 0 || !fitsCounting(range, array.length)) {
+            fallback.sort(array, comparator, tracer);
+            return;
+        }
+
+        int[] counts = new int[(int) range + 1];
+        for (long key : keys) {
+            counts[(int) (key - min)]++;
+        }
+        RadixSort.toOffsets(counts);
+        @SuppressWarnings("unchecked")
+        T[] sorted = (T[]) new Object[array.length];
+        for (int i = 0; i < array.length; i++) {
+            sorted[counts[(int) (keys[i] - min)]++] = array[i];
+        }
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sorted[i];
+            tracer.write(i, sorted[i]);
+        }
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando o Counting Sort.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        int min = array[0];
+        int max = array[0];
+        for (int value : array) {
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        if (!fitsCounting((long) max - min, array.length)) {
+            fallback.sort(array, order, metrics);
+            return;
+        }
+
+        int[] counts = new int[max - min + 1];
+        for (int value : array) {
+            counts[value - min]++;
+        }
+        int position = 0;
+        if (order.isDescending()) {
+            for (int k = counts.length - 1; k >= 0; k--) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = min + k;
+                }
+            }
+        } else {
+            for (int k = 0; k < counts.length; k++) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = min + k;
+                }
+            }
+        }
+        metrics.addWrites(array.length);
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando o Counting Sort. Como um {@code char} tem apenas
+     * 65536 valores possíveis, a contagem é sempre usada.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        char min = array[0];
+        char max = array[0];
+        for (char value : array) {
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+
+        int[] counts = new int[max - min + 1];
+        for (char value : array) {
+            counts[value - min]++;
+        }
+        int position = 0;
+        if (order.isDescending()) {
+            for (int k = counts.length - 1; k >= 0; k--) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = (char) (min + k);
+                }
+            }
+        } else {
+            for (int k = 0; k < counts.length; k++) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = (char) (min + k);
+                }
+            }
+        }
+        metrics.addWrites(array.length);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o Counting Sort.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        long min = array[0];
+        long max = array[0];
+        for (long value : array) {
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        //A diferença pode estourar um long; nesse caso ela fica negativa e o intervalo é tratado como grande
+        long range = max - min;
+        if (range < 0 || !fitsCounting(range, array.length)) {
+            fallback.sort(array, order, metrics);
+            return;
+        }
+
+        int[] counts = new int[(int) range + 1];
+        for (long value : array) {
+            counts[(int) (value - min)]++;
+        }
+        int position = 0;
+        if (order.isDescending()) {
+            for (int k = counts.length - 1; k >= 0; k--) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = min + k;
+                }
+            }
+        } else {
+            for (int k = 0; k < counts.length; k++) {
+                for (int c = counts[k]; c > 0; c--) {
+                    array[position++] = min + k;
+                }
+            }
+        }
+        metrics.addWrites(array.length);
+    }
+
+    /**
+     * Indica se um intervalo compensa ser ordenado por contagem.
+     *
+     * @param range  A diferença entre o maior e o menor valor.
+     * @param length A quantidade de elementos.
+     * @return true se o intervalo for pequeno, ou não maior que a quantidade de elementos (até {@link #MAX_RANGE}).
+     */
+    private static boolean fitsCounting(long range, int length) {
+        return range < SMALL_RANGE || range < Math.min(length, MAX_RANGE);
+    }
+}
@@ -0,0 +1,74 @@
+package Sorts;
+
+/**
+ * Ordenação de {@code double[]} pelo caminho de {@code long[]}.
+ *
+ * Cada valor é convertido em um {@code long} cuja ordem com sinal é a mesma de {@link Double#compare}:
+ * para negativos todos os bits, exceto o de sinal, são invertidos. Os NaN são separados antes e
+ * recolocados no fim, para que fiquem por último nas duas direções.
+ */
+final class DoubleKeys {
+
+    private DoubleKeys() {
+    }
+
+    /**
+     * Ordena o array de doubles com a implementação de {@code long[]} do algoritmo.
+     *
+     * @param algorithm O algoritmo usado.
+     * @param array     O array a ser ordenado.
+     * @param order     A direção da ordenação.
+     * @param metrics   Os contadores que recebem as operações realizadas.
+     */
+    static void sort(PrimitiveSortAlgorithm algorithm, double[] array, SortOrder order, SortMetrics metrics) {
+        long[] keys = new long[array.length];
+        int count = 0;
+        for (double value : array) {
+            if (!Double.isNaN(value)) {
+                keys[count++] = toSortableBits(value);
+            }
+        }
+        if (count < keys.length) {
+            long[] numbers = new long[count];
+            System.arraycopy(keys, 0, numbers, 0, count);
+            keys = numbers;
+        }
+        algorithm.sort(keys, order, metrics);
+        for (int i = 0; i < count; i++) {
+            array[i] = fromSortableBits(keys[i]);
+        }
+        for (int i = count; i < array.length; i++) {
+            array[i] = Double.NaN;
+        }
+    }
+
+    /**
+     * Converte o double em um long com a mesma ordem de {@link Double#compare} (-0.0 antes de 0.0).
+     */
+    static long toSortableBits(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Desfaz a conversão de {@link #toSortableBits(double)}.
+     */
+    static double fromSortableBits(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Compara dois doubles em ordem decrescente, mantendo os NaN depois de todos os números.
+     *
+     * @return Um valor negativo, zero ou positivo se o primeiro valor vier antes, junto ou depois do segundo.
+     */
+    static int compareDescending(double x, double y) {
+        if (Double.isNaN(x)) {
+            return Double.isNaN(y) ? 0 : 1;
+        }
+        if (Double.isNaN(y)) {
+            return -1;
+        }
+        return Double.compare(y, x);
+    }
+}
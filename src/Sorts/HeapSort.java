@@ -0,0 +1,166 @@
+package Sorts;
+
+import java.util.Comparator;
+
+/**
+ * Heap Sort de intervalos, usado pelos algoritmos que limitam a profundidade da recursão quando o limite se
+ * esgota (ordenando o resto em O(n log n) qualquer que seja a entrada) e pela ordenação parcial.
+ *
+ * O heap fica no próprio intervalo, com o último elemento na ordem no topo. Um único laço desce um elemento
+ * por passo: primeiro monta o heap, do último pai até a raiz, e depois, a cada vez que o topo vai para o fim
+ * da parte ainda não ordenada, desce a nova raiz.
+ */
+final class HeapSort {
+
+    private HeapSort() {
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de objetos, registrando cada operação no rastreador.
+     *
+     * @param array      O array de objetos.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    static <T> void sortRange(T[] array, int from, int to, Comparator<? super T> comparator, SortTracer tracer) {
+        int size = to - from;
+        for (int step = size / 2 - 1; step > -size; step--) {
+            int k = Math.max(step, 0);
+            int heapSize = step >= 0 ? size : size + step;
+            if (step < 0) {
+                swap(array, from, from + heapSize);
+                tracer.swap(from, from + heapSize);
+            }
+            while (true) {
+                int child = 2 * k + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize) {
+                    tracer.compare(from + child, from + child + 1);
+                    if (comparator.compare(array[from + child], array[from + child + 1]) < 0) {
+                        child++;
+                    }
+                }
+                tracer.compare(from + k, from + child);
+                if (comparator.compare(array[from + k], array[from + child]) >= 0) {
+                    break;
+                }
+                swap(array, from + k, from + child);
+                tracer.swap(from + k, from + child);
+                k = child;
+            }
+        }
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de inteiros.
+     *
+     * @param array      O array de inteiros.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param descending Se a ordenação é decrescente.
+     * @param metrics    Os contadores que recebem as operações realizadas.
+     */
+    static void sortRange(int[] array, int from, int to, boolean descending, SortMetrics metrics) {
+        int size = to - from;
+        long comparisons = 0;
+        long swaps = 0;
+        for (int step = size / 2 - 1; step > -size; step--) {
+            int k = Math.max(step, 0);
+            int heapSize = step >= 0 ? size : size + step;
+            if (step < 0) {
+                swap(array, from, from + heapSize);
+                swaps++;
+            }
+            while (true) {
+                int child = 2 * k + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                int left = array[from + child];
+                if (child + 1 < heapSize) {
+                    comparisons++;
+                    if (descending ? left > array[from + child + 1] : left < array[from + child + 1]) {
+                        child++;
+                    }
+                }
+                comparisons++;
+                if (!(descending ? array[from + k] > array[from + child] : array[from + k] < array[from + child])) {
+                    break;
+                }
+                swap(array, from + k, from + child);
+                swaps++;
+                k = child;
+            }
+        }
+        metrics.addComparisons(comparisons);
+        metrics.addSwaps(swaps);
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de longs.
+     *
+     * @param array      O array de longs.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param descending Se a ordenação é decrescente.
+     * @param metrics    Os contadores que recebem as operações realizadas.
+     */
+    static void sortRange(long[] array, int from, int to, boolean descending, SortMetrics metrics) {
+        int size = to - from;
+        long comparisons = 0;
+        long swaps = 0;
+        for (int step = size / 2 - 1; step > -size; step--) {
+            int k = Math.max(step, 0);
+            int heapSize = step >= 0 ? size : size + step;
+            if (step < 0) {
+                swap(array, from, from + heapSize);
+                swaps++;
+            }
+            while (true) {
+                int child = 2 * k + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                long left = array[from + child];
+                if (child + 1 < heapSize) {
+                    comparisons++;
+                    if (descending ? left > array[from + child + 1] : left < array[from + child + 1]) {
+                        child++;
+                    }
+                }
+                comparisons++;
+                if (!(descending ? array[from + k] > array[from + child] : array[from + k] < array[from + child])) {
+                    break;
+                }
+                swap(array, from + k, from + child);
+                swaps++;
+                k = child;
+            }
+        }
+        metrics.addComparisons(comparisons);
+        metrics.addSwaps(swaps);
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,750 @@
+package Sorts;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Implementa uma ordenação híbrida e adaptativa, para dados que costumam chegar quase ordenados.
+ *
+ * O array é percorrido uma vez em busca de sequências naturais já em ordem; as sequências na ordem inversa
+ * são invertidas no lugar (nos arrays de objetos, apenas as estritamente inversas, para manter a estabilidade). Se as sequências forem longas, em média
+ * com pelo menos {@link #MIN_AVERAGE_RUN_LENGTH} elementos, elas são intercaladas duas a duas, como no TimSort:
+ * um array já ordenado, ou invertido, custa O(n), e k sequências custam O(n log k). Caso contrário, a busca
+ * é abandonada cedo e o array é ordenado pelo Introsort: Quick Sort com pivô pela mediana de três, Heap Sort
+ * quando a recursão passa de 2 log n níveis (o que garante O(n log n) no pior caso) e o Insertion Sort nos
+ * intervalos pequenos. A ordenação é estável apenas quando as sequências são intercaladas.
+ */
+public class HybridSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho até o qual os intervalos são ordenados com Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 24;
+
+    /**
+     * Comprimento médio mínimo das sequências naturais para que elas sejam intercaladas.
+     */
+    private static final int MIN_AVERAGE_RUN_LENGTH = 32;
+
+    /**
+     * Capacidade inicial da lista de sequências, que cresce até o máximo permitido para o array.
+     */
+    private static final int INITIAL_RUN_CAPACITY = 64;
+
+    /**
+     * Ordena o array utilizando a ordenação híbrida.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        new ObjectHybrid<>(array, comparator, tracer).sort();
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando a ordenação híbrida.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        new IntHybrid(array, order.isDescending(), metrics).sort();
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando a ordenação híbrida.
+     * Os valores são ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Ordena o array de longs utilizando a ordenação híbrida.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        new LongHybrid(array, order.isDescending(), metrics).sort();
+    }
+
+    /**
+     * Calcula a profundidade máxima do Quick Sort antes de passar para o Heap Sort: 2 log n.
+     */
+    private static int maxDepth(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Ordenação de um array de inteiros. As comparações, trocas e escritas são contadas localmente e publicadas no fim.
+     */
+    private static final class IntHybrid {
+        private final int[] a;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+
+        IntHybrid(int[] a, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Ordena o array: por intercalação das sequências naturais, se elas forem longas, ou pelo Introsort.
+         */
+        void sort() {
+            int n = a.length;
+            if (n <= INSERTION_THRESHOLD) {
+                InsertionSort.sortRange(a, 0, n, descending, metrics);
+            } else if (!tryMergeRuns()) {
+                introSort(0, n - 1, maxDepth(n));
+            }
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Indica se x vem antes de y na direção da ordenação.
+         */
+        private boolean before(int x, int y) {
+            return descending ? x > y : x < y;
+        }
+
+        /**
+         * Divide o array em sequências naturais, invertendo as decrescentes, e as intercala. Como valores
+         * primitivos iguais não se distinguem, a sequência decrescente pode ter empates. Desiste assim que a quantidade de sequências mostra que os dados não estão quase ordenados.
+         *
+         * @return true se o array foi ordenado; false se ele deve ser ordenado pelo Introsort.
+         */
+        private boolean tryMergeRuns() {
+            int n = a.length;
+            int maxRuns = Math.max(1, n / MIN_AVERAGE_RUN_LENGTH);
+            //A sequência r ocupa [starts[r], starts[r + 1])
+            int[] starts = new int[Math.min(maxRuns, INITIAL_RUN_CAPACITY) + 1];
+            int count = 0;
+            int i = 0;
+            while (i < n) {
+                int j = i + 1;
+                if (j < n) {
+                    if (before(a[j], a[i])) {
+                        j++;
+                        while (j < n && !before(a[j - 1], a[j])) {
+                            j++;
+                        }
+                        reverse(i, j - 1);
+                    } else {
+                        j++;
+                        while (j < n && !before(a[j], a[j - 1])) {
+                            j++;
+                        }
+                    }
+                    comparisons += j < n ? j - i : j - i - 1;
+                }
+                //Uma sequência invertida pode continuar a anterior
+                if (count > 0) {
+                    comparisons++;
+                }
+                if (count > 0 && !before(a[i], a[i - 1])) {
+                    starts[count] = j;
+                } else {
+                    if (++count > maxRuns) {
+                        return false;
+                    }
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, Math.min(maxRuns + 1, 2 * starts.length));
+                    }
+                    starts[count] = j;
+                }
+                i = j;
+            }
+            if (count > 1) {
+                mergeRuns(starts, count);
+            }
+            return true;
+        }
+
+        /**
+         * Intercala as sequências duas a duas, alternando entre o array e um buffer, até sobrar uma só.
+         */
+        private void mergeRuns(int[] starts, int count) {
+            int[] src = a;
+            int[] dst = new int[a.length];
+            while (count > 1) {
+                int merged = 0;
+                for (int r = 0; r < count; r += 2) {
+                    int lo = starts[r];
+                    int hi = starts[Math.min(r + 2, count)];
+                    if (r + 1 < count) {
+                        merge(src, dst, lo, starts[r + 1], hi);
+                    } else {
+                        System.arraycopy(src, lo, dst, lo, hi - lo);
+                        writes += hi - lo;
+                    }
+                    starts[merged++] = lo;
+                }
+                starts[merged] = a.length;
+                count = merged;
+                int[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+            if (src != a) {
+                System.arraycopy(src, 0, a, 0, a.length);
+                writes += a.length;
+            }
+        }
+
+        /**
+         * Intercala de forma estável [lo, mid) e [mid, hi) de src em dst. Sequências já em ordem entre si são apenas copiadas.
+         */
+        private void merge(int[] src, int[] dst, int lo, int mid, int hi) {
+            writes += hi - lo;
+            comparisons++;
+            if (!before(src[mid], src[mid - 1])) {
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+                return;
+            }
+            int i = lo;
+            int j = mid;
+            int k = lo;
+            while (i < mid && j < hi) {
+                comparisons++;
+                dst[k++] = before(src[j], src[i]) ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, hi - j);
+        }
+
+        /**
+         * Ordena o intervalo fechado [lo, hi] pelo Quick Sort, recorrendo na menor partição e iterando na maior.
+         * Quando a profundidade se esgota, o intervalo é ordenado pelo Heap Sort.
+         */
+        private void introSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (p - lo < hi - p) {
+                    introSort(lo, p, depth);
+                    lo = p + 1;
+                } else {
+                    introSort(p + 1, hi, depth);
+                    hi = p;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            int pivot = a[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (before(a[i], pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (before(pivot, a[j]));
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            comparisons++;
+            if (before(a[j], a[i])) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Inverte o intervalo fechado [lo, hi].
+         */
+        private void reverse(int lo, int hi) {
+            while (lo < hi) {
+                swap(lo++, hi--);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array.
+         */
+        private void swap(int i, int j) {
+            int temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+            swaps++;
+        }
+    }
+
+    /**
+     * Ordenação de um array de longs. As comparações, trocas e escritas são contadas localmente e publicadas no fim.
+     */
+    private static final class LongHybrid {
+        private final long[] a;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+
+        LongHybrid(long[] a, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Ordena o array: por intercalação das sequências naturais, se elas forem longas, ou pelo Introsort.
+         */
+        void sort() {
+            int n = a.length;
+            if (n <= INSERTION_THRESHOLD) {
+                InsertionSort.sortRange(a, 0, n, descending, metrics);
+            } else if (!tryMergeRuns()) {
+                introSort(0, n - 1, maxDepth(n));
+            }
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Indica se x vem antes de y na direção da ordenação.
+         */
+        private boolean before(long x, long y) {
+            return descending ? x > y : x < y;
+        }
+
+        /**
+         * Divide o array em sequências naturais, invertendo as decrescentes, e as intercala. Como valores
+         * primitivos iguais não se distinguem, a sequência decrescente pode ter empates. Desiste assim que a quantidade de sequências mostra que os dados não estão quase ordenados.
+         *
+         * @return true se o array foi ordenado; false se ele deve ser ordenado pelo Introsort.
+         */
+        private boolean tryMergeRuns() {
+            int n = a.length;
+            int maxRuns = Math.max(1, n / MIN_AVERAGE_RUN_LENGTH);
+            //A sequência r ocupa [starts[r], starts[r + 1])
+            int[] starts = new int[Math.min(maxRuns, INITIAL_RUN_CAPACITY) + 1];
+            int count = 0;
+            int i = 0;
+            while (i < n) {
+                int j = i + 1;
+                if (j < n) {
+                    if (before(a[j], a[i])) {
+                        j++;
+                        while (j < n && !before(a[j - 1], a[j])) {
+                            j++;
+                        }
+                        reverse(i, j - 1);
+                    } else {
+                        j++;
+                        while (j < n && !before(a[j], a[j - 1])) {
+                            j++;
+                        }
+                    }
+                    comparisons += j < n ? j - i : j - i - 1;
+                }
+                //Uma sequência invertida pode continuar a anterior
+                if (count > 0) {
+                    comparisons++;
+                }
+                if (count > 0 && !before(a[i], a[i - 1])) {
+                    starts[count] = j;
+                } else {
+                    if (++count > maxRuns) {
+                        return false;
+                    }
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, Math.min(maxRuns + 1, 2 * starts.length));
+                    }
+                    starts[count] = j;
+                }
+                i = j;
+            }
+            if (count > 1) {
+                mergeRuns(starts, count);
+            }
+            return true;
+        }
+
+        /**
+         * Intercala as sequências duas a duas, alternando entre o array e um buffer, até sobrar uma só.
+         */
+        private void mergeRuns(int[] starts, int count) {
+            long[] src = a;
+            long[] dst = new long[a.length];
+            while (count > 1) {
+                int merged = 0;
+                for (int r = 0; r < count; r += 2) {
+                    int lo = starts[r];
+                    int hi = starts[Math.min(r + 2, count)];
+                    if (r + 1 < count) {
+                        merge(src, dst, lo, starts[r + 1], hi);
+                    } else {
+                        System.arraycopy(src, lo, dst, lo, hi - lo);
+                        writes += hi - lo;
+                    }
+                    starts[merged++] = lo;
+                }
+                starts[merged] = a.length;
+                count = merged;
+                long[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+            if (src != a) {
+                System.arraycopy(src, 0, a, 0, a.length);
+                writes += a.length;
+            }
+        }
+
+        /**
+         * Intercala de forma estável [lo, mid) e [mid, hi) de src em dst. Sequências já em ordem entre si são apenas copiadas.
+         */
+        private void merge(long[] src, long[] dst, int lo, int mid, int hi) {
+            writes += hi - lo;
+            comparisons++;
+            if (!before(src[mid], src[mid - 1])) {
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+                return;
+            }
+            int i = lo;
+            int j = mid;
+            int k = lo;
+            while (i < mid && j < hi) {
+                comparisons++;
+                dst[k++] = before(src[j], src[i]) ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, hi - j);
+        }
+
+        /**
+         * Ordena o intervalo fechado [lo, hi] pelo Quick Sort, recorrendo na menor partição e iterando na maior.
+         * Quando a profundidade se esgota, o intervalo é ordenado pelo Heap Sort.
+         */
+        private void introSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (p - lo < hi - p) {
+                    introSort(lo, p, depth);
+                    lo = p + 1;
+                } else {
+                    introSort(p + 1, hi, depth);
+                    hi = p;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            long pivot = a[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (before(a[i], pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (before(pivot, a[j]));
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            comparisons++;
+            if (before(a[j], a[i])) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Inverte o intervalo fechado [lo, hi].
+         */
+        private void reverse(int lo, int hi) {
+            while (lo < hi) {
+                swap(lo++, hi--);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array.
+         */
+        private void swap(int i, int j) {
+            long temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+            swaps++;
+        }
+    }
+
+    /**
+     * Ordenação de um array de objetos, registrando cada operação no rastreador. As sequências são intercaladas
+     * no próprio array, com um buffer auxiliar, para que toda escrita corresponda a uma posição do array.
+     */
+    private static final class ObjectHybrid<T> {
+        private final T[] array;
+        private final Comparator<? super T> comparator;
+        private final SortTracer tracer;
+
+        ObjectHybrid(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+            this.array = array;
+            this.comparator = comparator;
+            this.tracer = tracer;
+        }
+
+        /**
+         * Ordena o array: por intercalação das sequências naturais, se elas forem longas, ou pelo Introsort.
+         */
+        void sort() {
+            int n = array.length;
+            if (n <= INSERTION_THRESHOLD) {
+                InsertionSort.sortRange(array, 0, n, comparator, tracer);
+            } else if (!tryMergeRuns()) {
+                introSort(0, n - 1, maxDepth(n));
+            }
+        }
+
+        /**
+         * Indica se o elemento na posição i vem antes do elemento na posição j, registrando a comparação.
+         */
+        private boolean before(int i, int j) {
+            boolean before = comparator.compare(array[i], array[j]) < 0;
+            tracer.compare(i, j);
+            return before;
+        }
+
+        /**
+         * Divide o array em sequências naturais, invertendo as estritamente decrescentes, e as intercala.
+         *
+         * @return true se o array foi ordenado; false se ele deve ser ordenado pelo Introsort.
+         */
+        private boolean tryMergeRuns() {
+            int n = array.length;
+            int maxRuns = Math.max(1, n / MIN_AVERAGE_RUN_LENGTH);
+            //A sequência r ocupa [starts[r], starts[r + 1])
+            int[] starts = new int[Math.min(maxRuns, INITIAL_RUN_CAPACITY) + 1];
+            int count = 0;
+            int i = 0;
+            while (i < n) {
+                int j = i + 1;
+                if (j < n) {
+                    if (before(j, i)) {
+                        j++;
+                        while (j < n && before(j, j - 1)) {
+                            j++;
+                        }
+                        reverse(i, j - 1);
+                    } else {
+                        j++;
+                        while (j < n && !before(j, j - 1)) {
+                            j++;
+                        }
+                    }
+                }
+                //Uma sequência invertida pode continuar a anterior
+                if (count > 0 && !before(i, i - 1)) {
+                    starts[count] = j;
+                } else {
+                    if (++count > maxRuns) {
+                        return false;
+                    }
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, Math.min(maxRuns + 1, 2 * starts.length));
+                    }
+                    starts[count] = j;
+                }
+                i = j;
+            }
+            if (count > 1) {
+                mergeRuns(starts, count);
+            }
+            return true;
+        }
+
+        /**
+         * Intercala as sequências duas a duas até sobrar uma só.
+         */
+        private void mergeRuns(int[] starts, int count) {
+            @SuppressWarnings("unchecked")
+            T[] buffer = (T[]) new Object[array.length];
+            while (count > 1) {
+                int merged = 0;
+                for (int r = 0; r < count; r += 2) {
+                    int lo = starts[r];
+                    if (r + 1 < count) {
+                        merge(buffer, lo, starts[r + 1], starts[r + 2]);
+                    }
+                    starts[merged++] = lo;
+                }
+                starts[merged] = array.length;
+                count = merged;
+            }
+        }
+
+        /**
+         * Intercala de forma estável [lo, mid) e [mid, hi), usando o buffer auxiliar.
+         * Sequências já em ordem entre si não são alteradas.
+         */
+        private void merge(T[] buffer, int lo, int mid, int hi) {
+            if (!before(mid, mid - 1)) {
+                return;
+            }
+            System.arraycopy(array, lo, buffer, lo, hi - lo);
+            int i = lo;
+            int j = mid;
+            for (int k = lo; k < hi; k++) {
+                if (i < mid && j < hi) {
+                    tracer.compare(i, j);
+                }
+                if (i < mid && (j >= hi || comparator.compare(buffer[j], buffer[i]) >= 0)) {
+                    array[k] = buffer[i++];
+                } else {
+                    array[k] = buffer[j++];
+                }
+                tracer.write(k, array[k]);
+            }
+        }
+
+        /**
+         * Ordena o intervalo fechado [lo, hi] pelo Quick Sort, recorrendo na menor partição e iterando na maior.
+         * Quando a profundidade se esgota, o intervalo é ordenado pelo Heap Sort.
+         */
+        private void introSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(array, lo, hi + 1, comparator, tracer);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (p - lo < hi - p) {
+                    introSort(lo, p, depth);
+                    lo = p + 1;
+                } else {
+                    introSort(p + 1, hi, depth);
+                    hi = p;
+                }
+            }
+            InsertionSort.sortRange(array, lo, hi + 1, comparator, tracer);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            T pivot = array[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    tracer.compare(i, mid);
+                } while (comparator.compare(array[i], pivot) < 0);
+                do {
+                    j--;
+                    tracer.compare(j, mid);
+                } while (comparator.compare(pivot, array[j]) < 0);
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            if (before(j, i)) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Inverte o intervalo fechado [lo, hi].
+         */
+        private void reverse(int lo, int hi) {
+            while (lo < hi) {
+                swap(lo++, hi--);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array, registrando a troca.
+         */
+        private void swap(int i, int j) {
+            T temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+            tracer.swap(i, j);
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package Sorts;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Perfil de pré-ordenação de um array, estimado a partir de uma amostra, usado pelo {@link AutoSort}
+ * para escolher o algoritmo.
+ *
+ * A amostra tem até {@link #SAMPLE_SIZE} elementos igualmente espaçados (o array inteiro, se ele for menor).
+ * Para cada elemento da amostra, o vizinho seguinte no array também é lido, o que estima a fração de pares
+ * vizinhos em ordem e fora de ordem e, daí, o comprimento das sequências naturais; a mesma passagem lê o menor
+ * e o maior valor das chaves inteiras. As inversões da amostra são contadas por um Insertion Sort que para
+ * assim que a estimativa para o array inteiro passa do tamanho dele, o único limite que importa para a escolha:
+ * a análise custa O(s) comparações para uma amostra de s elementos, e o valor exato só é conhecido até esse
+ * limite. A proporção de chaves distintas, que exige a amostra ordenada, só é calculada quando consultada.
+ *
+ * Um perfil é usado por uma única thread.
+ */
+public final class InputProfile {
+
+    /**
+     * Quantidade máxima de elementos da amostra.
+     */
+    public static final int SAMPLE_SIZE = 1024;
+
+    private final int length;
+    private final int sampleSize;
+    private final long sampleInversions;
+    private final int neighborPairs;
+    private final int descents;
+    private final int ascents;
+    private final boolean integral;
+    private final long minValue;
+    private final long maxValue;
+    private long comparisons;
+    //A amostra, em ordem se a contagem das inversões chegou ao fim; só uma das duas é usada
+    private final long[] keySample;
+    private final Object[] objectSample;
+    private final Comparator<Object> comparator;
+    private boolean sampleSorted;
+    private int distinct = -1;
+
+    private InputProfile(int length, long sampleInversions, int neighborPairs, int descents, int ascents,
+                         boolean integral, long minValue, long maxValue, long comparisons, long[] keySample,
+                         Object[] objectSample, Comparator<Object> comparator, boolean sampleSorted) {
+        this.length = length;
+        this.sampleSize = keySample != null ? keySample.length : objectSample.length;
+        this.sampleInversions = sampleInversions;
+        this.neighborPairs = neighborPairs;
+        this.descents = descents;
+        this.ascents = ascents;
+        this.integral = integral;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.comparisons = comparisons;
+        this.keySample = keySample;
+        this.objectSample = objectSample;
+        this.comparator = comparator;
+        this.sampleSorted = sampleSorted;
+    }
+
+    /**
+     * Analisa um array de inteiros.
+     *
+     * @param array O array analisado, que não é alterado.
+     * @param order A direção da ordenação.
+     * @return O perfil estimado.
+     */
+    public static InputProfile of(int[] array, SortOrder order) {
+        int n = array.length;
+        int size = Math.min(n, SAMPLE_SIZE);
+        long[] sample = new long[size];
+        if (size == n) {
+            for (int i = 0; i < n; i++) {
+                sample[i] = array[i];
+            }
+            return analyze(n, sample, null, Math.max(0, n - 1), order.isDescending());
+        }
+        long[] next = new long[size];
+        int pairs = 0;
+        for (int i = 0; i < size; i++) {
+            int index = samplePosition(i, size, n);
+            sample[i] = array[index];
+            if (index + 1 < n) {
+                next[pairs++] = array[index + 1];
+            }
+        }
+        return analyze(n, sample, next, pairs, order.isDescending());
+    }
+
+    /**
+     * Analisa um array de longs.
+     *
+     * @param array O array analisado, que não é alterado.
+     * @param order A direção da ordenação.
+     * @return O perfil estimado.
+     */
+    public static InputProfile of(long[] array, SortOrder order) {
+        int n = array.length;
+        int size = Math.min(n, SAMPLE_SIZE);
+        long[] sample = new long[size];
+        if (size == n) {
+            for (int i = 0; i < n; i++) {
+                sample[i] = array[i];
+            }
+            return analyze(n, sample, null, Math.max(0, n - 1), order.isDescending());
+        }
+        long[] next = new long[size];
+        int pairs = 0;
+        for (int i = 0; i < size; i++) {
+            int index = samplePosition(i, size, n);
+            sample[i] = array[index];
+            if (index + 1 < n) {
+                next[pairs++] = array[index + 1];
+            }
+        }
+        return analyze(n, sample, next, pairs, order.isDescending());
+    }
+
+    /**
+     * Analisa um array de objetos. As chaves são inteiras quando os elementos são {@link Integer},
+     * {@link Character} ou {@link Long}.
+     *
+     * @param array      O array analisado, que não é alterado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param <T>        O tipo dos elementos.
+     * @return O perfil estimado.
+     */
+    public static <T> InputProfile of(T[] array, Comparator<? super T> comparator) {
+        int n = array.length;
+        int size = Math.min(n, SAMPLE_SIZE);
+        Object[] sample = new Object[size];
+        Object[] next = new Object[size];
+        for (int i = 0; i < size; i++) {
+            int index = samplePosition(i, size, n);
+            sample[i] = array[index];
+            next[i] = index + 1 < n ? array[index + 1] : null;
+        }
+        boolean integral = n > 0 && integralKey(array[0]) != null;
+        @SuppressWarnings("unchecked")
+        Comparator<Object> objectComparator = (Comparator<Object>) comparator;
+        return analyze(n, sample, next, objectComparator, integral);
+    }
+
+    /**
+     * Calcula a posição no array do i-ésimo elemento da amostra.
+     */
+    private static int samplePosition(int i, int size, int n) {
+        return size == n ? i : (int) ((long) i * n / size); //Sem a divisão quando a amostra é o array inteiro
+    }
+
+    /**
+     * Calcula quantas inversões a amostra pode ter sem que a estimativa para o array inteiro
+     * ({@link #getEstimatedInversions()}) passe do tamanho dele; a contagem para logo depois desse limite.
+     */
+    private static long inversionLimit(int n, int size) {
+        if (size == n) {
+            return n;
+        }
+        double samplePairs = (double) size * (size - 1) / 2;
+        double pairs = (double) n * (n - 1) / 2;
+        return (long) (n * samplePairs / pairs);
+    }
+
+    /**
+     * Conta os pares vizinhos, o intervalo e as inversões de uma amostra de chaves inteiras, sem criar objetos.
+     * Apenas as primeiras posições da amostra, até a quantidade de pares, têm um vizinho seguinte no array; sem
+     * o array de vizinhos, a amostra é o array inteiro e o vizinho de cada posição é a seguinte.
+     */
+    private static InputProfile analyze(int n, long[] sample, long[] next, int pairs, boolean descending) {
+        long comparisons = pairs;
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 0; i < pairs; i++) {
+            long following = next == null ? sample[i + 1] : next[i];
+            if (descending ? following > sample[i] : following < sample[i]) {
+                descents++;
+            } else if (following != sample[i]) {
+                ascents++;
+            }
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long value : sample) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        if (sample.length == 0) {
+            min = 0;
+            max = 0;
+        }
+
+        //Insertion Sort na direção da ordenação: cada deslocamento é uma inversão
+        long limit = inversionLimit(n, sample.length);
+        long inversions = 0;
+        int i = 1;
+        for (; i < sample.length && inversions <= limit; i++) {
+            long value = sample[i];
+            int j = i - 1;
+            while (j >= 0 && (descending ? sample[j] < value : sample[j] > value)) {
+                sample[j + 1] = sample[j];
+                j--;
+                inversions++;
+            }
+            sample[j + 1] = value;
+            comparisons += i - j - (j >= 0 ? 0 : 1);
+        }
+        return new InputProfile(n, inversions, pairs, descents, ascents, true, min, max, comparisons,
+                sample, null, null, i >= sample.length);
+    }
+
+    /**
+     * Conta os pares vizinhos e as inversões da amostra. Os vizinhos null ficam depois do fim do array e não
+     * são contados.
+     */
+    private static InputProfile analyze(int n, Object[] sample, Object[] next, Comparator<Object> comparator,
+                                        boolean integral) {
+        long comparisons = 0;
+        int pairs = 0;
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 0; i < sample.length; i++) {
+            if (next[i] == null) {
+                continue;
+            }
+            int result = comparator.compare(next[i], sample[i]);
+            comparisons++;
+            pairs++;
+            if (result < 0) {
+                descents++;
+            } else if (result > 0) {
+                ascents++;
+            }
+        }
+        long min = 0;
+        long max = 0;
+        if (integral && sample.length > 0) {
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            for (Object value : sample) {
+                long key = integralKey(value);
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+        }
+
+        long limit = inversionLimit(n, sample.length);
+        long inversions = 0;
+        int i = 1;
+        for (; i < sample.length && inversions <= limit; i++) {
+            Object value = sample[i];
+            int j = i - 1;
+            while (j >= 0) {
+                comparisons++;
+                if (comparator.compare(sample[j], value) <= 0) {
+                    break;
+                }
+                sample[j + 1] = sample[j];
+                j--;
+                inversions++;
+            }
+            sample[j + 1] = value;
+        }
+        return new InputProfile(n, inversions, pairs, descents, ascents, integral, min, max, comparisons,
+                null, sample, comparator, i >= sample.length);
+    }
+
+    /**
+     * Converte o elemento em uma chave inteira.
+     *
+     * @return A chave, ou null se o elemento não tiver chave inteira.
+     */
+    private static Long integralKey(Object value) {
+        if (value instanceof Integer) {
+            return (long) (Integer) value;
+        } else if (value instanceof Character) {
+            return (long) (Character) value;
+        } else if (value instanceof Long) {
+            return (Long) value;
+        }
+        return null;
+    }
+
+    /**
+     * Ordena a amostra, se a contagem das inversões parou antes do fim, e conta as suas chaves distintas.
+     */
+    private int countDistinct() {
+        if (keySample != null) {
+            if (!sampleSorted) {
+                comparisons += mergeSort(keySample, keySample.clone(), 0, keySample.length);
+            }
+            int count = 0;
+            for (int i = 0; i < keySample.length; i++) {
+                if (i == 0 || keySample[i - 1] != keySample[i]) {
+                    count++;
+                }
+            }
+            comparisons += Math.max(0, keySample.length - 1);
+            return count;
+        }
+        if (!sampleSorted) {
+            Arrays.sort(objectSample, (a, b) -> {
+                comparisons++;
+                return comparator.compare(a, b);
+            });
+        }
+        int count = 0;
+        for (int i = 0; i < objectSample.length; i++) {
+            if (i == 0 || comparator.compare(objectSample[i - 1], objectSample[i]) != 0) {
+                count++;
+            }
+        }
+        comparisons += Math.max(0, objectSample.length - 1);
+        return count;
+    }
+
+    /**
+     * Merge Sort crescente de [lo, hi).
+     *
+     * @return A quantidade de comparações.
+     */
+    private static long mergeSort(long[] a, long[] buffer, int lo, int hi) {
+        if (hi - lo < 2) {
+            return 0;
+        }
+        int mid = (lo + hi) >>> 1;
+        long comparisons = mergeSort(a, buffer, lo, mid) + mergeSort(a, buffer, mid, hi);
+        System.arraycopy(a, lo, buffer, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (i < mid && j < hi) {
+                comparisons++;
+            }
+            if (j >= hi || i < mid && buffer[j] >= buffer[i]) {
+                a[k] = buffer[i++];
+            } else {
+                a[k] = buffer[j++];
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Obtém o tamanho do array analisado.
+     *
+     * @return A quantidade de elementos.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Indica se a amostra é o array inteiro, caso em que as inversões são contadas exatamente.
+     *
+     * @return true se o array tem no máximo {@link #SAMPLE_SIZE} elementos.
+     */
+    public boolean isExact() {
+        return sampleSize == length;
+    }
+
+    /**
+     * Estima, com folga, a quantidade de inversões do array inteiro: a fração de pares invertidos na amostra,
+     * contando uma inversão a mais, aplicada a todos os pares do array. A inversão a mais faz com que uma
+     * amostra sem inversões só indique poucas inversões quando ela cobre bem o array. A contagem para assim que
+     * a estimativa passa do tamanho do array, então os valores acima dele são apenas um mínimo.
+     *
+     * @return O limite estimado de inversões.
+     */
+    public long getEstimatedInversions() {
+        long samplePairs = (long) sampleSize * (sampleSize - 1) / 2;
+        if (samplePairs == 0) {
+            return 0;
+        }
+        if (sampleSize == length) {
+            return sampleInversions; //A amostra é o array inteiro, então a contagem é exata até o limite
+        }
+        double pairs = (double) length * (length - 1) / 2;
+        return (long) Math.min(Long.MAX_VALUE, (sampleInversions + 1) * pairs / samplePairs);
+    }
+
+    /**
+     * Obtém a fração dos pares vizinhos amostrados em que o segundo vem antes do primeiro na ordem.
+     *
+     * @return A fração de pares vizinhos fora de ordem.
+     */
+    public double getDescentRatio() {
+        return neighborPairs == 0 ? 0 : (double) descents / neighborPairs;
+    }
+
+    /**
+     * Obtém a fração dos pares vizinhos amostrados em que o segundo vem depois do primeiro na ordem.
+     *
+     * @return A fração de pares vizinhos em ordem estrita.
+     */
+    public double getAscentRatio() {
+        return neighborPairs == 0 ? 0 : (double) ascents / neighborPairs;
+    }
+
+    /**
+     * Estima a quantidade de sequências naturais na ordem (ou, se o array tende à ordem inversa, na ordem inversa).
+     *
+     * @return 1 mais a quantidade estimada de quebras de sequência.
+     */
+    public long getEstimatedRuns() {
+        double breaks = Math.min(getDescentRatio(), getAscentRatio());
+        return 1 + Math.round(breaks * Math.max(0, length - 1));
+    }
+
+    /**
+     * Obtém a proporção de chaves distintas na amostra, ordenando-a na primeira consulta se a contagem das
+     * inversões não a deixou em ordem.
+     *
+     * @return Um valor entre 0 e 1.
+     */
+    public double getDistinctRatio() {
+        if (sampleSize == 0) {
+            return 1;
+        }
+        if (distinct < 0) {
+            distinct = countDistinct();
+        }
+        return (double) distinct / sampleSize;
+    }
+
+    /**
+     * Indica se as chaves são inteiras, de modo que o intervalo de valores é conhecido.
+     *
+     * @return true para inteiros, caracteres e longs.
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Obtém a diferença entre o maior e o menor valor da amostra, quando as chaves são inteiras.
+     *
+     * @return O intervalo estimado, ou -1 se ele passar de {@link Long#MAX_VALUE} ou as chaves não forem inteiras.
+     */
+    public long getRange() {
+        if (!integral) {
+            return -1;
+        }
+        long range = maxValue - minValue;
+        return range < 0 ? -1 : range;
+    }
+
+    /**
+     * Obtém a quantidade de comparações feitas pela análise.
+     *
+     * @return As comparações entre pares vizinhos, na contagem das inversões e, se a proporção de chaves
+     * distintas já foi consultada, na ordenação da amostra e na contagem das chaves distintas.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+}
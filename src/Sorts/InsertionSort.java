@@ -1,64 +1,185 @@
 package Sorts;
 
+import java.util.Comparator;
+
 /**
  * Implementa o algoritmo de ordenação Insertion Sort.
  */
-public class InsertionSort implements SortAlgorithm {
+public class InsertionSort implements PrimitiveSortAlgorithm {
 
     /**
      * Ordena o array utilizando o algoritmo Insertion Sort.
      *
-     * @param array O array de objetos a ser ordenado.
-     * @param order A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
-     * @param pause O tempo de pausa em milissegundos entre cada passo de ordenação.
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
      */
     @Override
-    public void sort(Object[] array, String order, int pause) {
-        for (int i = 1; i < array.length; i++) {
-            Object key = array[i];
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        sortRange(array, 0, array.length, comparator, tracer);
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de objetos, registrando cada operação no rastreador.
+     * Usado também pelos algoritmos que terminam os intervalos pequenos com Insertion Sort.
+     *
+     * @param array      O array de objetos.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    static <T> void sortRange(T[] array, int from, int to, Comparator<? super T> comparator, SortTracer tracer) {
+        for (int i = from + 1; i < to; i++) {
+            T key = array[i];
             int j = i - 1;
-            while (j >= 0 && compare(array[j], key, order) > 0) {
+            while (j >= from) {
+                boolean outOfOrder = comparator.compare(array[j], key) > 0;
+                tracer.compare(j, j + 1);
+                if (!outOfOrder) {
+                    break;
+                }
                 array[j + 1] = array[j];
+                tracer.write(j + 1, array[j]);
                 j--;
-                sleep(pause);
             }
             array[j + 1] = key;
-            sleep(pause);
+            tracer.write(j + 1, key);
         }
     }
 
     /**
-     * Compara dois objetos com base na ordem especificada.
+     * Ordena o array de inteiros utilizando o algoritmo Insertion Sort.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        sortRange(array, 0, array.length, order.isDescending(), metrics);
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de inteiros.
+     * Usado também pelos algoritmos que terminam os intervalos pequenos com Insertion Sort.
      *
-     * @param o1    O primeiro objeto.
-     * @param o2    O segundo objeto.
-     * @param order A ordem de comparação ("AZ" para crescente, "ZA" para decrescente).
-     * @return Um valor negativo, zero ou positivo se o primeiro objeto for menor,
-     * igual ou maior que o segundo, respectivamente.
+     * @param array      O array de inteiros.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param descending Se a ordenação é decrescente.
+     * @param metrics    Os contadores que recebem as operações realizadas.
      */
-    private int compare(Object o1, Object o2, String order) {
-        int comparisonResult;
-        if (o1 instanceof Integer && o2 instanceof Integer) {
-            comparisonResult = Integer.compare((Integer) o1, (Integer) o2);
-        } else if (o1 instanceof Character && o2 instanceof Character) {
-            comparisonResult = Character.compare((Character) o1, (Character) o2);
-        } else {
-            throw new IllegalArgumentException("Unsupported data type");
+    static void sortRange(int[] array, int from, int to, boolean descending, SortMetrics metrics) {
+        long comparisons = 0;
+        long writes = 0;
+        for (int i = from + 1; i < to; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= from) {
+                comparisons++;
+                if (!(descending ? array[j] < key : array[j] > key)) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                writes++;
+                j--;
+            }
+            array[j + 1] = key;
+            writes++;
         }
+        metrics.addComparisons(comparisons);
+        metrics.addWrites(writes);
+    }
 
-        return order.equalsIgnoreCase("ZA") ? -comparisonResult : comparisonResult;
+    /**
+     * Ordena o array de caracteres utilizando o algoritmo Insertion Sort.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        sortRange(array, 0, array.length, order.isDescending(), metrics);
     }
 
     /**
-     * Pausa a execução por um tempo especificado.
+     * Ordena o intervalo [from, to) do array de caracteres.
+     * Usado também pelos algoritmos que terminam os intervalos pequenos com Insertion Sort.
      *
-     * @param pause O tempo de pausa em milissegundos.
+     * @param array      O array de caracteres.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param descending Se a ordenação é decrescente.
+     * @param metrics    Os contadores que recebem as operações realizadas.
      */
-    private void sleep(int pause) {
-        try {
-            Thread.sleep(pause);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+    static void sortRange(char[] array, int from, int to, boolean descending, SortMetrics metrics) {
+        long comparisons = 0;
+        long writes = 0;
+        for (int i = from + 1; i < to; i++) {
+            char key = array[i];
+            int j = i - 1;
+            while (j >= from) {
+                comparisons++;
+                if (!(descending ? array[j] < key : array[j] > key)) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                writes++;
+                j--;
+            }
+            array[j + 1] = key;
+            writes++;
+        }
+        metrics.addComparisons(comparisons);
+        metrics.addWrites(writes);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o algoritmo Insertion Sort.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        sortRange(array, 0, array.length, order.isDescending(), metrics);
+    }
+
+    /**
+     * Ordena o intervalo [from, to) do array de longs.
+     * Usado também pelos algoritmos que terminam os intervalos pequenos com Insertion Sort.
+     *
+     * @param array      O array de longs.
+     * @param from       A primeira posição do intervalo.
+     * @param to         A posição seguinte à última do intervalo.
+     * @param descending Se a ordenação é decrescente.
+     * @param metrics    Os contadores que recebem as operações realizadas.
+     */
+    static void sortRange(long[] array, int from, int to, boolean descending, SortMetrics metrics) {
+        long comparisons = 0;
+        long writes = 0;
+        for (int i = from + 1; i < to; i++) {
+            long key = array[i];
+            int j = i - 1;
+            while (j >= from) {
+                comparisons++;
+                if (!(descending ? array[j] < key : array[j] > key)) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                writes++;
+                j--;
+            }
+            array[j + 1] = key;
+            writes++;
         }
+        metrics.addComparisons(comparisons);
+        metrics.addWrites(writes);
     }
+
 }
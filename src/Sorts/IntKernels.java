@@ -0,0 +1,60 @@
+package Sorts;
+
+/**
+ * Ponto de entrada dos núcleos SIMD de inteiros ({@link VectorIntKernels}), usados pelo Quick Sort e pelo
+ * Merge Sort paralelos: uma rede de ordenação bitônica para os blocos pequenos das folhas e uma partição
+ * vetorizada para os intervalos grandes.
+ *
+ * A Vector API ainda é um módulo em incubação, habilitado com {@code --add-modules jdk.incubator.vector}.
+ * Sem ele, {@link #ENABLED} é falso, a classe com as instruções vetoriais nunca é carregada e os algoritmos
+ * seguem nos laços escalares, com o mesmo resultado.
+ */
+final class IntKernels {
+
+    /**
+     * Indica se os núcleos vetoriais estão disponíveis: o módulo está habilitado e o vetor da máquina
+     * comporta ao menos 4 inteiros.
+     */
+    static final boolean ENABLED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorIntKernels.LANES >= 4;
+
+    /**
+     * Maior bloco ordenado pela rede nas folhas; acima dele os algoritmos continuam dividindo.
+     */
+    static final int BLOCK_SIZE = ENABLED ? 8 * VectorIntKernels.LANES : 0;
+
+    /**
+     * Menor intervalo particionado com vetores; abaixo dele a partição escalar sai mais barata.
+     */
+    static final int PARTITION_THRESHOLD = ENABLED ? 4 * VectorIntKernels.LANES : Integer.MAX_VALUE;
+
+    /**
+     * Tamanho da área de trabalho dos núcleos: um bloco completado até a potência de dois, ou os dois
+     * vetores das pontas e o resto guardados pela partição.
+     */
+    static final int SCRATCH_SIZE = ENABLED ? Math.max(BLOCK_SIZE, 3 * VectorIntKernels.LANES) : 0;
+
+    private IntKernels() {
+    }
+
+    /**
+     * Ordena a[from, to), com no máximo {@link #BLOCK_SIZE} elementos, pela rede bitônica vetorial.
+     *
+     * @param scratch Área de trabalho com ao menos {@link #SCRATCH_SIZE} posições.
+     * @return A quantidade de comparações realizadas.
+     */
+    static long sortBlock(int[] a, int from, int to, boolean descending, int[] scratch) {
+        return VectorIntKernels.sortBlock(a, from, to, descending, scratch);
+    }
+
+    /**
+     * Particiona a[lo, hi], com ao menos {@link #PARTITION_THRESHOLD} elementos, pelo valor do pivô: os
+     * elementos que vêm antes dele na ordem ficam no início, e os demais (inclusive os iguais) no fim.
+     *
+     * @param scratch Área de trabalho com ao menos {@link #SCRATCH_SIZE} posições.
+     * @return O índice do primeiro elemento que não vem antes do pivô; lo se nenhum vier.
+     */
+    static int partition(int[] a, int lo, int hi, int pivot, boolean descending, int[] scratch) {
+        return VectorIntKernels.partition(a, lo, hi, pivot, descending, scratch);
+    }
+}
@@ -0,0 +1,104 @@
+package Sorts;
+
+import java.util.Comparator;
+
+/**
+ * Tipos de chave aceitos pelo argumento "t", cada um com seus comparadores já resolvidos.
+ *
+ * Os comparadores são criados uma única vez, um para cada direção: a ordem decrescente não inverte
+ * o resultado a cada chamada, apenas troca os argumentos. Valores NaN ficam sempre no fim, nas duas
+ * direções, e strings são comparadas na ordem dos bytes UTF-8 (a mesma dos code points).
+ */
+public enum KeyType {
+    INT("n",
+            (a, b) -> Integer.compare((Integer) a, (Integer) b),
+            (a, b) -> Integer.compare((Integer) b, (Integer) a)),
+    CHAR("c",
+            (a, b) -> Character.compare((Character) a, (Character) b),
+            (a, b) -> Character.compare((Character) b, (Character) a)),
+    LONG("l",
+            (a, b) -> Long.compare((Long) a, (Long) b),
+            (a, b) -> Long.compare((Long) b, (Long) a)),
+    DOUBLE("d",
+            (a, b) -> Double.compare((Double) a, (Double) b),
+            (a, b) -> DoubleKeys.compareDescending((Double) a, (Double) b)),
+    STRING("s",
+            (a, b) -> StringKeys.compare((String) a, (String) b),
+            (a, b) -> StringKeys.compare((String) b, (String) a));
+
+    private final String code;
+    private final Comparator<Object> ascending;
+    private final Comparator<Object> descending;
+
+    KeyType(String code, Comparator<Object> ascending, Comparator<Object> descending) {
+        this.code = code;
+        this.ascending = ascending;
+        this.descending = descending;
+    }
+
+    /**
+     * Obtém o código do tipo no argumento "t".
+     *
+     * @return O código do tipo.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Obtém o comparador dos elementos deste tipo para a direção informada.
+     *
+     * @param order A direção da ordenação.
+     * @return O comparador, que só aceita elementos deste tipo.
+     */
+    public Comparator<Object> comparator(SortOrder order) {
+        return order.isDescending() ? descending : ascending;
+    }
+
+    /**
+     * Indica se os elementos deste tipo já são valores inteiros que podem ser desenhados diretamente.
+     *
+     * @return true para inteiros e caracteres.
+     */
+    public boolean isIntegral() {
+        return this == INT || this == CHAR;
+    }
+
+    /**
+     * Obtém o tipo de um elemento já convertido em objeto.
+     *
+     * @param element O elemento (Integer, Character, Long, Double ou String).
+     * @return O tipo de chave do elemento.
+     * @throws IllegalArgumentException Se o tipo do elemento não for suportado.
+     */
+    public static KeyType of(Object element) {
+        if (element instanceof Integer) {
+            return INT;
+        } else if (element instanceof Character) {
+            return CHAR;
+        } else if (element instanceof Long) {
+            return LONG;
+        } else if (element instanceof Double) {
+            return DOUBLE;
+        } else if (element instanceof String) {
+            return STRING;
+        }
+        throw new IllegalArgumentException("Tipo não suportado: " + element.getClass().getSimpleName());
+    }
+
+    /**
+     * Converte o valor do argumento "t" no tipo correspondente.
+     *
+     * @param code O código do tipo ("n", "c", "l", "d" ou "s").
+     * @return O tipo de chave.
+     * @throws IllegalArgumentException Se o tipo não for suportado.
+     */
+    public static KeyType fromCode(String code) {
+        for (KeyType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Tipo não suportado: " + code);
+    }
+}
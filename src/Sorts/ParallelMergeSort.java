@@ -0,0 +1,623 @@
+package Sorts;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementa o algoritmo de ordenação Merge Sort paralelo, baseado em fork/join.
+ *
+ * Subarrays com até {@code cutoff} elementos são ordenados sequencialmente na própria tarefa;
+ * acima desse limite, as duas metades são ordenadas em paralelo no {@link ForkJoinPool} comum.
+ * No caminho primitivo, a intercalação também é dividida em tarefas, alternando entre o array
+ * e um buffer auxiliar para evitar cópias a cada nível.
+ *
+ * No caminho de inteiros, com a Vector API habilitada ({@link IntKernels}), as folhas são blocos maiores
+ * ordenados por uma rede bitônica vetorial no lugar do Insertion Sort.
+ */
+public class ParallelMergeSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho abaixo do qual os subarrays são tratados como um caso simples (Insertion Sort).
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final int cutoff;
+
+    /**
+     * Cria o algoritmo com o limite sequencial padrão.
+     */
+    public ParallelMergeSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo com um limite sequencial específico.
+     *
+     * @param cutoff Quantidade de elementos a partir da qual o trabalho é dividido em tarefas paralelas.
+     * @throws IllegalArgumentException Se o limite for menor que 1.
+     */
+    public ParallelMergeSort(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("O limite sequencial tem que ser maior que zero.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Ordena o array utilizando o algoritmo Merge Sort paralelo.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        if (array.length < 2) {
+            return;
+        }
+        T[] buffer = array.clone();
+        ForkJoinPool.commonPool().invoke(new ObjectSortTask<>(array, buffer, 0, array.length, comparator, tracer));
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando o algoritmo Merge Sort paralelo.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        int[] buffer = new int[array.length];
+        ForkJoinPool.commonPool().invoke(
+                new IntSortTask(array, buffer, 0, array.length, false, order.isDescending(), metrics));
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando o algoritmo Merge Sort paralelo.
+     * Os valores são ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o algoritmo Merge Sort paralelo.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        long[] buffer = new long[array.length];
+        ForkJoinPool.commonPool().invoke(
+                new LongSortTask(array, buffer, 0, array.length, false, order.isDescending(), metrics));
+    }
+
+    /**
+     * Tarefa que ordena o intervalo [lo, hi) de {@code a}, deixando o resultado em {@code a}
+     * ou, se {@code intoBuffer} for verdadeiro, no mesmo intervalo de {@code b}.
+     */
+    private final class IntSortTask extends RecursiveAction {
+        private final int[] a;
+        private final int[] b;
+        private final int lo;
+        private final int hi;
+        private final boolean intoBuffer;
+        private final boolean descending;
+        private final SortMetrics metrics;
+
+        IntSortTask(int[] a, int[] b, int lo, int hi, boolean intoBuffer, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.b = b;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoBuffer = intoBuffer;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= cutoff) {
+                long[] writes = new long[1];
+                int[] scratch = IntKernels.ENABLED ? new int[IntKernels.SCRATCH_SIZE] : null;
+                metrics.addComparisons(sortSequential(a, b, lo, hi, intoBuffer, descending, writes, scratch));
+                metrics.addWrites(writes[0]);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            //As metades ficam no array oposto ao destino, para serem intercaladas nele
+            invokeAll(new IntSortTask(a, b, lo, mid, !intoBuffer, descending, metrics),
+                    new IntSortTask(a, b, mid, hi, !intoBuffer, descending, metrics));
+            int[] src = intoBuffer ? a : b;
+            int[] dst = intoBuffer ? b : a;
+            new IntMergeTask(src, lo, mid, mid, hi, dst, lo, descending, metrics).compute();
+        }
+    }
+
+    /**
+     * Tarefa que intercala os trechos ordenados src[lo1, hi1) e src[lo2, hi2) em dst a partir de dstLo.
+     * Trechos grandes são divididos pelo elemento central do maior trecho e sua posição no outro.
+     */
+    private final class IntMergeTask extends RecursiveAction {
+        private final int[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int[] dst;
+        private final int dstLo;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+
+        IntMergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int dstLo, boolean descending,
+                     SortMetrics metrics) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= cutoff) {
+                metrics.addComparisons(merge(src, lo1, hi1, lo2, hi2, dst, dstLo, descending));
+                metrics.addWrites((hi1 - lo1) + (hi2 - lo2));
+                return;
+            }
+            if (hi1 - lo1 >= hi2 - lo2) {
+                int m1 = (lo1 + hi1) >>> 1;
+                int pivot = src[m1];
+                //Iguais ao pivô no segundo trecho vão depois dele, mantendo a estabilidade
+                int m2 = lowerBound(lo2, hi2, pivot);
+                int p = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[p] = pivot;
+                metrics.addComparisons(comparisons);
+                metrics.addWrites(1);
+                invokeAll(new IntMergeTask(src, lo1, m1, lo2, m2, dst, dstLo, descending, metrics),
+                        new IntMergeTask(src, m1 + 1, hi1, m2, hi2, dst, p + 1, descending, metrics));
+            } else {
+                int m2 = (lo2 + hi2) >>> 1;
+                int pivot = src[m2];
+                //Iguais ao pivô no primeiro trecho vão antes dele
+                int m1 = upperBound(lo1, hi1, pivot);
+                int p = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[p] = pivot;
+                metrics.addComparisons(comparisons);
+                metrics.addWrites(1);
+                invokeAll(new IntMergeTask(src, lo1, m1, lo2, m2, dst, dstLo, descending, metrics),
+                        new IntMergeTask(src, m1, hi1, m2 + 1, hi2, dst, p + 1, descending, metrics));
+            }
+        }
+
+        /**
+         * Retorna o primeiro índice em [lo, hi) de src cujo valor não vem antes de {@code key}.
+         */
+        private int lowerBound(int lo, int hi, int key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                comparisons++;
+                if (descending ? src[mid] > key : src[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Retorna o primeiro índice em [lo, hi) de src cujo valor vem depois de {@code key}.
+         */
+        private int upperBound(int lo, int hi, int key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                comparisons++;
+                if (descending ? key > src[mid] : key < src[mid]) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo [lo, hi) de {@code a}, deixando o resultado em {@code a}
+     * ou, se {@code intoBuffer} for verdadeiro, no mesmo intervalo de {@code b}.
+     */
+    private final class LongSortTask extends RecursiveAction {
+        private final long[] a;
+        private final long[] b;
+        private final int lo;
+        private final int hi;
+        private final boolean intoBuffer;
+        private final boolean descending;
+        private final SortMetrics metrics;
+
+        LongSortTask(long[] a, long[] b, int lo, int hi, boolean intoBuffer, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.b = b;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoBuffer = intoBuffer;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= cutoff) {
+                long[] writes = new long[1];
+                metrics.addComparisons(sortSequential(a, b, lo, hi, intoBuffer, descending, writes));
+                metrics.addWrites(writes[0]);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            //As metades ficam no array oposto ao destino, para serem intercaladas nele
+            invokeAll(new LongSortTask(a, b, lo, mid, !intoBuffer, descending, metrics),
+                    new LongSortTask(a, b, mid, hi, !intoBuffer, descending, metrics));
+            long[] src = intoBuffer ? a : b;
+            long[] dst = intoBuffer ? b : a;
+            new LongMergeTask(src, lo, mid, mid, hi, dst, lo, descending, metrics).compute();
+        }
+    }
+
+    /**
+     * Tarefa que intercala os trechos ordenados src[lo1, hi1) e src[lo2, hi2) em dst a partir de dstLo.
+     * Trechos grandes são divididos pelo elemento central do maior trecho e sua posição no outro.
+     */
+    private final class LongMergeTask extends RecursiveAction {
+        private final long[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final long[] dst;
+        private final int dstLo;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+
+        LongMergeTask(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int dstLo, boolean descending,
+                      SortMetrics metrics) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= cutoff) {
+                metrics.addComparisons(merge(src, lo1, hi1, lo2, hi2, dst, dstLo, descending));
+                metrics.addWrites((hi1 - lo1) + (hi2 - lo2));
+                return;
+            }
+            if (hi1 - lo1 >= hi2 - lo2) {
+                int m1 = (lo1 + hi1) >>> 1;
+                long pivot = src[m1];
+                //Iguais ao pivô no segundo trecho vão depois dele, mantendo a estabilidade
+                int m2 = lowerBound(lo2, hi2, pivot);
+                int p = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[p] = pivot;
+                metrics.addComparisons(comparisons);
+                metrics.addWrites(1);
+                invokeAll(new LongMergeTask(src, lo1, m1, lo2, m2, dst, dstLo, descending, metrics),
+                        new LongMergeTask(src, m1 + 1, hi1, m2, hi2, dst, p + 1, descending, metrics));
+            } else {
+                int m2 = (lo2 + hi2) >>> 1;
+                long pivot = src[m2];
+                //Iguais ao pivô no primeiro trecho vão antes dele
+                int m1 = upperBound(lo1, hi1, pivot);
+                int p = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[p] = pivot;
+                metrics.addComparisons(comparisons);
+                metrics.addWrites(1);
+                invokeAll(new LongMergeTask(src, lo1, m1, lo2, m2, dst, dstLo, descending, metrics),
+                        new LongMergeTask(src, m1, hi1, m2 + 1, hi2, dst, p + 1, descending, metrics));
+            }
+        }
+
+        /**
+         * Retorna o primeiro índice em [lo, hi) de src cujo valor não vem antes de {@code key}.
+         */
+        private int lowerBound(int lo, int hi, long key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                comparisons++;
+                if (descending ? src[mid] > key : src[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Retorna o primeiro índice em [lo, hi) de src cujo valor vem depois de {@code key}.
+         */
+        private int upperBound(int lo, int hi, long key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                comparisons++;
+                if (descending ? key > src[mid] : key < src[mid]) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo [lo, hi) do array de objetos, registrando cada escrita no rastreador.
+     */
+    private final class ObjectSortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> comparator;
+        private final SortTracer tracer;
+
+        ObjectSortTask(T[] array, T[] buffer, int lo, int hi, Comparator<? super T> comparator, SortTracer tracer) {
+            this.array = array;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+            this.tracer = tracer;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < 2) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (hi - lo <= cutoff) {
+                new ObjectSortTask<>(array, buffer, lo, mid, comparator, tracer).compute();
+                new ObjectSortTask<>(array, buffer, mid, hi, comparator, tracer).compute();
+            } else {
+                invokeAll(new ObjectSortTask<>(array, buffer, lo, mid, comparator, tracer),
+                        new ObjectSortTask<>(array, buffer, mid, hi, comparator, tracer));
+            }
+            merge(array, buffer, lo, mid, hi, comparator, tracer);
+        }
+    }
+
+    /**
+     * Ordena sequencialmente o intervalo [lo, hi) de {@code a}, deixando o resultado em {@code a}
+     * ou em {@code b}, conforme {@code intoBuffer}.
+     *
+     * @param writes  Acumula, na primeira posição, a quantidade de elementos escritos.
+     * @param scratch Área de trabalho da rede bitônica, ou null sem a Vector API.
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long sortSequential(int[] a, int[] b, int lo, int hi, boolean intoBuffer, boolean descending,
+                                       long[] writes, int[] scratch) {
+        if (scratch != null && hi - lo <= IntKernels.BLOCK_SIZE) {
+            long comparisons = hi - lo < 2 ? 0 : IntKernels.sortBlock(a, lo, hi, descending, scratch);
+            writes[0] += hi - lo;
+            if (intoBuffer) {
+                System.arraycopy(a, lo, b, lo, hi - lo);
+                writes[0] += hi - lo;
+            }
+            return comparisons;
+        }
+        if (hi - lo <= INSERTION_THRESHOLD) {
+            long comparisons = insertionSort(a, lo, hi, descending, writes);
+            if (intoBuffer) {
+                System.arraycopy(a, lo, b, lo, hi - lo);
+                writes[0] += hi - lo;
+            }
+            return comparisons;
+        }
+        int mid = (lo + hi) >>> 1;
+        long comparisons = sortSequential(a, b, lo, mid, !intoBuffer, descending, writes, scratch)
+                + sortSequential(a, b, mid, hi, !intoBuffer, descending, writes, scratch);
+        //A intercalação escreve cada elemento do intervalo uma vez
+        writes[0] += hi - lo;
+        if (intoBuffer) {
+            return comparisons + merge(a, lo, mid, mid, hi, b, lo, descending);
+        }
+        return comparisons + merge(b, lo, mid, mid, hi, a, lo, descending);
+    }
+
+    /**
+     * Ordena o intervalo [lo, hi) utilizando Insertion Sort.
+     *
+     * @param writes Acumula, na primeira posição, a quantidade de elementos escritos.
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long insertionSort(int[] a, int lo, int hi, boolean descending, long[] writes) {
+        long comparisons = 0;
+        long shifts = 0;
+        for (int i = lo + 1; i < hi; i++) {
+            int key = a[i];
+            int j = i - 1;
+            while (j >= lo) {
+                comparisons++;
+                if (!(descending ? a[j] < key : a[j] > key)) {
+                    break;
+                }
+                a[j + 1] = a[j];
+                shifts++;
+                j--;
+            }
+            a[j + 1] = key;
+        }
+        writes[0] += shifts + Math.max(0, hi - lo - 1);
+        return comparisons;
+    }
+
+    /**
+     * Intercala de forma estável src[lo1, hi1) e src[lo2, hi2) em dst a partir de dstLo.
+     *
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int dstLo, boolean descending) {
+        int i = lo1;
+        int j = lo2;
+        int k = dstLo;
+        long comparisons = 0;
+        while (i < hi1 && j < hi2) {
+            comparisons++;
+            int x = src[i];
+            int y = src[j];
+            if (descending ? y > x : y < x) {
+                dst[k++] = y;
+                j++;
+            } else {
+                dst[k++] = x;
+                i++;
+            }
+        }
+        while (i < hi1) {
+            dst[k++] = src[i++];
+        }
+        while (j < hi2) {
+            dst[k++] = src[j++];
+        }
+        return comparisons;
+    }
+
+    /**
+     * Ordena sequencialmente o intervalo [lo, hi) de {@code a}, deixando o resultado em {@code a}
+     * ou em {@code b}, conforme {@code intoBuffer}.
+     *
+     * @param writes Acumula, na primeira posição, a quantidade de elementos escritos.
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long sortSequential(long[] a, long[] b, int lo, int hi, boolean intoBuffer, boolean descending,
+                                       long[] writes) {
+        if (hi - lo <= INSERTION_THRESHOLD) {
+            long comparisons = insertionSort(a, lo, hi, descending, writes);
+            if (intoBuffer) {
+                System.arraycopy(a, lo, b, lo, hi - lo);
+                writes[0] += hi - lo;
+            }
+            return comparisons;
+        }
+        int mid = (lo + hi) >>> 1;
+        long comparisons = sortSequential(a, b, lo, mid, !intoBuffer, descending, writes)
+                + sortSequential(a, b, mid, hi, !intoBuffer, descending, writes);
+        //A intercalação escreve cada elemento do intervalo uma vez
+        writes[0] += hi - lo;
+        if (intoBuffer) {
+            return comparisons + merge(a, lo, mid, mid, hi, b, lo, descending);
+        }
+        return comparisons + merge(b, lo, mid, mid, hi, a, lo, descending);
+    }
+
+    /**
+     * Ordena o intervalo [lo, hi) utilizando Insertion Sort.
+     *
+     * @param writes Acumula, na primeira posição, a quantidade de elementos escritos.
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long insertionSort(long[] a, int lo, int hi, boolean descending, long[] writes) {
+        long comparisons = 0;
+        long shifts = 0;
+        for (int i = lo + 1; i < hi; i++) {
+            long key = a[i];
+            int j = i - 1;
+            while (j >= lo) {
+                comparisons++;
+                if (!(descending ? a[j] < key : a[j] > key)) {
+                    break;
+                }
+                a[j + 1] = a[j];
+                shifts++;
+                j--;
+            }
+            a[j + 1] = key;
+        }
+        writes[0] += shifts + Math.max(0, hi - lo - 1);
+        return comparisons;
+    }
+
+    /**
+     * Intercala de forma estável src[lo1, hi1) e src[lo2, hi2) em dst a partir de dstLo.
+     *
+     * @return A quantidade de comparações realizadas.
+     */
+    private static long merge(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int dstLo, boolean descending) {
+        int i = lo1;
+        int j = lo2;
+        int k = dstLo;
+        long comparisons = 0;
+        while (i < hi1 && j < hi2) {
+            comparisons++;
+            long x = src[i];
+            long y = src[j];
+            if (descending ? y > x : y < x) {
+                dst[k++] = y;
+                j++;
+            } else {
+                dst[k++] = x;
+                i++;
+            }
+        }
+        while (i < hi1) {
+            dst[k++] = src[i++];
+        }
+        while (j < hi2) {
+            dst[k++] = src[j++];
+        }
+        return comparisons;
+    }
+
+    /**
+     * Intercala as metades ordenadas [lo, mid) e [mid, hi) do array de objetos, usando o buffer auxiliar.
+     */
+    private static <T> void merge(T[] array, T[] buffer, int lo, int mid, int hi, Comparator<? super T> comparator,
+                                  SortTracer tracer) {
+        System.arraycopy(array, lo, buffer, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (i < mid && j < hi) {
+                tracer.compare(i, j);
+            }
+            if (i < mid && (j >= hi || comparator.compare(buffer[j], buffer[i]) >= 0)) {
+                array[k] = buffer[i++];
+            } else {
+                array[k] = buffer[j++];
+            }
+            tracer.write(k, array[k]);
+        }
+    }
+}
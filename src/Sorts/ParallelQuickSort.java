@@ -0,0 +1,486 @@
+package Sorts;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementa o algoritmo de ordenação Quick Sort paralelo, baseado em fork/join.
+ *
+ * Cada partição (esquema de Hoare com pivô pela mediana de três) gera duas tarefas independentes
+ * no {@link ForkJoinPool} comum enquanto o intervalo tiver mais de {@code cutoff} elementos;
+ * intervalos menores são ordenados sequencialmente. Se a recursão passar de 2 log2 n níveis (pivôs ruins
+ * seguidos), o intervalo é ordenado pelo Heap Sort, o que limita o pior caso a O(n log n) e a profundidade
+ * da pilha a O(log n).
+ *
+ * No caminho de inteiros, com a Vector API habilitada ({@link IntKernels}), os intervalos grandes são
+ * particionados com vetores e as folhas são ordenadas por uma rede bitônica no lugar do Insertion Sort.
+ */
+public class ParallelQuickSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho abaixo do qual os intervalos são ordenados com Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private final int cutoff;
+
+    /**
+     * Cria o algoritmo com o limite sequencial padrão.
+     */
+    public ParallelQuickSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo com um limite sequencial específico.
+     *
+     * @param cutoff Quantidade de elementos a partir da qual as partições são ordenadas em paralelo.
+     * @throws IllegalArgumentException Se o limite for menor que 1.
+     */
+    public ParallelQuickSort(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("O limite sequencial tem que ser maior que zero.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Calcula a profundidade máxima do Quick Sort antes de passar para o Heap Sort: 2 log n.
+     */
+    private static int maxDepth(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Ordena o array utilizando o algoritmo Quick Sort paralelo.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new ObjectSortTask<>(array, 0, array.length - 1, maxDepth(array.length),
+                comparator, tracer));
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando o algoritmo Quick Sort paralelo.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new IntSortTask(array, 0, array.length - 1, maxDepth(array.length),
+                order.isDescending(), metrics));
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando o algoritmo Quick Sort paralelo.
+     * Os valores são ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o algoritmo Quick Sort paralelo.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new LongSortTask(array, 0, array.length - 1, maxDepth(array.length),
+                order.isDescending(), metrics));
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de inteiros.
+     * As comparações, trocas e escritas são contadas localmente e publicadas no fim da tarefa.
+     */
+    private final class IntSortTask extends RecursiveAction {
+        private final int[] a;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+        private final int[] scratch = IntKernels.ENABLED ? new int[IntKernels.SCRATCH_SIZE] : null;
+
+        IntSortTask(int[] a, int lo, int hi, int depth, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth == 0) {
+                HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                publish();
+                return;
+            }
+            if (hi - lo < cutoff) {
+                quickSort(lo, hi, depth);
+                publish();
+                return;
+            }
+            int p = partition(lo, hi);
+            publish();
+            invokeAll(new IntSortTask(a, lo, p, depth - 1, descending, metrics),
+                    new IntSortTask(a, p + 1, hi, depth - 1, descending, metrics));
+        }
+
+        /**
+         * Publica os contadores da tarefa.
+         */
+        private void publish() {
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Ordena sequencialmente o intervalo fechado [lo, hi], recorrendo na menor partição
+         * e iterando na maior para limitar a profundidade da pilha. Quando a profundidade se esgota, o
+         * intervalo é ordenado pelo Heap Sort.
+         */
+        private void quickSort(int lo, int hi, int depth) {
+            int leafSize = IntKernels.ENABLED ? IntKernels.BLOCK_SIZE : INSERTION_THRESHOLD;
+            while (hi - lo >= leafSize) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (p - lo < hi - p) {
+                    quickSort(lo, p, depth);
+                    lo = p + 1;
+                } else {
+                    quickSort(p + 1, hi, depth);
+                    hi = p;
+                }
+            }
+            if (IntKernels.ENABLED) {
+                if (hi > lo) {
+                    comparisons += IntKernels.sortBlock(a, lo, hi + 1, descending, scratch);
+                    writes += hi - lo + 1;
+                }
+                return;
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três; os intervalos grandes
+         * passam antes pela partição vetorial, que só é descartada se deixar um dos lados vazio.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            if (descending ? a[mid] > a[lo] : a[mid] < a[lo]) {
+                swap(a, lo, mid);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[lo] : a[hi] < a[lo]) {
+                swap(a, lo, hi);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[mid] : a[hi] < a[mid]) {
+                swap(a, mid, hi);
+                swaps++;
+            }
+            comparisons += 3;
+            int pivot = a[mid];
+            if (hi - lo + 1 >= IntKernels.PARTITION_THRESHOLD) {
+                int split = IntKernels.partition(a, lo, hi, pivot, descending, scratch);
+                comparisons += hi - lo + 1;
+                writes += hi - lo + 1;
+                //Com o pivô no menor valor não sobra nada antes dele; o esquema de Hoare divide os iguais
+                if (split > lo) {
+                    return split - 1;
+                }
+            }
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (descending ? a[i] > pivot : a[i] < pivot);
+                do {
+                    j--;
+                    comparisons++;
+                } while (descending ? pivot > a[j] : pivot < a[j]);
+                if (i >= j) {
+                    return j;
+                }
+                swap(a, i, j);
+                swaps++;
+            }
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de longs.
+     * As comparações, trocas e escritas são contadas localmente e publicadas no fim da tarefa.
+     */
+    private final class LongSortTask extends RecursiveAction {
+        private final long[] a;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+
+        LongSortTask(long[] a, int lo, int hi, int depth, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth == 0) {
+                HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                publish();
+                return;
+            }
+            if (hi - lo < cutoff) {
+                quickSort(lo, hi, depth);
+                publish();
+                return;
+            }
+            int p = partition(lo, hi);
+            publish();
+            invokeAll(new LongSortTask(a, lo, p, depth - 1, descending, metrics),
+                    new LongSortTask(a, p + 1, hi, depth - 1, descending, metrics));
+        }
+
+        /**
+         * Publica os contadores da tarefa.
+         */
+        private void publish() {
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Ordena sequencialmente o intervalo fechado [lo, hi], recorrendo na menor partição
+         * e iterando na maior para limitar a profundidade da pilha. Quando a profundidade se esgota, o
+         * intervalo é ordenado pelo Heap Sort.
+         */
+        private void quickSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (p - lo < hi - p) {
+                    quickSort(lo, p, depth);
+                    lo = p + 1;
+                } else {
+                    quickSort(p + 1, hi, depth);
+                    hi = p;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            if (descending ? a[mid] > a[lo] : a[mid] < a[lo]) {
+                swap(a, lo, mid);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[lo] : a[hi] < a[lo]) {
+                swap(a, lo, hi);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[mid] : a[hi] < a[mid]) {
+                swap(a, mid, hi);
+                swaps++;
+            }
+            comparisons += 3;
+            long pivot = a[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (descending ? a[i] > pivot : a[i] < pivot);
+                do {
+                    j--;
+                    comparisons++;
+                } while (descending ? pivot > a[j] : pivot < a[j]);
+                if (i >= j) {
+                    return j;
+                }
+                swap(a, i, j);
+                swaps++;
+            }
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de objetos, registrando as operações no rastreador.
+     */
+    private final class ObjectSortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final Comparator<? super T> comparator;
+        private final SortTracer tracer;
+
+        ObjectSortTask(T[] array, int lo, int hi, int depth, Comparator<? super T> comparator, SortTracer tracer) {
+            this.array = array;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.comparator = comparator;
+            this.tracer = tracer;
+        }
+
+        @Override
+        protected void compute() {
+            if (lo >= hi) {
+                return;
+            }
+            if (depth == 0) {
+                HeapSort.sortRange(array, lo, hi + 1, comparator, tracer);
+                return;
+            }
+            int p = partition(array, lo, hi, comparator, tracer);
+            ObjectSortTask<T> left = new ObjectSortTask<>(array, lo, p, depth - 1, comparator, tracer);
+            ObjectSortTask<T> right = new ObjectSortTask<>(array, p + 1, hi, depth - 1, comparator, tracer);
+            if (hi - lo < cutoff) {
+                left.compute();
+                right.compute();
+            } else {
+                invokeAll(left, right);
+            }
+        }
+    }
+
+    /**
+     * Particiona [lo, hi] do array de objetos pelo mesmo esquema, registrando as operações no rastreador.
+     * As comparações são registradas com a posição atual do pivô, que acompanha as trocas.
+     */
+    private static <T> int partition(T[] array, int lo, int hi, Comparator<? super T> comparator, SortTracer tracer) {
+        int mid = (lo + hi) >>> 1;
+        sortPair(array, lo, mid, comparator, tracer);
+        sortPair(array, lo, hi, comparator, tracer);
+        sortPair(array, mid, hi, comparator, tracer);
+        T pivot = array[mid];
+        int pivotIndex = mid;
+        int i = lo - 1;
+        int j = hi + 1;
+        while (true) {
+            do {
+                i++;
+                tracer.compare(i, pivotIndex);
+            } while (comparator.compare(array[i], pivot) < 0);
+            do {
+                j--;
+                tracer.compare(j, pivotIndex);
+            } while (comparator.compare(pivot, array[j]) < 0);
+            if (i >= j) {
+                return j;
+            }
+            swap(array, i, j);
+            tracer.swap(i, j);
+            if (pivotIndex == i) {
+                pivotIndex = j;
+            } else if (pivotIndex == j) {
+                pivotIndex = i;
+            }
+        }
+    }
+
+    /**
+     * Troca as posições i e j do array de objetos se o elemento em j vier antes do elemento em i.
+     */
+    private static <T> void sortPair(T[] array, int i, int j, Comparator<? super T> comparator, SortTracer tracer) {
+        boolean outOfOrder = comparator.compare(array[j], array[i]) < 0;
+        tracer.compare(i, j);
+        if (outOfOrder) {
+            swap(array, i, j);
+            tracer.swap(i, j);
+        }
+    }
+
+    /**
+     * Troca dois elementos no array de inteiros.
+     */
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Troca dois elementos no array de longs.
+     */
+    private static void swap(long[] a, int i, int j) {
+        long temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Troca dois elementos no array.
+     *
+     * @param array O array em que a troca será realizada.
+     * @param i     O índice do primeiro elemento.
+     * @param j     O índice do segundo elemento.
+     */
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
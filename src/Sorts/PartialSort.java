@@ -0,0 +1,427 @@
+package Sorts;
+
+import java.util.Comparator;
+
+/**
+ * Implementa a ordenação parcial: apenas os k primeiros elementos na direção da ordenação ("top-k").
+ *
+ * O Quickselect particiona o array pelo esquema de Hoare, com pivô pela mediana de três, e continua apenas
+ * no lado que contém a posição k - 1, até que as k primeiras posições tenham os k primeiros elementos, em
+ * tempo O(n) em média. Se a seleção passar de 2 log n partições, o intervalo restante é ordenado pelo Heap
+ * Sort, o que limita o pior caso a O(n log n). Depois, só o prefixo [0, k) é ordenado pelo Heap Sort, em
+ * O(k log k): para os 100 primeiros de 10 milhões, quase todo o trabalho é uma única passagem pelo array.
+ * Os elementos depois do prefixo ficam em uma ordem qualquer. Com k maior ou igual ao tamanho do array, ele
+ * é ordenado inteiro.
+ */
+public class PartialSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho até o qual os intervalos da seleção são ordenados com Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 24;
+
+    private final int k;
+
+    /**
+     * Cria a ordenação parcial dos k primeiros elementos.
+     *
+     * @param k A quantidade de elementos ordenados no início do array.
+     * @throws IllegalArgumentException Se k não for positivo.
+     */
+    public PartialSort(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("A quantidade de elementos da ordenação parcial tem que ser maior que zero.");
+        }
+        this.k = k;
+    }
+
+    /**
+     * Obtém a quantidade de elementos ordenados no início do array.
+     *
+     * @return O k informado na criação.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Seleciona e ordena os k primeiros elementos do array de objetos.
+     *
+     * @param array      O array de objetos.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        new ObjectSelect<>(array, comparator, tracer).sort(Math.min(k, array.length));
+    }
+
+    /**
+     * Seleciona e ordena os k primeiros elementos do array de inteiros.
+     *
+     * @param array   O array de inteiros.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        new IntSelect(array, order.isDescending(), metrics).sort(Math.min(k, array.length));
+    }
+
+    /**
+     * Seleciona e ordena os k primeiros elementos do array de caracteres.
+     * Os valores são selecionados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Seleciona e ordena os k primeiros elementos do array de longs.
+     *
+     * @param array   O array de longs.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        new LongSelect(array, order.isDescending(), metrics).sort(Math.min(k, array.length));
+    }
+
+    /**
+     * Calcula a quantidade máxima de partições da seleção antes de passar para o Heap Sort: 2 log n.
+     */
+    private static int maxDepth(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+    }
+
+    /**
+     * Seleção em um array de inteiros. As comparações e trocas são contadas localmente e publicadas no fim.
+     */
+    private static final class IntSelect {
+        private final int[] a;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+
+        IntSelect(int[] a, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Leva os k primeiros elementos para o início do array e os ordena.
+         */
+        void sort(int k) {
+            if (k < a.length) {
+                select(k - 1);
+            }
+            HeapSort.sortRange(a, 0, k, descending, metrics);
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+        }
+
+        /**
+         * Quickselect: particiona até que nenhum elemento antes da posição target venha depois dele na ordem,
+         * e nenhum elemento depois dela venha antes.
+         */
+        private void select(int target) {
+            int lo = 0;
+            int hi = a.length - 1;
+            int depth = maxDepth(a.length);
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (target <= p) {
+                    hi = p;
+                } else {
+                    lo = p + 1;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Indica se x vem antes de y na direção da ordenação.
+         */
+        private boolean before(int x, int y) {
+            return descending ? x > y : x < y;
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            int pivot = a[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (before(a[i], pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (before(pivot, a[j]));
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            comparisons++;
+            if (before(a[j], a[i])) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array.
+         */
+        private void swap(int i, int j) {
+            int temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+            swaps++;
+        }
+    }
+
+    /**
+     * Seleção em um array de longs. As comparações e trocas são contadas localmente e publicadas no fim.
+     */
+    private static final class LongSelect {
+        private final long[] a;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+
+        LongSelect(long[] a, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Leva os k primeiros elementos para o início do array e os ordena.
+         */
+        void sort(int k) {
+            if (k < a.length) {
+                select(k - 1);
+            }
+            HeapSort.sortRange(a, 0, k, descending, metrics);
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+        }
+
+        /**
+         * Quickselect: particiona até que nenhum elemento antes da posição target venha depois dele na ordem,
+         * e nenhum elemento depois dela venha antes.
+         */
+        private void select(int target) {
+            int lo = 0;
+            int hi = a.length - 1;
+            int depth = maxDepth(a.length);
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (target <= p) {
+                    hi = p;
+                } else {
+                    lo = p + 1;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Indica se x vem antes de y na direção da ordenação.
+         */
+        private boolean before(long x, long y) {
+            return descending ? x > y : x < y;
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            long pivot = a[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (before(a[i], pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (before(pivot, a[j]));
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            comparisons++;
+            if (before(a[j], a[i])) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array.
+         */
+        private void swap(int i, int j) {
+            long temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+            swaps++;
+        }
+    }
+
+    /**
+     * Seleção em um array de objetos, registrando cada operação no rastreador: na animação, as partições
+     * se fecham em torno da posição k e, no fim, só o prefixo é ordenado.
+     */
+    private static final class ObjectSelect<T> {
+        private final T[] array;
+        private final Comparator<? super T> comparator;
+        private final SortTracer tracer;
+
+        ObjectSelect(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+            this.array = array;
+            this.comparator = comparator;
+            this.tracer = tracer;
+        }
+
+        /**
+         * Leva os k primeiros elementos para o início do array e os ordena.
+         */
+        void sort(int k) {
+            if (k < array.length) {
+                select(k - 1);
+            }
+            HeapSort.sortRange(array, 0, k, comparator, tracer);
+        }
+
+        /**
+         * Quickselect: particiona até que nenhum elemento antes da posição target venha depois dele na ordem,
+         * e nenhum elemento depois dela venha antes.
+         */
+        private void select(int target) {
+            int lo = 0;
+            int hi = array.length - 1;
+            int depth = maxDepth(array.length);
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(array, lo, hi + 1, comparator, tracer);
+                    return;
+                }
+                int p = partition(lo, hi);
+                if (target <= p) {
+                    hi = p;
+                } else {
+                    lo = p + 1;
+                }
+            }
+            InsertionSort.sortRange(array, lo, hi + 1, comparator, tracer);
+        }
+
+        /**
+         * Indica se o elemento na posição i vem antes do elemento na posição j, registrando a comparação.
+         */
+        private boolean before(int i, int j) {
+            boolean before = comparator.compare(array[i], array[j]) < 0;
+            tracer.compare(i, j);
+            return before;
+        }
+
+        /**
+         * Particiona [lo, hi] pelo esquema de Hoare, com pivô pela mediana de três.
+         *
+         * @return O índice j tal que [lo, j] não tem elementos depois do pivô e [j + 1, hi] não tem elementos antes dele.
+         */
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            sortPair(lo, mid);
+            sortPair(lo, hi);
+            sortPair(mid, hi);
+            T pivot = array[mid];
+            int i = lo - 1;
+            int j = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    tracer.compare(i, mid);
+                } while (comparator.compare(array[i], pivot) < 0);
+                do {
+                    j--;
+                    tracer.compare(j, mid);
+                } while (comparator.compare(pivot, array[j]) < 0);
+                if (i >= j) {
+                    return j;
+                }
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca as posições i e j se o elemento em j vier antes do elemento em i.
+         */
+        private void sortPair(int i, int j) {
+            if (before(j, i)) {
+                swap(i, j);
+            }
+        }
+
+        /**
+         * Troca dois elementos do array, registrando a troca.
+         */
+        private void swap(int i, int j) {
+            T temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+            tracer.swap(i, j);
+        }
+    }
+}
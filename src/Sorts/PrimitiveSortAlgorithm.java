@@ -0,0 +1,63 @@
+package Sorts;
+
+/**
+ * Variante do {@link SortAlgorithm} especializada para arrays primitivos.
+ *
+ * Os métodos desta interface ordenam {@code int[]}, {@code char[]} e {@code long[]} diretamente, sem boxing,
+ * casts ou pausas, recebem a direção já resolvida em um {@link SortOrder} e registram as
+ * operações realizadas em um {@link SortMetrics}. Arrays de {@code double} e de strings são ordenados
+ * a partir desses caminhos, por chaves derivadas dos valores.
+ */
+public interface PrimitiveSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena o array de inteiros.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    void sort(int[] array, SortOrder order, SortMetrics metrics);
+
+    /**
+     * Ordena o array de caracteres.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    void sort(char[] array, SortOrder order, SortMetrics metrics);
+
+    /**
+     * Ordena o array de longs.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    void sort(long[] array, SortOrder order, SortMetrics metrics);
+
+    /**
+     * Ordena o array de doubles na ordem de {@link Double#compare}, com os NaN sempre no fim.
+     * Os valores são convertidos em longs com a mesma ordem e ordenados pelo caminho de {@code long[]}.
+     *
+     * @param array   O array de doubles a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    default void sort(double[] array, SortOrder order, SortMetrics metrics) {
+        DoubleKeys.sort(this, array, order, metrics);
+    }
+
+    /**
+     * Ordena o array de strings na ordem dos bytes UTF-8.
+     * As comparações usam primeiro uma chave com os 8 primeiros bytes de cada string.
+     *
+     * @param array   O array de strings a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    default void sort(String[] array, SortOrder order, SortMetrics metrics) {
+        StringKeys.sort(this, array, order, metrics);
+    }
+}
@@ -0,0 +1,432 @@
+package Sorts;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementa o Radix Sort LSD paralelo, com dígitos de 8 bits.
+ *
+ * Antes de extrair os dígitos, o bit de sinal de cada valor é invertido, o que faz a ordem sem sinal
+ * das chaves coincidir com a ordem com sinal dos valores; na ordem decrescente todos os outros bits
+ * também são invertidos. Em cada passada o array é dividido em blocos: cada bloco conta os seus dígitos
+ * em um histograma próprio (em paralelo), os histogramas são combinados em posições iniciais por bloco
+ * e cada bloco distribui os seus elementos no array auxiliar (também em paralelo), mantendo a estabilidade.
+ * Passadas em que todos os elementos têm o mesmo dígito são puladas.
+ *
+ * O algoritmo não compara elementos: no {@link SortMetrics} registra apenas as escritas de cada distribuição.
+ */
+public class RadixSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Quantidade de bits de cada dígito.
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * Quantidade de valores possíveis de um dígito.
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    private final int cutoff;
+
+    /**
+     * Cria o algoritmo com o limite sequencial padrão.
+     */
+    public RadixSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo com um limite sequencial específico.
+     *
+     * @param cutoff Quantidade mínima de elementos de cada bloco processado em paralelo.
+     * @throws IllegalArgumentException Se o limite for menor que 1.
+     */
+    public RadixSort(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("O limite sequencial tem que ser maior que zero.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Ordena o array de objetos pelas chaves inteiras dos elementos ({@link Integer}, {@link Character}
+     * ou {@link Long}), registrando cada escrita no rastreador. A direção é obtida do comparador.
+     * Para outros tipos de elemento, a ordenação é feita pelo {@link ParallelMergeSort}, que também é estável.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        long[] keys = integralKeys(array, comparator);
+        if (keys == null) {
+            new ParallelMergeSort(cutoff).sort(array, comparator, tracer);
+            return;
+        }
+        long[] buffer = new long[keys.length];
+        @SuppressWarnings("unchecked")
+        T[] objects = (T[]) new Object[array.length];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[(int) (key >>> shift) & (RADIX - 1)]++;
+            }
+            if (isSingleDigit(counts, keys.length)) {
+                continue;
+            }
+            toOffsets(counts);
+            for (int i = 0; i < keys.length; i++) {
+                int position = counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                buffer[position] = keys[i];
+                objects[position] = array[i];
+            }
+            System.arraycopy(buffer, 0, keys, 0, keys.length);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = objects[i];
+                tracer.write(i, objects[i]);
+            }
+        }
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando o Radix Sort paralelo.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        int flip = order.isDescending() ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        IntRadixTask task = new IntRadixTask(array, flip, blockCount(array.length));
+        ForkJoinPool.commonPool().invoke(task);
+        metrics.addWrites(task.writes);
+    }
+
+    /**
+     * Ordena o array de caracteres. Os valores são ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o Radix Sort paralelo.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas (apenas escritas).
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        long flip = order.isDescending() ? Long.MAX_VALUE : Long.MIN_VALUE;
+        LongRadixTask task = new LongRadixTask(array, flip, blockCount(array.length));
+        ForkJoinPool.commonPool().invoke(task);
+        metrics.addWrites(task.writes);
+    }
+
+    /**
+     * Calcula em quantos blocos o array é dividido: um por thread do pool, com ao menos {@code cutoff} elementos cada.
+     */
+    private int blockCount(int length) {
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), length / cutoff));
+    }
+
+    /**
+     * Tarefa que executa todas as passadas sobre um array de inteiros.
+     */
+    private static final class IntRadixTask extends RecursiveAction {
+        private final int[] array;
+        private final int flip;
+        private final int[][] counts;
+        private long writes;
+
+        IntRadixTask(int[] array, int flip, int blocks) {
+            this.array = array;
+            this.flip = flip;
+            this.counts = new int[blocks][RADIX];
+        }
+
+        @Override
+        protected void compute() {
+            int[] source = array;
+            int[] target = new int[array.length];
+            for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+                runBlocks(source, target, shift, false);
+                if (!toBlockOffsets(counts, source.length)) {
+                    continue;
+                }
+                runBlocks(source, target, shift, true);
+                writes += source.length;
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != array) {
+                System.arraycopy(source, 0, array, 0, array.length);
+                writes += array.length;
+            }
+        }
+
+        /**
+         * Executa a contagem ou a distribuição de todos os blocos, em paralelo quando houver mais de um.
+         */
+        private void runBlocks(int[] source, int[] target, int shift, boolean scatter) {
+            int blocks = counts.length;
+            if (blocks == 1) {
+                new IntBlockTask(source, target, 0, source.length, flip, shift, counts[0], scatter).compute();
+                return;
+            }
+            IntBlockTask[] tasks = new IntBlockTask[blocks];
+            for (int b = 0; b < blocks; b++) {
+                int from = (int) ((long) source.length * b / blocks);
+                int to = (int) ((long) source.length * (b + 1) / blocks);
+                tasks[b] = new IntBlockTask(source, target, from, to, flip, shift, counts[b], scatter);
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Tarefa que conta os dígitos de um bloco no seu histograma ou distribui o bloco a partir das suas posições.
+     */
+    private static final class IntBlockTask extends RecursiveAction {
+        private final int[] source;
+        private final int[] target;
+        private final int from;
+        private final int to;
+        private final int flip;
+        private final int shift;
+        private final int[] counts;
+        private final boolean scatter;
+
+        IntBlockTask(int[] source, int[] target, int from, int to, int flip, int shift, int[] counts, boolean scatter) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.flip = flip;
+            this.shift = shift;
+            this.counts = counts;
+            this.scatter = scatter;
+        }
+
+        @Override
+        protected void compute() {
+            if (scatter) {
+                for (int i = from; i < to; i++) {
+                    int value = source[i];
+                    target[counts[((value ^ flip) >>> shift) & (RADIX - 1)]++] = value;
+                }
+            } else {
+                Arrays.fill(counts, 0);
+                for (int i = from; i < to; i++) {
+                    counts[((source[i] ^ flip) >>> shift) & (RADIX - 1)]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tarefa que executa todas as passadas sobre um array de longs.
+     */
+    private static final class LongRadixTask extends RecursiveAction {
+        private final long[] array;
+        private final long flip;
+        private final int[][] counts;
+        private long writes;
+
+        LongRadixTask(long[] array, long flip, int blocks) {
+            this.array = array;
+            this.flip = flip;
+            this.counts = new int[blocks][RADIX];
+        }
+
+        @Override
+        protected void compute() {
+            long[] source = array;
+            long[] target = new long[array.length];
+            for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+                runBlocks(source, target, shift, false);
+                if (!toBlockOffsets(counts, source.length)) {
+                    continue;
+                }
+                runBlocks(source, target, shift, true);
+                writes += source.length;
+                long[] swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != array) {
+                System.arraycopy(source, 0, array, 0, array.length);
+                writes += array.length;
+            }
+        }
+
+        /**
+         * Executa a contagem ou a distribuição de todos os blocos, em paralelo quando houver mais de um.
+         */
+        private void runBlocks(long[] source, long[] target, int shift, boolean scatter) {
+            int blocks = counts.length;
+            if (blocks == 1) {
+                new LongBlockTask(source, target, 0, source.length, flip, shift, counts[0], scatter).compute();
+                return;
+            }
+            LongBlockTask[] tasks = new LongBlockTask[blocks];
+            for (int b = 0; b < blocks; b++) {
+                int from = (int) ((long) source.length * b / blocks);
+                int to = (int) ((long) source.length * (b + 1) / blocks);
+                tasks[b] = new LongBlockTask(source, target, from, to, flip, shift, counts[b], scatter);
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Tarefa que conta os dígitos de um bloco de longs no seu histograma ou distribui o bloco.
+     */
+    private static final class LongBlockTask extends RecursiveAction {
+        private final long[] source;
+        private final long[] target;
+        private final int from;
+        private final int to;
+        private final long flip;
+        private final int shift;
+        private final int[] counts;
+        private final boolean scatter;
+
+        LongBlockTask(long[] source, long[] target, int from, int to, long flip, int shift, int[] counts,
+                      boolean scatter) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.flip = flip;
+            this.shift = shift;
+            this.counts = counts;
+            this.scatter = scatter;
+        }
+
+        @Override
+        protected void compute() {
+            if (scatter) {
+                for (int i = from; i < to; i++) {
+                    long value = source[i];
+                    target[counts[(int) ((value ^ flip) >>> shift) & (RADIX - 1)]++] = value;
+                }
+            } else {
+                Arrays.fill(counts, 0);
+                for (int i = from; i < to; i++) {
+                    counts[(int) ((source[i] ^ flip) >>> shift) & (RADIX - 1)]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Combina os histogramas dos blocos: cada contagem é substituída pela posição onde o bloco
+     * começa a escrever aquele dígito (todos os dígitos menores de todos os blocos, mais o mesmo
+     * dígito dos blocos anteriores).
+     *
+     * @param counts Os histogramas, um por bloco.
+     * @param length A quantidade total de elementos.
+     * @return false se todos os elementos têm o mesmo dígito, caso em que a passada pode ser pulada.
+     */
+    private static boolean toBlockOffsets(int[][] counts, int length) {
+        int position = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int total = 0;
+            for (int[] block : counts) {
+                total += block[digit];
+            }
+            if (total == length) {
+                return false;
+            }
+            for (int[] block : counts) {
+                int count = block[digit];
+                block[digit] = position;
+                position += count;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica se todos os elementos caíram no mesmo dígito.
+     */
+    static boolean isSingleDigit(int[] counts, int length) {
+        for (int count : counts) {
+            if (count != 0) {
+                return count == length;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Substitui cada contagem pela soma das contagens anteriores (a posição inicial daquele dígito).
+     */
+    static void toOffsets(int[] counts) {
+        int position = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            counts[i] = position;
+            position += count;
+        }
+    }
+
+    /**
+     * Extrai as chaves inteiras dos elementos, já com o bit de sinal invertido (e todos os bits invertidos
+     * se o comparador ordenar de forma decrescente), de modo que a ordem sem sinal das chaves seja a ordem
+     * pedida pelo comparador.
+     *
+     * @param array      Os elementos.
+     * @param comparator O comparador, consultado apenas para descobrir a direção.
+     * @return As chaves, ou null se algum elemento não for {@link Integer}, {@link Character} ou {@link Long}.
+     */
+    static <T> long[] integralKeys(T[] array, Comparator<? super T> comparator) {
+        long[] keys = new long[array.length];
+        int min = 0;
+        int max = 0;
+        for (int i = 0; i < array.length; i++) {
+            Object value = array[i];
+            if (value instanceof Integer || value instanceof Long) {
+                keys[i] = ((Number) value).longValue();
+            } else if (value instanceof Character) {
+                keys[i] = (Character) value;
+            } else {
+                return null;
+            }
+            if (keys[i] < keys[min]) {
+                min = i;
+            } else if (keys[i] > keys[max]) {
+                max = i;
+            }
+        }
+        boolean descending = keys.length > 0 && comparator.compare(array[min], array[max]) > 0;
+        long flip = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] ^= flip;
+        }
+        return keys;
+    }
+}
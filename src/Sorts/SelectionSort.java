@@ -1,53 +1,125 @@
 package Sorts;
 
+import java.util.Comparator;
+
 /**
  * Implementa o algoritmo de ordenação Selection Sort.
  */
-public class SelectionSort implements SortAlgorithm {
+public class SelectionSort implements PrimitiveSortAlgorithm {
 
     /**
      * Ordena o array utilizando o algoritmo Selection Sort.
      *
-     * @param array O array de objetos a ser ordenado.
-     * @param order A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
-     * @param pause O tempo de pausa em milissegundos entre cada passo de ordenação.
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
      */
     @Override
-    public void sort(Object[] array, String order, int pause) {
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
         int n = array.length;
         for (int i = 0; i < n - 1; i++) {
             int minIdx = i;
             for (int j = i + 1; j < n; j++) {
-                if (compare(array[j], array[minIdx], order) < 0) {
+                boolean smaller = comparator.compare(array[j], array[minIdx]) < 0;
+                tracer.compare(j, minIdx);
+                if (smaller) {
                     minIdx = j;
                 }
             }
             swap(array, i, minIdx);
-            sleep(pause); //Pausa entre as iterações
+            tracer.swap(i, minIdx);
         }
     }
 
     /**
-     * Compara dois objetos com base na ordem especificada.
+     * Ordena o array de inteiros utilizando o algoritmo Selection Sort.
      *
-     * @param o1    O primeiro objeto.
-     * @param o2    O segundo objeto.
-     * @param order A ordem de comparação ("AZ" para crescente, "ZA" para decrescente).
-     * @return Um valor negativo, zero ou positivo se o primeiro objeto for menor,
-     * igual ou maior que o segundo, respectivamente.
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
      */
-    private int compare(Object o1, Object o2, String order) {
-        int comparisonResult;
-        if (o1 instanceof Integer && o2 instanceof Integer) {
-            comparisonResult = Integer.compare((Integer) o1, (Integer) o2);
-        } else if (o1 instanceof Character && o2 instanceof Character) {
-            comparisonResult = Character.compare((Character) o1, (Character) o2);
-        } else {
-            throw new IllegalArgumentException("Unsupported data type");
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        boolean descending = order.isDescending();
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+            int min = array[i];
+            for (int j = i + 1; j < n; j++) {
+                int value = array[j];
+                if (descending ? value > min : value < min) {
+                    minIdx = j;
+                    min = value;
+                }
+            }
+            array[minIdx] = array[i];
+            array[i] = min;
+        }
+        //Ambos os laços percorrem todos os pares, então o total de comparações é fixo
+        metrics.addComparisons((long) n * (n - 1) / 2);
+        //Cada passagem do laço externo troca o menor elemento com a posição i
+        metrics.addSwaps(Math.max(0, n - 1));
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando o algoritmo Selection Sort.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        boolean descending = order.isDescending();
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+            char min = array[i];
+            for (int j = i + 1; j < n; j++) {
+                char value = array[j];
+                if (descending ? value > min : value < min) {
+                    minIdx = j;
+                    min = value;
+                }
+            }
+            array[minIdx] = array[i];
+            array[i] = min;
         }
+        //Ambos os laços percorrem todos os pares, então o total de comparações é fixo
+        metrics.addComparisons((long) n * (n - 1) / 2);
+        //Cada passagem do laço externo troca o menor elemento com a posição i
+        metrics.addSwaps(Math.max(0, n - 1));
+    }
 
-        //Inverte a comparação se a ordem for "ZA"
-        return order.equalsIgnoreCase("ZA") ? -comparisonResult : comparisonResult;
+    /**
+     * Ordena o array de longs utilizando o algoritmo Selection Sort.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        boolean descending = order.isDescending();
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+            long min = array[i];
+            for (int j = i + 1; j < n; j++) {
+                long value = array[j];
+                if (descending ? value > min : value < min) {
+                    minIdx = j;
+                    min = value;
+                }
+            }
+            array[minIdx] = array[i];
+            array[i] = min;
+        }
+        //Ambos os laços percorrem todos os pares, então o total de comparações é fixo
+        metrics.addComparisons((long) n * (n - 1) / 2);
+        //Cada passagem do laço externo troca o menor elemento com a posição i
+        metrics.addSwaps(Math.max(0, n - 1));
     }
 
     /**
@@ -57,22 +129,9 @@ public class SelectionSort implements SortAlgorithm {
      * @param i     O índice do primeiro elemento.
      * @param j     O índice do segundo elemento.
      */
-    private void swap(Object[] array, int i, int j) {
-        Object temp = array[i];
+    private <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
         array[i] = array[j];
         array[j] = temp;
     }
-
-    /**
-     * Pausa a execução por um tempo especificado.
-     *
-     * @param pause O tempo de pausa em milissegundos.
-     */
-    private void sleep(int pause) {
-        try {
-            Thread.sleep(pause);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
 }
@@ -1,5 +1,7 @@
 package Sorts;
 
+import java.util.Comparator;
+
 /**
  * Interface que define o método de ordenação para os algoritmos.
  */
@@ -8,9 +10,10 @@ public interface SortAlgorithm {
     /**
      * Ordena o array utilizando o algoritmo de ordenação especificado.
      *
-     * @param array O array de objetos a ser ordenado.
-     * @param order A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
-     * @param pause O tempo de pausa em milissegundos entre cada passo de ordenação.
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação (por exemplo, de {@link KeyType#comparator(SortOrder)}).
+     * @param tracer     O rastreador que recebe cada operação realizada.
+     * @param <T>        O tipo dos elementos.
      */
-    void sort(Object[] array, String order, int pause);
+    <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer);
 }
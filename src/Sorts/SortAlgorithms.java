@@ -0,0 +1,101 @@
+package Sorts;
+
+/**
+ * Registro dos algoritmos de ordenação disponíveis, identificados pelo código do argumento "a".
+ *
+ * <ul>
+ *     <li>"b": Bubble Sort</li>
+ *     <li>"i": Insertion Sort</li>
+ *     <li>"s": Selection Sort</li>
+ *     <li>"m": Merge Sort paralelo (fork/join)</li>
+ *     <li>"q": Quick Sort paralelo (fork/join)</li>
+ *     <li>"t": Quick Sort paralelo com partição em três vias, para chaves repetidas</li>
+ *     <li>"c": Counting Sort (intervalos grandes vão para o Radix Sort)</li>
+ *     <li>"r": Radix Sort LSD paralelo</li>
+ *     <li>"h": ordenação híbrida adaptativa (sequências naturais ou Introsort)</li>
+ *     <li>"k": ordenação parcial dos k primeiros elementos (Quickselect e Heap Sort do prefixo)</li>
+ *     <li>"auto": escolha automática, pela análise de uma amostra do array ({@link AutoSort})</li>
+ * </ul>
+ */
+public final class SortAlgorithms {
+
+    /**
+     * Limite sequencial padrão dos algoritmos paralelos, em número de elementos.
+     */
+    public static final int DEFAULT_CUTOFF = 8192;
+
+    private SortAlgorithms() {
+    }
+
+    /**
+     * Cria o algoritmo correspondente ao código informado, sem a ordenação parcial.
+     *
+     * @param code   O código do algoritmo ("b", "i", "s", "m", "q", "t", "c", "r", "h" ou "auto").
+     * @param cutoff O limite sequencial usado pelos algoritmos paralelos.
+     * @return Uma nova instância do algoritmo.
+     * @throws IllegalArgumentException Se o código não corresponder a nenhum algoritmo, ou se for "k".
+     */
+    public static PrimitiveSortAlgorithm create(String code, int cutoff) {
+        return create(code, cutoff, 0);
+    }
+
+    /**
+     * Cria o algoritmo correspondente ao código informado.
+     *
+     * @param code   O código do algoritmo ("b", "i", "s", "m", "q", "t", "c", "r", "h", "k" ou "auto").
+     * @param cutoff O limite sequencial usado pelos algoritmos paralelos.
+     * @param topK   A quantidade de elementos ordenados pelo "k", ou zero quando não foi informada.
+     * @return Uma nova instância do algoritmo.
+     * @throws IllegalArgumentException Se o código não corresponder a nenhum algoritmo, ou se for "k" sem
+     *                                  uma quantidade positiva.
+     */
+    public static PrimitiveSortAlgorithm create(String code, int cutoff, int topK) {
+        switch (code.toLowerCase()) {
+            case "b":
+                return new BubbleSort();
+            case "i":
+                return new InsertionSort();
+            case "s":
+                return new SelectionSort();
+            case "m":
+                return new ParallelMergeSort(cutoff);
+            case "q":
+                return new ParallelQuickSort(cutoff);
+            case "t":
+                return new ThreeWayQuickSort(cutoff);
+            case "c":
+                return new CountingSort(cutoff);
+            case "r":
+                return new RadixSort(cutoff);
+            case "h":
+                return new HybridSort();
+            case "k":
+                if (topK <= 0) {
+                    throw new IllegalArgumentException("A ordenação parcial exige a quantidade de elementos (k).");
+                }
+                return new PartialSort(topK);
+            case "auto":
+                return new AutoSort(cutoff);
+            default:
+                throw new IllegalArgumentException("Algoritmo não suportado");
+        }
+    }
+
+    /**
+     * Indica se o algoritmo tem custo quadrático no tamanho da entrada, o que torna mais barato ordenar
+     * vários arrays pequenos separadamente do que juntos.
+     *
+     * @param code O código do algoritmo.
+     * @return true para "b", "i" e "s".
+     */
+    public static boolean isQuadratic(String code) {
+        switch (code.toLowerCase()) {
+            case "b":
+            case "i":
+            case "s":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
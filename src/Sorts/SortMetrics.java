@@ -0,0 +1,153 @@
+package Sorts;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Contadores de operações de uma ordenação.
+ *
+ * Os algoritmos acumulam as contagens em variáveis locais durante o laço principal e as publicam aqui
+ * uma única vez por ordenação (ou por tarefa, nos algoritmos paralelos), por isso o custo no laço é
+ * apenas o de um incremento em registrador. Além das comparações, trocas e escritas, os contadores
+ * guardam o tempo ativo da ordenação, descontado o tempo em que ela esperou a animação.
+ */
+public class SortMetrics implements SortMetricsMXBean {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile boolean running;
+    private volatile ObjectName objectName;
+
+    /**
+     * Soma comparações realizadas.
+     *
+     * @param count A quantidade de comparações.
+     */
+    public void addComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    /**
+     * Soma trocas realizadas.
+     *
+     * @param count A quantidade de trocas.
+     */
+    public void addSwaps(long count) {
+        swaps.add(count);
+    }
+
+    /**
+     * Soma escritas de elementos realizadas.
+     *
+     * @param count A quantidade de escritas.
+     */
+    public void addWrites(long count) {
+        writes.add(count);
+    }
+
+    /**
+     * Soma um tempo em que a ordenação ficou parada esperando.
+     *
+     * @param nanos O tempo de espera em nanossegundos.
+     */
+    public void addWaitNanos(long nanos) {
+        waitNanos.add(nanos);
+    }
+
+    /**
+     * Marca o início da ordenação.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        running = true;
+    }
+
+    /**
+     * Marca o fim da ordenação.
+     */
+    public void stop() {
+        endNanos = System.nanoTime();
+        running = false;
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    @Override
+    public long getActiveNanos() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        long end = running ? System.nanoTime() : endNanos;
+        return Math.max(0, end - startNanos - waitNanos.sum());
+    }
+
+    @Override
+    public long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    /**
+     * Registra os contadores no servidor de MBeans da plataforma, sob
+     * {@code Sorts:type=SortMetrics,name=<nome>,id=<número>}.
+     *
+     * Os contadores ficam registrados até {@link #unregister()}.
+     *
+     * @param name O nome exibido (por exemplo, o nome do algoritmo).
+     * @return O nome do MBean registrado.
+     * @throws IllegalStateException Se o registro falhar.
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = new ObjectName("Sorts:type=SortMetrics,name=" + ObjectName.quote(name)
+                    + ",id=" + NEXT_ID.incrementAndGet());
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, objectName);
+            this.objectName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível registrar as métricas: " + name, e);
+        }
+    }
+
+    /**
+     * Remove do servidor de MBeans da plataforma o registro feito por {@link #register(String)}.
+     * Não faz nada se os contadores não estiverem registrados.
+     *
+     * @throws IllegalStateException Se a remoção falhar.
+     */
+    public void unregister() {
+        ObjectName registered = objectName;
+        if (registered == null) {
+            return;
+        }
+        objectName = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registered);
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível remover o registro das métricas: " + registered, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package Sorts;
+
+/**
+ * Interface de gerenciamento (JMX) dos contadores de uma ordenação, para acompanhá-los por ferramentas
+ * como o JConsole ou o VisualVM enquanto a ordenação roda.
+ */
+public interface SortMetricsMXBean {
+
+    /**
+     * Obtém o total de comparações realizadas.
+     *
+     * @return O total de comparações.
+     */
+    long getComparisons();
+
+    /**
+     * Obtém o total de trocas realizadas.
+     *
+     * @return O total de trocas.
+     */
+    long getSwaps();
+
+    /**
+     * Obtém o total de escritas de elementos realizadas (fora das trocas).
+     *
+     * @return O total de escritas.
+     */
+    long getWrites();
+
+    /**
+     * Obtém o tempo em que a ordenação esteve ativa: o tempo desde o início, sem o tempo em que esperou
+     * a animação consumir as operações gravadas.
+     *
+     * @return O tempo ativo em nanossegundos.
+     */
+    long getActiveNanos();
+
+    /**
+     * Obtém o tempo em que a ordenação esteve parada esperando a animação.
+     *
+     * @return O tempo de espera em nanossegundos.
+     */
+    long getWaitNanos();
+}
@@ -0,0 +1,37 @@
+package Sorts;
+
+/**
+ * Direção da ordenação, resolvida uma única vez a partir do argumento "o".
+ *
+ * Os algoritmos primitivos consultam apenas {@link #isDescending()} antes do laço principal,
+ * evitando comparar strings a cada passo da ordenação.
+ */
+public enum SortOrder {
+    AZ(false),
+    ZA(true);
+
+    private final boolean descending;
+
+    SortOrder(boolean descending) {
+        this.descending = descending;
+    }
+
+    /**
+     * Indica se a ordenação é decrescente.
+     *
+     * @return true para "ZA", false para "AZ".
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Converte o valor do argumento "o" na direção correspondente.
+     *
+     * @param order A ordem da ordenação ("AZ" para crescente, "ZA" para decrescente).
+     * @return {@link #ZA} se a ordem for "ZA", caso contrário {@link #AZ}.
+     */
+    public static SortOrder fromString(String order) {
+        return "ZA".equalsIgnoreCase(order) ? ZA : AZ;
+    }
+}
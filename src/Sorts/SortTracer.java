@@ -0,0 +1,62 @@
+package Sorts;
+
+/**
+ * Recebe as operações realizadas por um algoritmo de ordenação sobre o array de objetos.
+ *
+ * Os algoritmos chamam estes métodos logo depois de cada operação, e nunca pausam por conta própria:
+ * quem decide o ritmo da animação é quem consome as operações. Além das operações, um algoritmo pode
+ * informar as faixas de chaves iguais que já chegaram à posição final ({@link #equalRange(int, int)}).
+ */
+public interface SortTracer {
+
+    /**
+     * Rastreador que descarta todas as operações.
+     */
+    SortTracer NONE = new SortTracer() {
+        @Override
+        public void compare(int i, int j) {
+        }
+
+        @Override
+        public void swap(int i, int j) {
+        }
+
+        @Override
+        public void write(int index, Object value) {
+        }
+    };
+
+    /**
+     * Registra a comparação entre duas posições.
+     *
+     * @param i A primeira posição.
+     * @param j A segunda posição.
+     */
+    void compare(int i, int j);
+
+    /**
+     * Registra a troca entre duas posições.
+     *
+     * @param i A primeira posição.
+     * @param j A segunda posição.
+     */
+    void swap(int i, int j);
+
+    /**
+     * Registra a escrita de um valor em uma posição.
+     *
+     * @param index A posição escrita.
+     * @param value O valor escrito (sempre um dos elementos do array original).
+     */
+    void write(int index, Object value);
+
+    /**
+     * Registra que as posições [from, to] contêm apenas chaves iguais, já na posição final, e não serão
+     * mais visitadas. Não é uma operação sobre o array: por padrão, é descartada.
+     *
+     * @param from A primeira posição da faixa.
+     * @param to   A última posição da faixa.
+     */
+    default void equalRange(int from, int to) {
+    }
+}
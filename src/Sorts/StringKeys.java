@@ -0,0 +1,134 @@
+package Sorts;
+
+import java.util.Comparator;
+
+/**
+ * Ordenação de strings na ordem dos bytes UTF-8, com uma chave de prefixo por elemento.
+ *
+ * Antes da ordenação, os primeiros 8 bytes UTF-8 de cada string são empacotados em um {@code long}
+ * (big-endian, completado com zeros). Comparar essas chaves sem sinal dá a mesma ordem dos bytes,
+ * então a maioria das comparações se resolve com uma única instrução; apenas strings com o mesmo
+ * prefixo são comparadas por completo, code point a code point (que é equivalente a comparar os bytes
+ * UTF-8, sem precisar codificá-los).
+ */
+final class StringKeys {
+
+    private static final Comparator<Key> ASCENDING = (a, b) -> {
+        int result = Long.compareUnsigned(a.prefix, b.prefix);
+        return result != 0 ? result : compare(a.value, b.value);
+    };
+
+    private static final Comparator<Key> DESCENDING = (a, b) -> ASCENDING.compare(b, a);
+
+    private StringKeys() {
+    }
+
+    /**
+     * String acompanhada da sua chave de prefixo.
+     */
+    private static final class Key {
+        private final long prefix;
+        private final String value;
+
+        Key(String value) {
+            this.prefix = prefix(value);
+            this.value = value;
+        }
+    }
+
+    /**
+     * Ordena o array de strings com a implementação de objetos do algoritmo, comparando primeiro as chaves de prefixo.
+     *
+     * @param algorithm O algoritmo usado.
+     * @param array     O array a ser ordenado.
+     * @param order     A direção da ordenação.
+     * @param metrics   Os contadores que recebem as operações realizadas.
+     */
+    static void sort(SortAlgorithm algorithm, String[] array, SortOrder order, SortMetrics metrics) {
+        Key[] keys = new Key[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = new Key(array[i]);
+        }
+        algorithm.sort(keys, order.isDescending() ? DESCENDING : ASCENDING, new SortTracer() {
+            @Override
+            public void compare(int i, int j) {
+                metrics.addComparisons(1);
+            }
+
+            @Override
+            public void swap(int i, int j) {
+                metrics.addSwaps(1);
+            }
+
+            @Override
+            public void write(int index, Object value) {
+                metrics.addWrites(1);
+            }
+        });
+        for (int i = 0; i < array.length; i++) {
+            array[i] = keys[i].value;
+        }
+    }
+
+    /**
+     * Empacota os primeiros 8 bytes UTF-8 da string em um long, completando com zeros.
+     * Surrogates sem par são codificados pelo seu próprio valor, como qualquer outro code point.
+     *
+     * @param value A string.
+     * @return A chave de prefixo, a ser comparada sem sinal.
+     */
+    static long prefix(String value) {
+        long key = 0;
+        int bytes = 0;
+        for (int i = 0; i < value.length() && bytes < Long.BYTES; ) {
+            int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint < 0x80) {
+                key = key << 8 | codePoint;
+                bytes++;
+                continue;
+            }
+            //Bytes de continuação, do último para o primeiro, e o byte inicial com o tamanho da sequência
+            int length = codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            int lead = length == 2 ? 0xC0 : length == 3 ? 0xE0 : 0xF0;
+            for (int k = 0; k < length && bytes < Long.BYTES; k++) {
+                int shift = 6 * (length - 1 - k);
+                int b = k == 0 ? lead | codePoint >>> shift : 0x80 | (codePoint >>> shift) & 0x3F;
+                key = key << 8 | b;
+                bytes++;
+            }
+        }
+        return key << 8 * (Long.BYTES - bytes);
+    }
+
+    /**
+     * Compara duas strings pela ordem dos code points, que é a mesma ordem dos seus bytes UTF-8.
+     * Diferente de {@link String#compareTo}, caracteres suplementares ficam depois de todo o plano básico.
+     *
+     * @param a A primeira string.
+     * @param b A segunda string.
+     * @return Um valor negativo, zero ou positivo se a primeira string vier antes, junto ou depois da segunda.
+     */
+    static int compare(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x == y) {
+                continue;
+            }
+            if (x < Character.MIN_SURROGATE && y < Character.MIN_SURROGATE) {
+                return x - y;
+            }
+            //Se a diferença está na segunda metade de um par, compara o code point inteiro
+            if (i > 0 && Character.isHighSurrogate(a.charAt(i - 1))) {
+                int result = Integer.compare(a.codePointAt(i - 1), b.codePointAt(i - 1));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(a.codePointAt(i), b.codePointAt(i));
+        }
+        return a.length() - b.length();
+    }
+}
@@ -0,0 +1,590 @@
+package Sorts;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementa o Quick Sort com partição em três vias (Bentley-McIlroy), paralelo com fork/join.
+ *
+ * Cada partição separa o intervalo em três partes: os elementos antes do pivô, os iguais a ele e os
+ * depois dele. Durante a varredura (esquema de Hoare), os iguais ao pivô são levados para as pontas do
+ * intervalo e, no fim, trocados para o meio; assim eles já ficam na posição final e nunca são visitados
+ * de novo. Com poucas chaves distintas, como nos caracteres, o custo cai de O(n log n) para perto de
+ * O(n) por chave distinta, e um intervalo só de chaves iguais termina em uma única varredura. Quando não
+ * há repetições, as trocas extras só acontecem nos elementos iguais ao pivô, e o custo é o do Quick Sort.
+ *
+ * Enquanto o intervalo tiver mais de {@code cutoff} elementos, as partes antes e depois do pivô geram
+ * tarefas independentes no {@link ForkJoinPool} comum; intervalos menores são ordenados sequencialmente.
+ * Se a recursão passar de 2 log2 n níveis (pivôs ruins seguidos), o intervalo é ordenado pelo Heap Sort,
+ * o que limita o pior caso a O(n log n) e a profundidade da pilha a O(log n).
+ * No caminho de objetos, cada faixa de iguais é informada ao rastreador ({@link SortTracer#equalRange(int, int)}).
+ */
+public class ThreeWayQuickSort implements PrimitiveSortAlgorithm {
+
+    /**
+     * Tamanho abaixo do qual os intervalos são ordenados com Insertion Sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private final int cutoff;
+
+    /**
+     * Cria o algoritmo com o limite sequencial padrão.
+     */
+    public ThreeWayQuickSort() {
+        this(SortAlgorithms.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo com um limite sequencial específico.
+     *
+     * @param cutoff Quantidade de elementos a partir da qual as partições são ordenadas em paralelo.
+     * @throws IllegalArgumentException Se o limite for menor que 1.
+     */
+    public ThreeWayQuickSort(int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("O limite sequencial tem que ser maior que zero.");
+        }
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Calcula a profundidade máxima do Quick Sort antes de passar para o Heap Sort: 2 log n.
+     */
+    private static int maxDepth(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Ordena o array utilizando o Quick Sort em três vias.
+     *
+     * @param array      O array de objetos a ser ordenado.
+     * @param comparator O comparador já resolvido para o tipo e a direção da ordenação.
+     * @param tracer     O rastreador que recebe cada operação realizada e cada faixa de iguais.
+     * @param <T>        O tipo dos elementos.
+     */
+    @Override
+    public <T> void sort(T[] array, Comparator<? super T> comparator, SortTracer tracer) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new ObjectSortTask<>(array, 0, array.length - 1, maxDepth(array.length),
+                comparator, tracer));
+    }
+
+    /**
+     * Ordena o array de inteiros utilizando o Quick Sort em três vias.
+     *
+     * @param array   O array de inteiros a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(int[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new IntSortTask(array, 0, array.length - 1, maxDepth(array.length),
+                order.isDescending(), metrics));
+    }
+
+    /**
+     * Ordena o array de caracteres utilizando o Quick Sort em três vias.
+     * Os valores são ordenados como inteiros e copiados de volta.
+     *
+     * @param array   O array de caracteres a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(char[] array, SortOrder order, SortMetrics metrics) {
+        int[] values = CharArrays.toIntArray(array);
+        sort(values, order, metrics);
+        CharArrays.copyBack(values, array);
+    }
+
+    /**
+     * Ordena o array de longs utilizando o Quick Sort em três vias.
+     *
+     * @param array   O array de longs a ser ordenado.
+     * @param order   A direção da ordenação.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    @Override
+    public void sort(long[] array, SortOrder order, SortMetrics metrics) {
+        if (array.length < 2) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new LongSortTask(array, 0, array.length - 1, maxDepth(array.length),
+                order.isDescending(), metrics));
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de inteiros.
+     * As comparações, trocas e escritas são contadas localmente e publicadas no fim da tarefa.
+     */
+    private final class IntSortTask extends RecursiveAction {
+        private final int[] a;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+        private int lessEnd; // Última posição antes do pivô deixada pela última partição
+        private int greaterStart; // Primeira posição depois do pivô deixada pela última partição
+
+        IntSortTask(int[] a, int lo, int hi, int depth, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth == 0) {
+                HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                publish();
+                return;
+            }
+            if (hi - lo < cutoff) {
+                quickSort(lo, hi, depth);
+                publish();
+                return;
+            }
+            partition(lo, hi);
+            publish();
+            invokeAll(new IntSortTask(a, lo, lessEnd, depth - 1, descending, metrics),
+                    new IntSortTask(a, greaterStart, hi, depth - 1, descending, metrics));
+        }
+
+        /**
+         * Publica os contadores da tarefa.
+         */
+        private void publish() {
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Ordena sequencialmente o intervalo fechado [lo, hi], recorrendo na menor das partes sem o pivô
+         * e iterando na maior para limitar a profundidade da pilha. Quando a profundidade se esgota, o
+         * intervalo é ordenado pelo Heap Sort.
+         */
+        private void quickSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                partition(lo, hi);
+                int lessEnd = this.lessEnd;
+                int greaterStart = this.greaterStart;
+                if (lessEnd - lo < hi - greaterStart) {
+                    quickSort(lo, lessEnd, depth);
+                    lo = greaterStart;
+                } else {
+                    quickSort(greaterStart, hi, depth);
+                    hi = lessEnd;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] em três vias, com pivô pela mediana de três, e guarda os limites da faixa
+         * de iguais em {@code lessEnd} e {@code greaterStart}.
+         */
+        private void partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            if (descending ? a[mid] > a[lo] : a[mid] < a[lo]) {
+                swap(a, lo, mid);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[lo] : a[hi] < a[lo]) {
+                swap(a, lo, hi);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[mid] : a[hi] < a[mid]) {
+                swap(a, mid, hi);
+                swaps++;
+            }
+            comparisons += 3;
+            //A mediana vai para o início, onde fica até o fim da varredura
+            swap(a, lo, mid);
+            swaps++;
+            int pivot = a[lo];
+
+            //[lo, p] e [q, hi] guardam os iguais ao pivô encontrados na varredura
+            int i = lo;
+            int j = hi + 1;
+            int p = lo;
+            int q = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (i < hi && (descending ? a[i] > pivot : a[i] < pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (j > lo && (descending ? pivot > a[j] : pivot < a[j]));
+                if (i == j) {
+                    comparisons++;
+                    if (a[i] == pivot) {
+                        swap(a, ++p, i);
+                        swaps++;
+                    }
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(a, i, j);
+                swaps++;
+                comparisons += 2;
+                if (a[i] == pivot) {
+                    swap(a, ++p, i);
+                    swaps++;
+                }
+                if (a[j] == pivot) {
+                    swap(a, --q, j);
+                    swaps++;
+                }
+            }
+
+            //Leva os iguais das pontas para o meio, ao lado da fronteira da varredura
+            i = j + 1;
+            for (int k = lo; k <= p; k++) {
+                swap(a, k, j--);
+                swaps++;
+            }
+            for (int k = hi; k >= q; k--) {
+                swap(a, k, i++);
+                swaps++;
+            }
+            lessEnd = j;
+            greaterStart = i;
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de longs.
+     * As comparações, trocas e escritas são contadas localmente e publicadas no fim da tarefa.
+     */
+    private final class LongSortTask extends RecursiveAction {
+        private final long[] a;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final boolean descending;
+        private final SortMetrics metrics;
+        private long comparisons;
+        private long swaps;
+        private long writes;
+        private int lessEnd; // Última posição antes do pivô deixada pela última partição
+        private int greaterStart; // Primeira posição depois do pivô deixada pela última partição
+
+        LongSortTask(long[] a, int lo, int hi, int depth, boolean descending, SortMetrics metrics) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.descending = descending;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth == 0) {
+                HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                publish();
+                return;
+            }
+            if (hi - lo < cutoff) {
+                quickSort(lo, hi, depth);
+                publish();
+                return;
+            }
+            partition(lo, hi);
+            publish();
+            invokeAll(new LongSortTask(a, lo, lessEnd, depth - 1, descending, metrics),
+                    new LongSortTask(a, greaterStart, hi, depth - 1, descending, metrics));
+        }
+
+        /**
+         * Publica os contadores da tarefa.
+         */
+        private void publish() {
+            metrics.addComparisons(comparisons);
+            metrics.addSwaps(swaps);
+            metrics.addWrites(writes);
+        }
+
+        /**
+         * Ordena sequencialmente o intervalo fechado [lo, hi], recorrendo na menor das partes sem o pivô
+         * e iterando na maior para limitar a profundidade da pilha. Quando a profundidade se esgota, o
+         * intervalo é ordenado pelo Heap Sort.
+         */
+        private void quickSort(int lo, int hi, int depth) {
+            while (hi - lo >= INSERTION_THRESHOLD) {
+                if (depth-- == 0) {
+                    HeapSort.sortRange(a, lo, hi + 1, descending, metrics);
+                    return;
+                }
+                partition(lo, hi);
+                int lessEnd = this.lessEnd;
+                int greaterStart = this.greaterStart;
+                if (lessEnd - lo < hi - greaterStart) {
+                    quickSort(lo, lessEnd, depth);
+                    lo = greaterStart;
+                } else {
+                    quickSort(greaterStart, hi, depth);
+                    hi = lessEnd;
+                }
+            }
+            InsertionSort.sortRange(a, lo, hi + 1, descending, metrics);
+        }
+
+        /**
+         * Particiona [lo, hi] em três vias, com pivô pela mediana de três, e guarda os limites da faixa
+         * de iguais em {@code lessEnd} e {@code greaterStart}.
+         */
+        private void partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1;
+            if (descending ? a[mid] > a[lo] : a[mid] < a[lo]) {
+                swap(a, lo, mid);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[lo] : a[hi] < a[lo]) {
+                swap(a, lo, hi);
+                swaps++;
+            }
+            if (descending ? a[hi] > a[mid] : a[hi] < a[mid]) {
+                swap(a, mid, hi);
+                swaps++;
+            }
+            comparisons += 3;
+            //A mediana vai para o início, onde fica até o fim da varredura
+            swap(a, lo, mid);
+            swaps++;
+            long pivot = a[lo];
+
+            //[lo, p] e [q, hi] guardam os iguais ao pivô encontrados na varredura
+            int i = lo;
+            int j = hi + 1;
+            int p = lo;
+            int q = hi + 1;
+            while (true) {
+                do {
+                    i++;
+                    comparisons++;
+                } while (i < hi && (descending ? a[i] > pivot : a[i] < pivot));
+                do {
+                    j--;
+                    comparisons++;
+                } while (j > lo && (descending ? pivot > a[j] : pivot < a[j]));
+                if (i == j) {
+                    comparisons++;
+                    if (a[i] == pivot) {
+                        swap(a, ++p, i);
+                        swaps++;
+                    }
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(a, i, j);
+                swaps++;
+                comparisons += 2;
+                if (a[i] == pivot) {
+                    swap(a, ++p, i);
+                    swaps++;
+                }
+                if (a[j] == pivot) {
+                    swap(a, --q, j);
+                    swaps++;
+                }
+            }
+
+            //Leva os iguais das pontas para o meio, ao lado da fronteira da varredura
+            i = j + 1;
+            for (int k = lo; k <= p; k++) {
+                swap(a, k, j--);
+                swaps++;
+            }
+            for (int k = hi; k >= q; k--) {
+                swap(a, k, i++);
+                swaps++;
+            }
+            lessEnd = j;
+            greaterStart = i;
+        }
+    }
+
+    /**
+     * Tarefa que ordena o intervalo fechado [lo, hi] do array de objetos, registrando as operações no rastreador.
+     */
+    private final class ObjectSortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final Comparator<? super T> comparator;
+        private final SortTracer tracer;
+
+        ObjectSortTask(T[] array, int lo, int hi, int depth, Comparator<? super T> comparator, SortTracer tracer) {
+            this.array = array;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.comparator = comparator;
+            this.tracer = tracer;
+        }
+
+        @Override
+        protected void compute() {
+            if (lo >= hi) {
+                return;
+            }
+            if (depth == 0) {
+                HeapSort.sortRange(array, lo, hi + 1, comparator, tracer);
+                return;
+            }
+            long bounds = partition(array, lo, hi, comparator, tracer);
+            ObjectSortTask<T> left = new ObjectSortTask<>(array, lo, (int) (bounds >> 32), depth - 1, comparator,
+                    tracer);
+            ObjectSortTask<T> right = new ObjectSortTask<>(array, (int) bounds, hi, depth - 1, comparator, tracer);
+            if (hi - lo < cutoff) {
+                left.compute();
+                right.compute();
+            } else {
+                invokeAll(left, right);
+            }
+        }
+    }
+
+    /**
+     * Particiona [lo, hi] do array de objetos pelo mesmo esquema, registrando as operações no rastreador
+     * e informando a faixa de iguais ao pivô.
+     *
+     * @return A última posição antes do pivô nos 32 bits altos e a primeira depois dele nos 32 bits baixos.
+     */
+    private static <T> long partition(T[] array, int lo, int hi, Comparator<? super T> comparator, SortTracer tracer) {
+        int mid = (lo + hi) >>> 1;
+        sortPair(array, lo, mid, comparator, tracer);
+        sortPair(array, lo, hi, comparator, tracer);
+        sortPair(array, mid, hi, comparator, tracer);
+        if (hi - lo < 2) {
+            //Os três elementos já estão em ordem, e a partição não teria o que separar
+            return (long) (lo - 1) << 32 | (hi + 1);
+        }
+        //A mediana vai para o início, onde fica até o fim da varredura
+        swap(array, lo, mid);
+        tracer.swap(lo, mid);
+        T pivot = array[lo];
+
+        //[lo, p] e [q, hi] guardam os iguais ao pivô encontrados na varredura
+        int i = lo;
+        int j = hi + 1;
+        int p = lo;
+        int q = hi + 1;
+        while (true) {
+            do {
+                i++;
+                tracer.compare(i, lo);
+            } while (i < hi && comparator.compare(array[i], pivot) < 0);
+            do {
+                j--;
+                tracer.compare(j, lo);
+            } while (j > lo && comparator.compare(pivot, array[j]) < 0);
+            if (i == j) {
+                tracer.compare(i, lo);
+                if (comparator.compare(array[i], pivot) == 0) {
+                    swapTraced(array, ++p, i, tracer);
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            swapTraced(array, i, j, tracer);
+            tracer.compare(i, lo);
+            if (comparator.compare(array[i], pivot) == 0) {
+                swapTraced(array, ++p, i, tracer);
+            }
+            tracer.compare(j, lo);
+            if (comparator.compare(array[j], pivot) == 0) {
+                swapTraced(array, --q, j, tracer);
+            }
+        }
+
+        //Leva os iguais das pontas para o meio, ao lado da fronteira da varredura
+        i = j + 1;
+        for (int k = lo; k <= p; k++) {
+            swapTraced(array, k, j--, tracer);
+        }
+        for (int k = hi; k >= q; k--) {
+            swapTraced(array, k, i++, tracer);
+        }
+        tracer.equalRange(j + 1, i - 1);
+        return (long) j << 32 | i;
+    }
+
+    /**
+     * Troca as posições i e j do array de objetos se o elemento em j vier antes do elemento em i.
+     */
+    private static <T> void sortPair(T[] array, int i, int j, Comparator<? super T> comparator, SortTracer tracer) {
+        boolean outOfOrder = comparator.compare(array[j], array[i]) < 0;
+        tracer.compare(i, j);
+        if (outOfOrder) {
+            swapTraced(array, i, j, tracer);
+        }
+    }
+
+    /**
+     * Troca dois elementos no array de objetos e registra a troca no rastreador, se as posições forem diferentes.
+     */
+    private static <T> void swapTraced(T[] array, int i, int j, SortTracer tracer) {
+        if (i != j) {
+            swap(array, i, j);
+            tracer.swap(i, j);
+        }
+    }
+
+    /**
+     * Troca dois elementos no array de inteiros.
+     */
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Troca dois elementos no array de longs.
+     */
+    private static void swap(long[] a, int i, int j) {
+        long temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Troca dois elementos no array.
+     *
+     * @param array O array em que a troca será realizada.
+     * @param i     O índice do primeiro elemento.
+     * @param j     O índice do segundo elemento.
+     */
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,220 @@
+package Sorts;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Núcleos SIMD de ordenação de inteiros, escritos com a Vector API (jdk.incubator.vector) na maior largura
+ * de vetor da máquina (8 inteiros com AVX2, 16 com AVX-512).
+ *
+ * Esta classe só é carregada por {@link IntKernels} quando o módulo está habilitado; sem ele, nenhuma
+ * referência a ela é resolvida e os algoritmos continuam nos laços escalares.
+ */
+final class VectorIntKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Quantidade de inteiros por vetor.
+     */
+    static final int LANES = SPECIES.length();
+
+    private static final int LANE_BITS = Integer.numberOfTrailingZeros(LANES);
+
+    /**
+     * Maior largura em que a compactação usa uma tabela de embaralhamentos (2^8 entradas); nos vetores
+     * maiores ela usa {@link IntVector#compress}, que o AVX-512 executa em uma instrução.
+     */
+    private static final int MAX_TABLE_LANES = 8;
+
+    /**
+     * Embaralhamento que troca cada posição i pela posição i ^ 2^b, indexado por b.
+     */
+    private static final VectorShuffle<Integer>[] XOR_SHUFFLES;
+
+    /**
+     * Posições que recebem o menor valor de cada par na etapa (j, k) da rede bitônica crescente,
+     * indexadas por [log2 j][log2 min(k, LANES)].
+     */
+    private static final VectorMask<Integer>[][] TAKE_MIN;
+
+    /**
+     * Embaralhamentos que levam as posições marcadas na máscara para o início do vetor, indexados pelos
+     * bits da máscara; nulo nos vetores maiores que {@link #MAX_TABLE_LANES}.
+     */
+    private static final VectorShuffle<Integer>[] COMPRESS_SHUFFLES;
+
+    static {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        VectorShuffle<Integer>[] xor = new VectorShuffle[LANE_BITS];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        VectorMask<Integer>[][] takeMin = new VectorMask[LANE_BITS][LANE_BITS + 1];
+        for (int jBit = 0; jBit < LANE_BITS; jBit++) {
+            int j = 1 << jBit;
+            xor[jBit] = VectorShuffle.fromOp(SPECIES, lane -> lane ^ j);
+            for (int kBit = jBit + 1; kBit <= LANE_BITS; kBit++) {
+                int k = 1 << kBit;
+                boolean[] bits = new boolean[LANES];
+                for (int lane = 0; lane < LANES; lane++) {
+                    bits[lane] = ((lane & j) == 0) == ((lane & k) == 0);
+                }
+                takeMin[jBit][kBit] = VectorMask.fromArray(SPECIES, bits, 0);
+            }
+        }
+        XOR_SHUFFLES = xor;
+        TAKE_MIN = takeMin;
+
+        if (LANES <= MAX_TABLE_LANES) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            VectorShuffle<Integer>[] compress = new VectorShuffle[1 << LANES];
+            int[] indexes = new int[LANES];
+            for (int bits = 0; bits < compress.length; bits++) {
+                int count = 0;
+                for (int lane = 0; lane < LANES; lane++) {
+                    if ((bits & (1 << lane)) != 0) {
+                        indexes[count++] = lane;
+                    }
+                }
+                Arrays.fill(indexes, count, LANES, 0);
+                compress[bits] = VectorShuffle.fromArray(SPECIES, indexes, 0);
+            }
+            COMPRESS_SHUFFLES = compress;
+        } else {
+            COMPRESS_SHUFFLES = null;
+        }
+    }
+
+    private VectorIntKernels() {
+    }
+
+    /**
+     * Ordena a[from, to) com uma rede bitônica sobre vetores. O trecho é copiado para {@code scratch} e
+     * completado até a próxima potência de dois (no mínimo um vetor) com o valor que fica no fim da ordem.
+     *
+     * @param scratch Área de trabalho com ao menos {@link IntKernels#SCRATCH_SIZE} posições.
+     * @return A quantidade de comparadores da rede.
+     */
+    static long sortBlock(int[] a, int from, int to, boolean descending, int[] scratch) {
+        int n = to - from;
+        int size = Math.max(LANES, Integer.highestOneBit(n - 1) << 1);
+        System.arraycopy(a, from, scratch, 0, n);
+        Arrays.fill(scratch, n, size, descending ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+        bitonicSort(scratch, size, descending);
+        System.arraycopy(scratch, 0, a, from, n);
+        int log = Integer.numberOfTrailingZeros(size);
+        return (long) (size / 2) * (log * (log + 1) / 2);
+    }
+
+    /**
+     * Rede bitônica sobre s[0, size), com size potência de dois e múltiplo de {@link #LANES}.
+     *
+     * Nas etapas em que os pares estão a {@link #LANES} posições ou mais, cada par de vetores troca o mínimo
+     * e o máximo inteiros; nas demais, os pares estão dentro do mesmo vetor, que é comparado com o seu
+     * próprio embaralhamento e recombinado por máscara, todas as etapas de uma vez sem voltar à memória.
+     */
+    private static void bitonicSort(int[] s, int size, boolean descending) {
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j >= LANES; j >>= 1) {
+                for (int i = 0; i < size; i += LANES) {
+                    if ((i & j) != 0) {
+                        continue;
+                    }
+                    IntVector x = IntVector.fromArray(SPECIES, s, i);
+                    IntVector y = IntVector.fromArray(SPECIES, s, i + j);
+                    IntVector min = x.min(y);
+                    IntVector max = x.max(y);
+                    if (((i & k) == 0) != descending) {
+                        min.intoArray(s, i);
+                        max.intoArray(s, i + j);
+                    } else {
+                        max.intoArray(s, i);
+                        min.intoArray(s, i + j);
+                    }
+                }
+            }
+            int kBit = Math.min(Integer.numberOfTrailingZeros(k), LANE_BITS);
+            for (int i = 0; i < size; i += LANES) {
+                IntVector x = IntVector.fromArray(SPECIES, s, i);
+                //Em k < LANES a direção de cada par já está na máscara; a partir daí ela é a do vetor inteiro
+                boolean ascending = ((i & k) == 0) != descending;
+                for (int jBit = kBit - 1; jBit >= 0; jBit--) {
+                    IntVector y = x.rearrange(XOR_SHUFFLES[jBit]);
+                    IntVector min = x.min(y);
+                    IntVector max = x.max(y);
+                    VectorMask<Integer> takeMin = TAKE_MIN[jBit][kBit];
+                    x = ascending ? max.blend(min, takeMin) : min.blend(max, takeMin);
+                }
+                x.intoArray(s, i);
+            }
+        }
+    }
+
+    /**
+     * Particiona a[lo, hi] no lugar: os elementos que vêm antes do pivô na ordem vão para o início e os
+     * demais para o fim.
+     *
+     * Os dois vetores das pontas (e o resto que não completa um vetor) são guardados à parte, abrindo
+     * espaço nas duas pontas. A cada passo, um vetor é lido do lado com menos espaço livre, comparado
+     * com o pivô e escrito compactado: os menores no começo do espaço da esquerda e os demais no fim do
+     * espaço da direita. Os elementos guardados preenchem, no fim, exatamente o espaço que sobrou.
+     *
+     * @param scratch Área de trabalho com ao menos {@link IntKernels#SCRATCH_SIZE} posições.
+     * @return O índice do primeiro elemento que não vem antes do pivô.
+     */
+    static int partition(int[] a, int lo, int hi, int pivot, boolean descending, int[] scratch) {
+        int end = hi + 1;
+        int rest = (end - lo - 2 * LANES) % LANES;
+        IntVector.fromArray(SPECIES, a, lo).intoArray(scratch, 0);
+        IntVector.fromArray(SPECIES, a, end - LANES).intoArray(scratch, LANES);
+        System.arraycopy(a, lo + LANES, scratch, 2 * LANES, rest);
+
+        VectorOperators.Comparison before = descending ? VectorOperators.GT : VectorOperators.LT;
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        int left = lo;
+        int right = end;
+        int readLeft = lo + LANES + rest;
+        int readRight = end - LANES;
+        while (readLeft < readRight) {
+            //Ler do lado com menos espaço garante um vetor inteiro livre nos dois lados
+            IntVector v;
+            if (readLeft - left <= right - readRight) {
+                v = IntVector.fromArray(SPECIES, a, readLeft);
+                readLeft += LANES;
+            } else {
+                readRight -= LANES;
+                v = IntVector.fromArray(SPECIES, a, readRight);
+            }
+            VectorMask<Integer> mask = v.compare(before, pivots);
+            int count = mask.trueCount();
+            compress(v, mask).intoArray(a, left);
+            left += count;
+            right -= LANES - count;
+            compress(v, mask.not()).intoArray(a, right, SPECIES.indexInRange(0, LANES - count));
+        }
+
+        for (int i = 0; i < 2 * LANES + rest; i++) {
+            int value = scratch[i];
+            if (descending ? value > pivot : value < pivot) {
+                a[left++] = value;
+            } else {
+                a[--right] = value;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Leva as posições marcadas na máscara para o início do vetor; as demais posições ficam indefinidas.
+     */
+    private static IntVector compress(IntVector v, VectorMask<Integer> mask) {
+        if (COMPRESS_SHUFFLES != null) {
+            return v.rearrange(COMPRESS_SHUFFLES[(int) mask.toLong()]);
+        }
+        return v.compress(mask);
+    }
+}
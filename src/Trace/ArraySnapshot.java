@@ -0,0 +1,159 @@
+package Trace;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cópia do estado do array trocada entre a thread de ordenação e a thread de desenho sem bloqueios.
+ *
+ * São mantidas duas cópias: o produtor escreve sempre na que não contém a última versão publicada, e o
+ * consumidor lê a última versão completa. Um contador de sequência, ímpar enquanto o produtor escreve,
+ * permite ao consumidor descobrir se a cópia que leu foi sobrescrita durante a leitura (o que exige duas
+ * publicações seguidas); nesse caso a leitura é repetida. O produtor só publica quando o consumidor pede
+ * uma nova versão, uma vez por quadro, e nenhum dos lados espera pelo outro.
+ *
+ * Cada cópia guarda o identificador de valor de cada posição seguido de {@link #EXTRA_WORDS} palavras:
+ * as posições da última comparação, as da última faixa de chaves iguais e a quantidade de operações
+ * realizadas até a publicação.
+ */
+public class ArraySnapshot {
+
+    private static final VarHandle SEQUENCE;
+    private static final VarHandle REQUESTED;
+    private static final VarHandle FINISHED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SEQUENCE = lookup.findVarHandle(ArraySnapshot.class, "sequence", long.class);
+            REQUESTED = lookup.findVarHandle(ArraySnapshot.class, "requested", boolean.class);
+            FINISHED = lookup.findVarHandle(ArraySnapshot.class, "finished", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Palavras guardadas depois dos identificadores: as duas posições comparadas, a primeira e a última
+     * posição da faixa de iguais e a quantidade de operações (duas palavras).
+     */
+    static final int EXTRA_WORDS = 6;
+
+    private final int length;
+    private final int[][] buffers;
+
+    @SuppressWarnings("unused") // acessado via SEQUENCE
+    private long sequence;
+    @SuppressWarnings("unused") // acessado via REQUESTED
+    private boolean requested;
+    @SuppressWarnings("unused") // acessado via FINISHED
+    private boolean finished;
+
+    /**
+     * Cria as cópias, com o estado inicial já publicado como a versão zero.
+     *
+     * @param initialIds O identificador de valor de cada posição antes da ordenação.
+     */
+    public ArraySnapshot(int[] initialIds) {
+        this.length = initialIds.length;
+        this.buffers = new int[2][length + EXTRA_WORDS];
+        write(buffers[0], initialIds, -1, -1, -1, -1, 0);
+        this.requested = true;
+    }
+
+    /**
+     * Indica se o consumidor pediu uma nova versão. A leitura é barata, para ser feita a cada operação.
+     *
+     * @return true se uma nova versão deve ser publicada.
+     */
+    public boolean isRequested() {
+        return (boolean) REQUESTED.getOpaque(this);
+    }
+
+    /**
+     * Publica uma nova versão. Deve ser chamado sempre pela mesma thread (ou sob o mesmo monitor).
+     *
+     * @param ids            O identificador de valor de cada posição.
+     * @param comparedFirst  A primeira posição da última comparação, ou -1.
+     * @param comparedSecond A segunda posição da última comparação, ou -1.
+     * @param equalFrom      A primeira posição da última faixa de chaves iguais, ou -1.
+     * @param equalTo        A última posição da última faixa de chaves iguais, ou -1.
+     * @param operations     A quantidade de operações realizadas até agora.
+     */
+    public void publish(int[] ids, int comparedFirst, int comparedSecond, int equalFrom, int equalTo,
+                        long operations) {
+        //Um pedido feito durante a cópia continua valendo para a próxima publicação
+        REQUESTED.setOpaque(this, false);
+        long s = (long) SEQUENCE.getOpaque(this);
+        SEQUENCE.setOpaque(this, s + 1);
+        VarHandle.storeStoreFence(); //A sequência ímpar fica visível antes de qualquer escrita na cópia
+        write(buffers[(int) ((s >>> 1) + 1) & 1], ids, comparedFirst, comparedSecond, equalFrom, equalTo,
+                operations);
+        SEQUENCE.setRelease(this, s + 2);
+    }
+
+    /**
+     * Copia os identificadores e as palavras extras para a cópia informada.
+     */
+    private void write(int[] target, int[] ids, int comparedFirst, int comparedSecond, int equalFrom, int equalTo,
+                       long operations) {
+        System.arraycopy(ids, 0, target, 0, length);
+        target[length] = comparedFirst;
+        target[length + 1] = comparedSecond;
+        target[length + 2] = equalFrom;
+        target[length + 3] = equalTo;
+        target[length + 4] = (int) (operations >>> 32);
+        target[length + 5] = (int) operations;
+    }
+
+    /**
+     * Pede ao produtor uma nova versão.
+     */
+    public void request() {
+        REQUESTED.setRelease(this, true);
+    }
+
+    /**
+     * Obtém a última versão completa.
+     *
+     * @return O número da versão, começando em zero.
+     */
+    public long getVersion() {
+        return (long) SEQUENCE.getAcquire(this) >>> 1;
+    }
+
+    /**
+     * Copia a última versão completa, repetindo a leitura se ela for sobrescrita no meio.
+     *
+     * @param target O destino, com espaço para os identificadores e as {@link #EXTRA_WORDS} palavras extras.
+     * @return O número da versão copiada.
+     */
+    public long read(int[] target) {
+        while (true) {
+            long s = (long) SEQUENCE.getAcquire(this);
+            System.arraycopy(buffers[(int) (s >>> 1) & 1], 0, target, 0, length + EXTRA_WORDS);
+            VarHandle.loadLoadFence(); //A cópia termina antes de a sequência ser lida de novo
+            //A cópia lida só é sobrescrita quando a sequência passa do fim da próxima publicação
+            if ((long) SEQUENCE.getOpaque(this) <= (s | 1) + 1) {
+                return s >>> 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Indica que o produtor não publicará mais versões.
+     */
+    public void finish() {
+        FINISHED.setRelease(this, true);
+    }
+
+    /**
+     * Indica se o produtor terminou. Quando true, a versão lida em seguida é a última.
+     *
+     * @return true se não haverá novas versões.
+     */
+    public boolean isFinished() {
+        return (boolean) FINISHED.getAcquire(this);
+    }
+}
@@ -0,0 +1,103 @@
+package Trace;
+
+/**
+ * Estado do array desenhado pelo painel, atualizado a cada quadro a partir das operações de uma ordenação
+ * em andamento. Deve ser usado sempre pela mesma thread (a de desenho).
+ *
+ * Os arrays de valores e de identificadores são atualizados no lugar, então quem os obtém uma vez continua
+ * vendo o estado atual; as posições alteradas desde a última chamada de {@link #clearDirty()} formam o
+ * intervalo que precisa ser redesenhado.
+ */
+public interface ArrayView {
+
+    /**
+     * Avança o estado com até {@code maxOperations} operações da ordenação.
+     *
+     * @param maxOperations A quantidade máxima de operações a aplicar.
+     * @return A quantidade de operações aplicadas.
+     */
+    int advance(int maxOperations);
+
+    /**
+     * Indica se a ordenação terminou e o estado final já foi aplicado.
+     *
+     * @return true se o estado não muda mais.
+     */
+    boolean isFinished();
+
+    /**
+     * Obtém o valor numérico de cada posição no estado atual. O array não deve ser modificado.
+     *
+     * @return Os valores atuais.
+     */
+    int[] getValues();
+
+    /**
+     * Obtém o identificador de valor de cada posição no estado atual: a primeira posição do array original
+     * que contém um valor igual. O array não deve ser modificado.
+     *
+     * @return Os identificadores atuais.
+     */
+    int[] getIds();
+
+    /**
+     * Obtém a primeira posição alterada desde a última chamada de {@link #clearDirty()}.
+     *
+     * @return A posição, ou {@link Integer#MAX_VALUE} se nada foi alterado.
+     */
+    int getDirtyFrom();
+
+    /**
+     * Obtém a última posição alterada desde a última chamada de {@link #clearDirty()}.
+     *
+     * @return A posição, ou -1 se nada foi alterado.
+     */
+    int getDirtyTo();
+
+    /**
+     * Esvazia o intervalo de posições alteradas.
+     */
+    void clearDirty();
+
+    /**
+     * Obtém a primeira posição da última comparação.
+     *
+     * @return A posição, ou -1 se não há comparação a destacar.
+     */
+    int getComparedFirst();
+
+    /**
+     * Obtém a segunda posição da última comparação.
+     *
+     * @return A posição, ou -1 se não há comparação a destacar.
+     */
+    int getComparedSecond();
+
+    /**
+     * Obtém a primeira posição da última faixa de chaves iguais que o algoritmo deixou na posição final.
+     *
+     * @return A posição, ou -1 se não há faixa a destacar.
+     */
+    int getEqualFrom();
+
+    /**
+     * Obtém a última posição da última faixa de chaves iguais que o algoritmo deixou na posição final.
+     *
+     * @return A posição, ou -1 se não há faixa a destacar.
+     */
+    int getEqualTo();
+
+    /**
+     * Obtém a fração dos pares de posições vizinhas que já estão na ordem final.
+     *
+     * @return Um valor de 0 a 1; 1 quando o array está ordenado.
+     */
+    double getOrderedFraction();
+
+    /**
+     * Obtém a quantidade de operações da ordenação já aplicadas ao estado.
+     *
+     * @return A quantidade de operações.
+     */
+    long getReplayedOperations();
+}
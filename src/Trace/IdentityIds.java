@@ -0,0 +1,69 @@
+package Trace;
+
+import java.util.Map;
+
+/**
+ * Tabela somente de leitura que leva cada elemento do array original ao seu identificador de valor (a primeira
+ * posição do array original que contém um valor igual), indexada pela identidade do objeto.
+ *
+ * Os algoritmos escrevem no array as mesmas referências que receberam, então a busca quase sempre termina na
+ * tabela de endereçamento aberto, sem {@code hashCode} nem {@code equals} dos elementos. Um valor que não
+ * está na tabela (um objeto novo, igual a um dos originais) é procurado no mapa por igualdade. Como nada é
+ * alterado depois da construção, várias threads podem consultar a tabela sem sincronização.
+ */
+final class IdentityIds {
+
+    private final Object[] keys;
+    private final int[] ids;
+    private final int mask;
+    private final Map<Object, Integer> idsByValue;
+
+    /**
+     * Cria a tabela para os elementos do array antes da ordenação.
+     *
+     * @param array      O array antes da ordenação.
+     * @param initialIds O identificador de valor de cada posição do array.
+     * @param idsByValue O identificador de cada valor, usado quando a identidade não é encontrada.
+     */
+    IdentityIds(Object[] array, int[] initialIds, Map<Object, Integer> idsByValue) {
+        int capacity = Integer.highestOneBit(Math.max(2, array.length * 2 - 1)) << 1;
+        this.keys = new Object[capacity];
+        this.ids = new int[capacity];
+        this.mask = capacity - 1;
+        this.idsByValue = idsByValue;
+        for (int i = 0; i < array.length; i++) {
+            int slot = slot(array[i]);
+            while (keys[slot] != null && keys[slot] != array[i]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = array[i];
+            ids[slot] = initialIds[i];
+        }
+    }
+
+    /**
+     * Obtém o identificador de valor de um elemento.
+     *
+     * @param value Um dos elementos do array original, ou um valor igual a um deles.
+     * @return O identificador do valor.
+     */
+    int get(Object value) {
+        int slot = slot(value);
+        Object key;
+        while ((key = keys[slot]) != null) {
+            if (key == value) {
+                return ids[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return idsByValue.get(value);
+    }
+
+    /**
+     * Calcula a posição inicial de um elemento, espalhando os bits do hash de identidade.
+     */
+    private int slot(Object value) {
+        int h = System.identityHashCode(value) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,199 @@
+package Trace;
+
+import Sorts.SortMetrics;
+import Sorts.SortTracer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acompanha as operações de um algoritmo de ordenação em uma cópia própria do array e guarda o estado
+ * dessa cópia a intervalos regulares de operações, para que os quadros de uma animação sejam desenhados
+ * depois da ordenação, sem tela e em qualquer ordem.
+ *
+ * Como a quantidade de operações não é conhecida de antemão, o intervalo começa em uma operação e dobra
+ * sempre que a quantidade de quadros guardados chega ao dobro da pedida, descartando um quadro de cada dois;
+ * ao final, os quadros são reduzidos à quantidade pedida, igualmente espaçados. Assim os quadros cobrem a
+ * ordenação inteira e a memória fica limitada a cerca de {@code 2 * maxFrames * n} inteiros. Os métodos
+ * são sincronizados para que os algoritmos paralelos possam chamá-los a partir de várias threads.
+ * Cada operação também é contada em um {@link SortMetrics}.
+ */
+public class KeyframeRecorder implements SortTracer {
+
+    /**
+     * O estado do array depois de uma quantidade de operações.
+     */
+    public static final class Keyframe {
+
+        private final int[] ids;
+        private final int comparedFirst;
+        private final int comparedSecond;
+        private final long operations;
+
+        private Keyframe(int[] ids, int comparedFirst, int comparedSecond, long operations) {
+            this.ids = ids;
+            this.comparedFirst = comparedFirst;
+            this.comparedSecond = comparedSecond;
+            this.operations = operations;
+        }
+
+        /**
+         * Obtém o identificador de valor de cada posição: a primeira posição do array original
+         * que contém um valor igual. O array não deve ser modificado.
+         *
+         * @return Os identificadores.
+         */
+        public int[] getIds() {
+            return ids;
+        }
+
+        /**
+         * Obtém a primeira posição da última comparação antes do quadro.
+         *
+         * @return A posição, ou -1 se não há comparação a destacar.
+         */
+        public int getComparedFirst() {
+            return comparedFirst;
+        }
+
+        /**
+         * Obtém a segunda posição da última comparação antes do quadro.
+         *
+         * @return A posição, ou -1 se não há comparação a destacar.
+         */
+        public int getComparedSecond() {
+            return comparedSecond;
+        }
+
+        /**
+         * Obtém a quantidade de operações realizadas até o quadro.
+         *
+         * @return A quantidade de operações.
+         */
+        public long getOperations() {
+            return operations;
+        }
+    }
+
+    private final Map<Object, Integer> idsByValue;
+    private final int[] ids;
+    private final int maxFrames;
+    private final SortMetrics metrics;
+    private final List<Keyframe> frames = new ArrayList<>();
+
+    private int comparedFirst = -1;
+    private int comparedSecond = -1;
+    private long operations;
+    private long interval = 1;
+    private long nextCapture = 1;
+    private boolean finished;
+
+    /**
+     * Cria o gravador para o array informado, antes de ele ser ordenado, guardando o estado inicial como primeiro quadro.
+     *
+     * @param array     O array que será ordenado.
+     * @param maxFrames A quantidade máxima de quadros, incluindo o inicial e o final.
+     * @param metrics   Os contadores que recebem as operações realizadas.
+     * @throws IllegalArgumentException Se a quantidade de quadros for menor que dois.
+     */
+    public KeyframeRecorder(Object[] array, int maxFrames, SortMetrics metrics) {
+        if (maxFrames < 2) {
+            throw new IllegalArgumentException("A quantidade de quadros tem que ser de pelo menos dois.");
+        }
+        this.maxFrames = maxFrames;
+        this.metrics = metrics;
+        this.idsByValue = new HashMap<>();
+        this.ids = TraceRecorder.assignIds(array, idsByValue);
+        frames.add(new Keyframe(ids.clone(), -1, -1, 0));
+    }
+
+    @Override
+    public synchronized void compare(int i, int j) {
+        metrics.addComparisons(1);
+        comparedFirst = i;
+        comparedSecond = j;
+        step();
+    }
+
+    @Override
+    public synchronized void swap(int i, int j) {
+        metrics.addSwaps(1);
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        step();
+    }
+
+    @Override
+    public synchronized void write(int index, Object value) {
+        metrics.addWrites(1);
+        ids[index] = idsByValue.get(value);
+        step();
+    }
+
+    /**
+     * Conta uma operação e guarda um quadro quando ela completa o intervalo atual.
+     */
+    private void step() {
+        if (++operations != nextCapture) {
+            return;
+        }
+        frames.add(new Keyframe(ids.clone(), comparedFirst, comparedSecond, operations));
+        nextCapture += interval;
+        if (frames.size() == 2 * maxFrames) {
+            //Os quadros de posição par estão nos múltiplos do novo intervalo, e o próximo já cai em um deles
+            for (int i = 0; i < maxFrames; i++) {
+                frames.set(i, frames.get(2 * i));
+            }
+            frames.subList(maxFrames, frames.size()).clear();
+            interval *= 2;
+        }
+    }
+
+    /**
+     * Indica que a ordenação terminou, guardando o estado final e reduzindo os quadros à quantidade máxima.
+     */
+    public synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        //O quadro final não destaca nenhuma comparação, mesmo que a última operação tenha completado um intervalo
+        Keyframe last = frames.get(frames.size() - 1);
+        if (last.operations == operations) {
+            frames.set(frames.size() - 1, new Keyframe(last.ids, -1, -1, operations));
+        } else {
+            frames.add(new Keyframe(ids.clone(), -1, -1, operations));
+        }
+        if (frames.size() > maxFrames) {
+            //Escolhe quadros igualmente espaçados, mantendo sempre o primeiro e o último
+            int lastIndex = frames.size() - 1;
+            List<Keyframe> selected = new ArrayList<>(maxFrames);
+            for (int i = 0; i < maxFrames; i++) {
+                selected.add(frames.get((int) ((long) i * lastIndex / (maxFrames - 1))));
+            }
+            frames.clear();
+            frames.addAll(selected);
+        }
+    }
+
+    /**
+     * Obtém os quadros guardados, do estado inicial ao final. Só deve ser chamado depois de {@link #finish()}.
+     *
+     * @return Os quadros, em ordem.
+     */
+    public synchronized List<Keyframe> getFrames() {
+        return List.copyOf(frames);
+    }
+
+    /**
+     * Obtém os contadores das operações realizadas.
+     *
+     * @return Os contadores.
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
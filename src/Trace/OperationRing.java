@@ -0,0 +1,144 @@
+package Trace;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffer circular de operações com um produtor e um consumidor.
+ *
+ * Cada operação ocupa duas posições de um {@code int[]} pré-alocado, então gravar uma operação não aloca
+ * memória. O produtor (a thread de ordenação) bloqueia quando o buffer está cheio; o consumidor (a thread
+ * de desenho) nunca bloqueia, apenas lê o que já foi publicado.
+ */
+public class OperationRing {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle FINISHED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(OperationRing.class, "head", long.class);
+            TAIL = lookup.findVarHandle(OperationRing.class, "tail", long.class);
+            FINISHED = lookup.findVarHandle(OperationRing.class, "finished", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Tempo máximo de espera do produtor antes de verificar novamente se há espaço.
+     */
+    private static final long PARK_NANOS = 1_000_000L;
+
+    private final int[] buffer;
+    private final int capacity;
+    private final int mask;
+
+    @SuppressWarnings("unused") // acessado via HEAD
+    private long head;
+    @SuppressWarnings("unused") // acessado via TAIL
+    private long tail;
+    @SuppressWarnings("unused") // acessado via FINISHED
+    private boolean finished;
+    private volatile Thread waitingProducer;
+
+    /**
+     * Consumidor das operações lidas do buffer.
+     */
+    public interface Consumer {
+
+        /**
+         * Processa uma operação.
+         *
+         * @param first  A primeira palavra da operação.
+         * @param second A segunda palavra da operação.
+         */
+        void accept(int first, int second);
+    }
+
+    /**
+     * Cria o buffer com capacidade para a quantidade de operações informada.
+     *
+     * @param capacity A capacidade mínima, em operações (arredondada para a próxima potência de dois).
+     */
+    public OperationRing(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new int[this.capacity * 2];
+    }
+
+    /**
+     * Publica uma operação, esperando enquanto o buffer estiver cheio.
+     * Deve ser chamado sempre pela mesma thread (ou sob o mesmo bloqueio).
+     *
+     * @param first  A primeira palavra da operação.
+     * @param second A segunda palavra da operação.
+     * @return O tempo em nanossegundos que o produtor esperou por espaço (zero se o buffer não estava cheio).
+     */
+    public long put(int first, int second) {
+        long t = (long) TAIL.getOpaque(this);
+        long waited = 0;
+        if (t - (long) HEAD.getAcquire(this) >= capacity) {
+            //O relógio só é lido quando é preciso esperar
+            long start = System.nanoTime();
+            while (t - (long) HEAD.getAcquire(this) >= capacity) {
+                waitingProducer = Thread.currentThread();
+                if (t - (long) HEAD.getAcquire(this) >= capacity) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                waitingProducer = null;
+            }
+            waited = System.nanoTime() - start;
+        }
+        int index = (int) (t & mask) << 1;
+        buffer[index] = first;
+        buffer[index + 1] = second;
+        TAIL.setRelease(this, t + 1);
+        return waited;
+    }
+
+    /**
+     * Indica que o produtor não publicará mais operações.
+     */
+    public void finish() {
+        FINISHED.setRelease(this, true);
+    }
+
+    /**
+     * Entrega ao consumidor até {@code maxOperations} operações já publicadas.
+     *
+     * @param maxOperations A quantidade máxima de operações a consumir.
+     * @param consumer      O consumidor das operações.
+     * @return A quantidade de operações consumidas.
+     */
+    public int drain(int maxOperations, Consumer consumer) {
+        long h = (long) HEAD.getOpaque(this);
+        long available = (long) TAIL.getAcquire(this) - h;
+        int count = (int) Math.min(maxOperations, available);
+        for (int k = 0; k < count; k++) {
+            int index = (int) ((h + k) & mask) << 1;
+            consumer.accept(buffer[index], buffer[index + 1]);
+        }
+        if (count > 0) {
+            HEAD.setRelease(this, h + count);
+            Thread producer = waitingProducer;
+            if (producer != null) {
+                LockSupport.unpark(producer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Indica se o produtor terminou e todas as operações foram consumidas.
+     *
+     * @return true se não há mais operações a consumir.
+     */
+    public boolean isDrained() {
+        return (boolean) FINISHED.getAcquire(this)
+                && (long) TAIL.getAcquire(this) == (long) HEAD.getOpaque(this);
+    }
+}
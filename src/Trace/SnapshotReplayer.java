@@ -0,0 +1,228 @@
+package Trace;
+
+/**
+ * Mantém o estado desenhado a partir das versões publicadas por um {@link SnapshotTracer}.
+ *
+ * A cada quadro, a última versão é copiada para um array próprio, e só então comparada com o estado atual:
+ * o painel nunca lê memória que a ordenação esteja escrevendo. Apenas o intervalo entre a primeira e a
+ * última posição diferentes é atualizado e marcado para redesenho, e a contagem de pares vizinhos em ordem
+ * é corrigida apenas nesse intervalo. Depois da cópia, uma nova versão é pedida para o próximo quadro.
+ */
+public class SnapshotReplayer implements ArrayView {
+
+    private final ArraySnapshot snapshot;
+    private final int[] numericById;
+    private final int[] ids;
+    private final int[] values;
+    private final int[] scratch;
+    private final boolean descending;
+
+    private long version;
+    private boolean finished;
+    private int comparedFirst = -1;
+    private int comparedSecond = -1;
+    private int equalFrom = -1;
+    private int equalTo = -1;
+    private long replayedOperations;
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = -1;
+    private int orderedPairs;
+
+    /**
+     * Cria o estado a partir do rastreador, com o array no estado anterior à ordenação.
+     *
+     * @param tracer     O rastreador que publica as versões do array.
+     * @param heights    O valor numérico desenhado para cada posição do array antes da ordenação,
+     *                   na mesma ordem dos elementos.
+     * @param descending Se a ordenação é decrescente, para medir o progresso na direção certa.
+     */
+    public SnapshotReplayer(SnapshotTracer tracer, int[] heights, boolean descending) {
+        this.descending = descending;
+        this.snapshot = tracer.getSnapshot();
+        this.ids = tracer.getInitialIds().clone();
+        //O identificador de um valor é uma posição do array original, então indexa os valores iniciais
+        this.numericById = heights.clone();
+        this.values = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = numericById[ids[i]];
+        }
+        this.scratch = new int[ids.length + ArraySnapshot.EXTRA_WORDS];
+        for (int i = 0; i < values.length - 1; i++) {
+            orderedPairs += orderedPair(i);
+        }
+    }
+
+    /**
+     * Aplica a última versão publicada, qualquer que seja a quantidade de operações desde a anterior.
+     *
+     * @param maxOperations Ignorado: o estado sempre avança até a última versão.
+     * @return A quantidade de operações realizadas entre a versão anterior e a aplicada.
+     */
+    @Override
+    public int advance(int maxOperations) {
+        if (finished) {
+            return 0;
+        }
+        //Lido antes da versão: se a ordenação já terminou, a versão lida em seguida é a final
+        boolean last = snapshot.isFinished();
+        long applied = 0;
+        if (snapshot.getVersion() != version) {
+            version = snapshot.read(scratch);
+            applied = apply();
+        }
+        if (last) {
+            finished = true;
+            comparedFirst = -1;
+            comparedSecond = -1;
+            equalFrom = -1;
+            equalTo = -1;
+        } else {
+            snapshot.request();
+        }
+        return (int) Math.min(applied, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Aplica a versão copiada para o array auxiliar.
+     *
+     * @return A quantidade de operações realizadas desde a versão anterior.
+     */
+    private long apply() {
+        int n = ids.length;
+        int from = 0;
+        while (from < n && scratch[from] == ids[from]) {
+            from++;
+        }
+        if (from < n) {
+            int to = n - 1;
+            while (scratch[to] == ids[to]) {
+                to--;
+            }
+            orderedPairs -= orderedPairs(from - 1, to);
+            for (int i = from; i <= to; i++) {
+                ids[i] = scratch[i];
+                values[i] = numericById[scratch[i]];
+            }
+            orderedPairs += orderedPairs(from - 1, to);
+            markDirty(from);
+            markDirty(to);
+        }
+
+        //O destaque sai das posições anteriores e vai para as novas
+        markDirty(comparedFirst);
+        markDirty(comparedSecond);
+        comparedFirst = scratch[n];
+        comparedSecond = scratch[n + 1];
+        markDirty(comparedFirst);
+        markDirty(comparedSecond);
+        markDirty(equalFrom);
+        markDirty(equalTo);
+        equalFrom = scratch[n + 2];
+        equalTo = scratch[n + 3];
+        markDirty(equalFrom);
+        markDirty(equalTo);
+
+        long operations = (long) scratch[n + 4] << 32 | (scratch[n + 5] & 0xFFFFFFFFL);
+        long applied = operations - replayedOperations;
+        replayedOperations = operations;
+        return applied;
+    }
+
+    /**
+     * Conta os pares vizinhos em ordem cuja primeira posição está entre from e to.
+     */
+    private int orderedPairs(int from, int to) {
+        int count = 0;
+        for (int i = from; i <= to; i++) {
+            count += orderedPair(i);
+        }
+        return count;
+    }
+
+    /**
+     * Indica (1 ou 0) se o par formado pelas posições i e i + 1 está na ordem final.
+     */
+    private int orderedPair(int i) {
+        if (i < 0 || i >= values.length - 1) {
+            return 0;
+        }
+        boolean ordered = descending ? values[i] >= values[i + 1] : values[i] <= values[i + 1];
+        return ordered ? 1 : 0;
+    }
+
+    /**
+     * Inclui uma posição no intervalo alterado.
+     */
+    private void markDirty(int index) {
+        if (index < 0) {
+            return;
+        }
+        if (index < dirtyFrom) {
+            dirtyFrom = index;
+        }
+        if (index > dirtyTo) {
+            dirtyTo = index;
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public int[] getValues() {
+        return values;
+    }
+
+    @Override
+    public int[] getIds() {
+        return ids;
+    }
+
+    @Override
+    public int getDirtyFrom() {
+        return dirtyFrom;
+    }
+
+    @Override
+    public int getDirtyTo() {
+        return dirtyTo;
+    }
+
+    @Override
+    public void clearDirty() {
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = -1;
+    }
+
+    @Override
+    public int getComparedFirst() {
+        return comparedFirst;
+    }
+
+    @Override
+    public int getComparedSecond() {
+        return comparedSecond;
+    }
+
+    @Override
+    public int getEqualFrom() {
+        return equalFrom;
+    }
+
+    @Override
+    public int getEqualTo() {
+        return equalTo;
+    }
+
+    @Override
+    public double getOrderedFraction() {
+        return values.length < 2 ? 1 : (double) orderedPairs / (values.length - 1);
+    }
+
+    @Override
+    public long getReplayedOperations() {
+        return replayedOperations;
+    }
+}
@@ -0,0 +1,144 @@
+package Trace;
+
+import Sorts.SortMetrics;
+import Sorts.SortTracer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Acompanha as operações de um algoritmo de ordenação em uma cópia própria do array e publica essa cópia,
+ * por meio de um {@link ArraySnapshot}, sempre que a thread de desenho pede um novo quadro.
+ *
+ * Ao contrário do {@link TraceRecorder}, as operações não são guardadas uma a uma: a ordenação nunca espera
+ * a animação, e o painel mostra o estado do array no início de cada quadro. Cada operação custa a atualização
+ * da cópia e a leitura do pedido de quadro, sem bloqueios: as escritas acham o identificador do valor pela
+ * identidade do elemento ({@link IdentityIds}), e só a cópia para o {@link ArraySnapshot}, uma vez por quadro,
+ * é feita sob o monitor, para que duas threads não publiquem ao mesmo tempo. A versão publicada por uma
+ * thread contém todas as operações que ela já fez, então os algoritmos sequenciais nunca mostram trocas
+ * pela metade; nos paralelos, uma troca em andamento em outra thread pode aparecer pela metade em um quadro
+ * e é corrigida no seguinte. Cada operação também é contada em um {@link SortMetrics}, e a quantidade de
+ * operações publicada é a soma desses contadores.
+ */
+public class SnapshotTracer implements SortTracer {
+
+    private final int[] initialIds;
+    private final IdentityIds identityIds;
+    private final int[] ids;
+    private final ArraySnapshot snapshot;
+    private final SortMetrics metrics;
+
+    //Escritos sem sincronização: um quadro pode mostrar uma comparação de outra thread, o que não afeta o array
+    private int comparedFirst = -1;
+    private int comparedSecond = -1;
+    private int equalFrom = -1;
+    private int equalTo = -1;
+
+    /**
+     * Cria o rastreador para o array informado, antes de ele ser ordenado, contando as operações nos contadores informados.
+     *
+     * @param array   O array que será ordenado.
+     * @param metrics Os contadores que recebem as operações realizadas.
+     */
+    public SnapshotTracer(Object[] array, SortMetrics metrics) {
+        this.metrics = metrics;
+        Map<Object, Integer> idsByValue = new HashMap<>();
+        this.initialIds = TraceRecorder.assignIds(array, idsByValue);
+        this.identityIds = new IdentityIds(array, initialIds, idsByValue);
+        this.ids = initialIds.clone();
+        this.snapshot = new ArraySnapshot(initialIds);
+    }
+
+    @Override
+    public void compare(int i, int j) {
+        metrics.addComparisons(1);
+        comparedFirst = i;
+        comparedSecond = j;
+        step();
+    }
+
+    @Override
+    public void swap(int i, int j) {
+        metrics.addSwaps(1);
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        step();
+    }
+
+    @Override
+    public void write(int index, Object value) {
+        metrics.addWrites(1);
+        ids[index] = identityIds.get(value);
+        step();
+    }
+
+    @Override
+    public void equalRange(int from, int to) {
+        //Não é uma operação: a faixa só é publicada junto com a próxima versão
+        equalFrom = from;
+        equalTo = to;
+    }
+
+    /**
+     * Publica o estado atual se a thread de desenho pediu um novo quadro.
+     */
+    private void step() {
+        if (snapshot.isRequested()) {
+            publish();
+        }
+    }
+
+    /**
+     * Copia o estado atual para o {@link ArraySnapshot}. O pedido é conferido de novo sob o monitor, para que
+     * só a primeira das threads que o viram publique.
+     */
+    private synchronized void publish() {
+        if (snapshot.isRequested()) {
+            snapshot.publish(ids, comparedFirst, comparedSecond, equalFrom, equalTo, operations());
+        }
+    }
+
+    /**
+     * Soma as operações contadas até agora.
+     */
+    private long operations() {
+        return metrics.getComparisons() + metrics.getSwaps() + metrics.getWrites();
+    }
+
+    /**
+     * Indica que a ordenação terminou, publicando o estado final. Deve ser chamado depois que todas as
+     * threads da ordenação terminaram.
+     */
+    public synchronized void finish() {
+        snapshot.publish(ids, -1, -1, -1, -1, operations());
+        snapshot.finish();
+    }
+
+    /**
+     * Obtém os contadores das operações realizadas.
+     *
+     * @return Os contadores.
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Obtém o identificador do valor de cada posição antes da ordenação.
+     *
+     * @return Os identificadores iniciais.
+     */
+    int[] getInitialIds() {
+        return initialIds;
+    }
+
+    /**
+     * Obtém a cópia publicada do array.
+     *
+     * @return A cópia publicada.
+     */
+    ArraySnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,178 @@
+package Trace;
+
+import Sorts.SortMetrics;
+import Sorts.SortTracer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grava as operações de um algoritmo de ordenação em um {@link OperationRing}.
+ *
+ * Cada operação vira duas palavras inteiras: a primeira guarda o tipo nos 3 bits mais altos e a primeira
+ * posição nos demais; a segunda guarda a outra posição ou, nas escritas, o identificador do valor escrito
+ * (a primeira posição do array original que contém um valor igual); nas faixas de iguais, as duas palavras
+ * são a primeira e a última posição da faixa. A gravação é protegida por um {@link ReentrantLock} para que os
+ * algoritmos paralelos possam gravar a partir de várias threads; ao contrário de um monitor, ele não prende a
+ * thread virtual ao seu carregador enquanto ela espera espaço no buffer, então os outros painéis de uma
+ * corrida continuam ordenando. Cada operação que altera ou lê o array também é contada em um
+ * {@link SortMetrics}, junto com o tempo em que a ordenação esperou a animação liberar espaço no buffer.
+ */
+public class TraceRecorder implements SortTracer {
+
+    static final int COMPARE = 0;
+    static final int SWAP = 1;
+    static final int WRITE = 2;
+    static final int EQUAL_RANGE = 3;
+
+    static final int OPERATION_SHIFT = 29;
+    static final int INDEX_MASK = (1 << OPERATION_SHIFT) - 1;
+
+    /**
+     * Capacidade padrão do buffer, em operações.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private final Object[] elements;
+    private final int[] initialIds;
+    private final Map<Object, Integer> idsByValue;
+    private final OperationRing ring;
+    private final SortMetrics metrics;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Cria o gravador para o array informado, antes de ele ser ordenado.
+     *
+     * @param array    O array que será ordenado.
+     * @param capacity A capacidade do buffer, em operações.
+     * @throws IllegalArgumentException Se o array for grande demais para ser rastreado.
+     */
+    public TraceRecorder(Object[] array, int capacity) {
+        this(array, capacity, new SortMetrics());
+    }
+
+    /**
+     * Cria o gravador para o array informado, antes de ele ser ordenado, contando as operações nos contadores informados.
+     *
+     * @param array    O array que será ordenado.
+     * @param capacity A capacidade do buffer, em operações.
+     * @param metrics  Os contadores que recebem as operações gravadas e o tempo de espera.
+     * @throws IllegalArgumentException Se o array for grande demais para ser rastreado.
+     */
+    public TraceRecorder(Object[] array, int capacity, SortMetrics metrics) {
+        this.metrics = metrics;
+        if (array.length > INDEX_MASK) {
+            throw new IllegalArgumentException("O array é grande demais para ser rastreado.");
+        }
+        this.elements = array.clone();
+        this.idsByValue = new HashMap<>();
+        this.initialIds = assignIds(array, idsByValue);
+        this.ring = new OperationRing(capacity);
+    }
+
+    /**
+     * Atribui a cada valor do array o seu identificador: a primeira posição que contém um valor igual.
+     *
+     * @param array      O array antes da ordenação.
+     * @param idsByValue O mapa, inicialmente vazio, que recebe o identificador de cada valor.
+     * @return O identificador do valor de cada posição.
+     */
+    static int[] assignIds(Object[] array, Map<Object, Integer> idsByValue) {
+        int[] ids = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            Integer id = idsByValue.putIfAbsent(array[i], i);
+            ids[i] = id == null ? i : id;
+        }
+        return ids;
+    }
+
+    @Override
+    public void compare(int i, int j) {
+        metrics.addComparisons(1);
+        put(COMPARE << OPERATION_SHIFT | i, j);
+    }
+
+    @Override
+    public void swap(int i, int j) {
+        metrics.addSwaps(1);
+        put(SWAP << OPERATION_SHIFT | i, j);
+    }
+
+    @Override
+    public void write(int index, Object value) {
+        metrics.addWrites(1);
+        put(WRITE << OPERATION_SHIFT | index, idsByValue.get(value));
+    }
+
+    @Override
+    public void equalRange(int from, int to) {
+        put(EQUAL_RANGE << OPERATION_SHIFT | from, to);
+    }
+
+    /**
+     * Publica uma operação no buffer sob o bloqueio, já que o buffer só aceita um produtor por vez.
+     */
+    private void put(int first, int second) {
+        long waited;
+        lock.lock();
+        try {
+            waited = ring.put(first, second);
+        } finally {
+            lock.unlock();
+        }
+        addWait(waited);
+    }
+
+    /**
+     * Soma aos contadores o tempo que a gravação esperou por espaço no buffer.
+     */
+    private void addWait(long nanos) {
+        if (nanos != 0) {
+            metrics.addWaitNanos(nanos);
+        }
+    }
+
+    /**
+     * Indica que a ordenação terminou.
+     */
+    public void finish() {
+        ring.finish();
+    }
+
+    /**
+     * Obtém os contadores das operações gravadas.
+     *
+     * @return Os contadores.
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Obtém os elementos originais, indexados pelo identificador de valor.
+     *
+     * @return Os elementos do array antes da ordenação.
+     */
+    Object[] getElements() {
+        return elements;
+    }
+
+    /**
+     * Obtém o identificador do valor de cada posição antes da ordenação.
+     *
+     * @return Os identificadores iniciais.
+     */
+    int[] getInitialIds() {
+        return initialIds;
+    }
+
+    /**
+     * Obtém o buffer onde as operações são gravadas.
+     *
+     * @return O buffer de operações.
+     */
+    OperationRing getRing() {
+        return ring;
+    }
+}
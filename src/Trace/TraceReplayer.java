@@ -0,0 +1,297 @@
+package Trace;
+
+/**
+ * Reproduz, sobre uma cópia própria do array, as operações gravadas por um {@link TraceRecorder}.
+ *
+ * O estado é mantido como o identificador de valor de cada posição e como o valor numérico correspondente,
+ * pronto para ser desenhado. O reprodutor também acumula o intervalo de posições alteradas desde a última
+ * chamada de {@link #clearDirty()}, para que apenas essa região seja redesenhada, e conta quantos pares
+ * de posições vizinhas já estão na ordem final, o que serve como medida do progresso da ordenação. A última
+ * faixa de chaves iguais informada pelo algoritmo fica disponível para ser destacada, como a última comparação.
+ * Deve ser usado sempre pela mesma thread (a de desenho).
+ */
+public class TraceReplayer implements OperationRing.Consumer, ArrayView {
+
+    private final Object[] elements;
+    private final int[] numericById;
+    private final int[] ids;
+    private final int[] values;
+    private final OperationRing ring;
+    private final boolean descending;
+
+    private int comparedFirst = -1;
+    private int comparedSecond = -1;
+    private int equalFrom = -1;
+    private int equalTo = -1;
+    private long replayedOperations;
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = -1;
+    private int orderedPairs;
+
+    /**
+     * Cria o reprodutor a partir do gravador, com o array no estado anterior à ordenação,
+     * medindo o progresso em relação à ordem crescente.
+     *
+     * @param recorder O gravador das operações.
+     * @param heights  O valor numérico desenhado para cada posição do array antes da ordenação.
+     */
+    public TraceReplayer(TraceRecorder recorder, int[] heights) {
+        this(recorder, heights, false);
+    }
+
+    /**
+     * Cria o reprodutor a partir do gravador, com o array no estado anterior à ordenação.
+     *
+     * @param recorder   O gravador das operações.
+     * @param heights    O valor numérico desenhado para cada posição do array antes da ordenação,
+     *                   na mesma ordem dos elementos.
+     * @param descending Se a ordenação é decrescente, para medir o progresso na direção certa.
+     */
+    public TraceReplayer(TraceRecorder recorder, int[] heights, boolean descending) {
+        this.descending = descending;
+        this.elements = recorder.getElements();
+        this.ids = recorder.getInitialIds().clone();
+        this.ring = recorder.getRing();
+        //O identificador de um valor é uma posição do array original, então indexa os valores iniciais
+        this.numericById = heights.clone();
+        this.values = new int[elements.length];
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = numericById[ids[i]];
+        }
+        for (int i = 0; i < values.length - 1; i++) {
+            orderedPairs += orderedPair(i);
+        }
+    }
+
+    /**
+     * Aplica até {@code maxOperations} operações já gravadas.
+     *
+     * @param maxOperations A quantidade máxima de operações a aplicar.
+     * @return A quantidade de operações aplicadas.
+     */
+    @Override
+    public int advance(int maxOperations) {
+        int applied = ring.drain(maxOperations, this);
+        replayedOperations += applied;
+        return applied;
+    }
+
+    @Override
+    public void accept(int first, int second) {
+        int operation = first >>> TraceRecorder.OPERATION_SHIFT;
+        int index = first & TraceRecorder.INDEX_MASK;
+        switch (operation) {
+            case TraceRecorder.COMPARE:
+                //O destaque sai das posições anteriores e vai para as novas
+                markDirty(comparedFirst);
+                markDirty(comparedSecond);
+                comparedFirst = index;
+                comparedSecond = second;
+                markDirty(index);
+                markDirty(second);
+                break;
+            case TraceRecorder.SWAP:
+                int before = orderedAround(index, second);
+                int id = ids[index];
+                ids[index] = ids[second];
+                ids[second] = id;
+                int value = values[index];
+                values[index] = values[second];
+                values[second] = value;
+                orderedPairs += orderedAround(index, second) - before;
+                markDirty(index);
+                markDirty(second);
+                break;
+            case TraceRecorder.WRITE:
+                int previous = orderedAround(index, index);
+                ids[index] = second;
+                values[index] = numericById[second];
+                orderedPairs += orderedAround(index, index) - previous;
+                markDirty(index);
+                break;
+            case TraceRecorder.EQUAL_RANGE:
+                markDirty(equalFrom);
+                markDirty(equalTo);
+                equalFrom = index;
+                equalTo = second;
+                markDirty(index);
+                markDirty(second);
+                break;
+            default:
+                throw new IllegalStateException("Operação desconhecida: " + operation);
+        }
+    }
+
+    /**
+     * Conta os pares vizinhos em ordem que envolvem as posições i ou j, sem contar o mesmo par duas vezes.
+     */
+    private int orderedAround(int i, int j) {
+        int lo = Math.min(i, j);
+        int hi = Math.max(i, j);
+        int count = orderedPair(lo - 1) + orderedPair(lo);
+        if (hi - 1 > lo) {
+            count += orderedPair(hi - 1);
+        }
+        if (hi > lo) {
+            count += orderedPair(hi);
+        }
+        return count;
+    }
+
+    /**
+     * Indica (1 ou 0) se o par formado pelas posições i e i + 1 está na ordem final.
+     */
+    private int orderedPair(int i) {
+        if (i < 0 || i >= values.length - 1) {
+            return 0;
+        }
+        boolean ordered = descending ? values[i] >= values[i + 1] : values[i] <= values[i + 1];
+        return ordered ? 1 : 0;
+    }
+
+    /**
+     * Inclui uma posição no intervalo alterado.
+     */
+    private void markDirty(int index) {
+        if (index < 0) {
+            return;
+        }
+        if (index < dirtyFrom) {
+            dirtyFrom = index;
+        }
+        if (index > dirtyTo) {
+            dirtyTo = index;
+        }
+    }
+
+    /**
+     * Obtém a primeira posição alterada desde a última chamada de {@link #clearDirty()}.
+     *
+     * @return A posição, ou {@link Integer#MAX_VALUE} se nada foi alterado.
+     */
+    @Override
+    public int getDirtyFrom() {
+        return dirtyFrom;
+    }
+
+    /**
+     * Obtém a última posição alterada desde a última chamada de {@link #clearDirty()}.
+     *
+     * @return A posição, ou -1 se nada foi alterado.
+     */
+    @Override
+    public int getDirtyTo() {
+        return dirtyTo;
+    }
+
+    /**
+     * Esvazia o intervalo de posições alteradas.
+     */
+    @Override
+    public void clearDirty() {
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = -1;
+    }
+
+    /**
+     * Indica se a ordenação terminou e todas as operações foram reproduzidas.
+     *
+     * @return true se não há mais operações a reproduzir.
+     */
+    @Override
+    public boolean isFinished() {
+        return ring.isDrained();
+    }
+
+    /**
+     * Obtém o valor numérico de cada posição no estado atual.
+     * O array é atualizado a cada chamada de {@link #advance(int)} e não deve ser modificado.
+     *
+     * @return Os valores atuais.
+     */
+    @Override
+    public int[] getValues() {
+        return values;
+    }
+
+    /**
+     * Obtém o identificador de valor de cada posição no estado atual: a primeira posição do array original
+     * que contém um valor igual. O array é atualizado a cada chamada de {@link #advance(int)} e não deve ser modificado.
+     *
+     * @return Os identificadores atuais.
+     */
+    @Override
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Obtém o elemento original que ocupa uma posição no estado atual.
+     *
+     * @param index A posição.
+     * @return O elemento.
+     */
+    public Object elementAt(int index) {
+        return elements[ids[index]];
+    }
+
+    /**
+     * Obtém a primeira posição da última comparação reproduzida.
+     *
+     * @return A posição, ou -1 se nenhuma comparação foi reproduzida.
+     */
+    @Override
+    public int getComparedFirst() {
+        return comparedFirst;
+    }
+
+    /**
+     * Obtém a segunda posição da última comparação reproduzida.
+     *
+     * @return A posição, ou -1 se nenhuma comparação foi reproduzida.
+     */
+    @Override
+    public int getComparedSecond() {
+        return comparedSecond;
+    }
+
+    /**
+     * Obtém a primeira posição da última faixa de chaves iguais reproduzida.
+     *
+     * @return A posição, ou -1 se nenhuma faixa foi reproduzida.
+     */
+    @Override
+    public int getEqualFrom() {
+        return equalFrom;
+    }
+
+    /**
+     * Obtém a última posição da última faixa de chaves iguais reproduzida.
+     *
+     * @return A posição, ou -1 se nenhuma faixa foi reproduzida.
+     */
+    @Override
+    public int getEqualTo() {
+        return equalTo;
+    }
+
+    /**
+     * Obtém a fração dos pares de posições vizinhas que já estão na ordem final.
+     *
+     * @return Um valor de 0 a 1; 1 quando o array está ordenado.
+     */
+    @Override
+    public double getOrderedFraction() {
+        return values.length < 2 ? 1 : (double) orderedPairs / (values.length - 1);
+    }
+
+    /**
+     * Obtém a quantidade de operações reproduzidas até agora.
+     *
+     * @return A quantidade de operações.
+     */
+    @Override
+    public long getReplayedOperations() {
+        return replayedOperations;
+    }
+}
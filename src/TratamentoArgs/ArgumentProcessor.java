@@ -1,7 +1,19 @@
 package TratamentoArgs;
 
-import java.util.Arrays;
-import java.util.Random;
+import Data.DataGenerator;
+import Data.Distribution;
+import Export.AnimationExporter;
+import External.ExternalMergeSort;
+import OffHeap.IntSegment;
+import Service.SortService;
+import Sorts.KeyType;
+import Sorts.SortAlgorithms;
+import Sorts.SortOrder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 /**
  * Processa os argumentos da linha de comando para configurar e gerar dados de entrada
@@ -11,11 +23,33 @@ public class ArgumentProcessor {
 
     private String algorithm;
     private String type;
+    private KeyType keyType;
     private String order;
     private Object[] data;
-    private int pause;
+    private int[] intData;
+    private char[] charData;
+    private long[] longData;
+    private double[] doubleData;
+    private String[] stringData;
+    private double pause;
     private int size;
     private String inputMethod;
+    private int cutoff;
+    private int topK;
+    private String mode;
+    private Path inputFile;
+    private Path outputFile;
+    private Path tempDirectory;
+    private int chunkSize;
+    private Distribution distribution;
+    private long seed;
+    private int swaps;
+    private int frameCount;
+    private int framesPerSecond;
+    private int port;
+    private String memory;
+    private String render;
+    private IntSegment intSegment;
 
     /**
      * Constrói um objeto ArgumentProcessor com base nos argumentos fornecidos.
@@ -24,28 +58,85 @@ public class ArgumentProcessor {
      * @throws IllegalArgumentException Se os argumentos forem insuficientes ou inválidos.
      */
     public ArgumentProcessor(String[] args) {
+        this.mode = parseMode(getArgumentValue(args, "mode"));
+        if (isService()) {
+            //O serviço recebe os dados em cada requisição, então só os valores padrão são lidos aqui
+            processServiceArguments(args);
+            return;
+        }
+
         if (args.length < 5) {
             throw new IllegalArgumentException("Argumentos insuficientes.");
         }
 
         this.algorithm = getArgumentValue(args, "a");
         this.type = getArgumentValue(args, "t");
+        this.keyType = KeyType.fromCode(type);
         this.order = getArgumentValue(args, "o");
         this.inputMethod = getArgumentValue(args, "in");
-        this.pause = parseInt(getArgumentValue(args, "s"));
-        this.size = parseInt(getArgumentValue(args, "l"));
+        this.pause = parsePause(getArgumentValue(args, "s"));
+        this.memory = parseMemory(getArgumentValue(args, "mem"));
+        //O tamanho só é obrigatório para dados aleatórios; nas outras entradas ele vem dos próprios dados
+        this.size = isOffHeap() ? 0 : parseInt(getArgumentValue(args, "l"), 0);
+        this.cutoff = parseInt(getArgumentValue(args, "c"), SortAlgorithms.DEFAULT_CUTOFF);
+        if (isPartialSort()) {
+            //A quantidade só é lida quando algum dos algoritmos é a ordenação parcial
+            this.topK = parseInt(getArgumentValue(args, "k"), 0);
+            if (topK <= 0) {
+                throw new IllegalArgumentException("A ordenação parcial exige uma quantidade de elementos (k) maior que zero.");
+            }
+        }
+        if (isRace() && !mode.equals("gui")) {
+            throw new IllegalArgumentException("O modo de corrida (vários algoritmos) só existe na interface gráfica.");
+        }
+        if (isOffHeap()) {
+            validateOffHeap();
+        }
+        this.render = parseRender(getArgumentValue(args, "render"));
+        if (isActiveRendering()) {
+            if (!mode.equals("gui")) {
+                throw new IllegalArgumentException("A renderização ativa só existe na interface gráfica.");
+            }
+            //Sem meta informada, o renderizador usa a frequência da tela
+            this.framesPerSecond = parseInt(getArgumentValue(args, "fps"), 0);
+            if (framesPerSecond < 0) {
+                throw new IllegalArgumentException("A quantidade de quadros por segundo não pode ser negativa.");
+            }
+        }
+
+        if (isExternal()) {
+            processExternalArguments(args);
+            return;
+        }
+
+        //A distribuição e a semente só são usadas pelos dados aleatórios; sem semente, uma nova é sorteada
+        String distributionCode = getArgumentValue(args, "dist");
+        this.distribution = distributionCode.isEmpty() ? Distribution.UNIFORM : Distribution.fromCode(distributionCode);
+        String seedValue = getArgumentValue(args, "seed");
+        this.seed = seedValue.isEmpty() ? ThreadLocalRandom.current().nextLong() : parseLong(seedValue);
+        this.swaps = parseInt(getArgumentValue(args, "swaps"), -1);
+        if (swaps < -1) {
+            throw new IllegalArgumentException("A quantidade de trocas não pode ser negativa.");
+        }
+
+        if (isOffHeap()) {
+            //O tamanho pode passar do maior array do heap, então é lido como long
+            processOffHeapInput(args);
+            this.size = (int) Math.min(Integer.MAX_VALUE, intSegment.length());
+            return;
+        }
 
         //Processar a entrada para determinar o tamanho corretamente
-        this.data = processInput(args);
-        this.size = data.length;
+        processInput(args);
+        this.size = dataLength();
 
         //Validar tamanho
         if (size <= 0) {
             throw new IllegalArgumentException("O tamanho tem que ser maior que zero.");
         }
 
-        if (size > 100) {
-            throw new IllegalArgumentException("O tamanho não pode ser maior que 100.");
+        if (isExport()) {
+            processExportArguments(args);
         }
     }
 
@@ -81,70 +172,465 @@ public class ArgumentProcessor {
     }
 
     /**
-     * Gera dados aleatórios com base no tipo especificado.
+     * Converte uma string para um long, lançando uma exceção se o formato for inválido.
+     *
+     * @param value A string a ser convertida.
+     * @return O valor long correspondente.
+     * @throws IllegalArgumentException Se o formato do número for inválido.
+     */
+    private long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Formato de número inválido para: " + value, e);
+        }
+    }
+
+    /**
+     * Converte um argumento opcional para inteiro, usando um valor padrão quando ele não for informado.
      *
-     * @return Um array de objetos contendo dados aleatórios.
-     * @throws IllegalArgumentException Se o tipo não for suportado.
+     * @param value        A string a ser convertida (vazia se o argumento não foi informado).
+     * @param defaultValue O valor usado quando a string está vazia.
+     * @return O valor inteiro correspondente.
+     * @throws IllegalArgumentException Se o formato do número for inválido.
      */
-    private Object[] generateRandomData() {
-        Random random = new Random();
-        Object[] randomData = new Object[size];
+    private int parseInt(String value, int defaultValue) {
+        return value.isEmpty() ? defaultValue : parseInt(value);
+    }
 
-        if (type.equals("n")) {
-            //Gera números inteiros aleatórios no intervalo de -1000 a 1000
-            for (int i = 0; i < size; i++) {
-                randomData[i] = random.nextInt(2001) - 1000; // De -1000 a 1000
-            }
-        } else if (type.equals("c")) {
-            //Gera caracteres aleatórios entre 'A' e 'Z'
-            for (int i = 0; i < size; i++) {
-                randomData[i] = (char) ('A' + random.nextInt(26)); // De 'A' a 'Z'
+    /**
+     * Converte o tempo por passo da animação, que pode ser fracionário (por exemplo, "0.01").
+     *
+     * @param value A string a ser convertida (vazia se o argumento não foi informado).
+     * @return O tempo em milissegundos, ou zero se o argumento não foi informado.
+     * @throws IllegalArgumentException Se o formato do número for inválido ou o valor for negativo.
+     */
+    private double parsePause(String value) {
+        if (value.isEmpty()) {
+            return 0;
+        }
+        double pause;
+        try {
+            pause = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Formato de número inválido para: " + value, e);
+        }
+        if (!(pause >= 0) || Double.isInfinite(pause)) {
+            throw new IllegalArgumentException("A pausa tem que ser um número maior ou igual a zero.");
+        }
+        return pause;
+    }
+
+    /**
+     * Interpreta o modo de execução.
+     *
+     * @param mode O valor do argumento "mode" ("gui", "headless", "external", "export", "serve" ou vazio).
+     * @return O modo de execução, "gui" se o argumento não foi informado.
+     * @throws IllegalArgumentException Se o modo não for suportado.
+     */
+    private String parseMode(String mode) {
+        if (mode.isEmpty()) {
+            return "gui";
+        } else if (mode.equals("gui") || mode.equals("headless") || mode.equals("external")
+                || mode.equals("export") || mode.equals("serve")) {
+            return mode;
+        } else {
+            throw new IllegalArgumentException("Modo não suportado: " + mode);
+        }
+    }
+
+    /**
+     * Interpreta onde os dados ficam na memória.
+     *
+     * @param memory O valor do argumento "mem" ("heap", "native", "mapped" ou vazio).
+     * @return O local dos dados, "heap" se o argumento não foi informado.
+     * @throws IllegalArgumentException Se o local não for suportado.
+     */
+    private String parseMemory(String memory) {
+        if (memory.isEmpty()) {
+            return "heap";
+        } else if (memory.equals("heap") || memory.equals("native") || memory.equals("mapped")) {
+            return memory;
+        } else {
+            throw new IllegalArgumentException("Memória não suportada: " + memory);
+        }
+    }
+
+    /**
+     * Interpreta como a interface gráfica desenha os quadros.
+     *
+     * @param render O valor do argumento "render" ("swing", "active" ou vazio).
+     * @return O modo de desenho, "swing" se o argumento não foi informado.
+     * @throws IllegalArgumentException Se o modo não for suportado.
+     */
+    private String parseRender(String render) {
+        if (render.isEmpty()) {
+            return "swing";
+        } else if (render.equals("swing") || render.equals("active")) {
+            return render;
+        } else {
+            throw new IllegalArgumentException("Renderização não suportada: " + render);
+        }
+    }
+
+    /**
+     * Verifica se a combinação de argumentos pode ser ordenada fora do heap: inteiros, um único algoritmo
+     * não quadrático, sem interface gráfica ou na janela simples, e dados aleatórios ou de um arquivo binário
+     * (o único formato que pode ser mapeado).
+     *
+     * @throws IllegalArgumentException Se algum argumento não for suportado fora do heap.
+     */
+    private void validateOffHeap() {
+        if (keyType != KeyType.INT) {
+            throw new IllegalArgumentException("A memória fora do heap só suporta o tipo n.");
+        }
+        if (!mode.equals("gui") && !mode.equals("headless")) {
+            throw new IllegalArgumentException("A memória fora do heap só é usada nos modos gui e headless.");
+        }
+        if (isRace()) {
+            throw new IllegalArgumentException("A memória fora do heap não suporta o modo de corrida.");
+        }
+        if (SortAlgorithms.isQuadratic(algorithm)) {
+            throw new IllegalArgumentException("Algoritmo quadrático não suportado fora do heap: " + algorithm);
+        }
+        if (isPartialSort()) {
+            throw new IllegalArgumentException("A ordenação parcial não é suportada fora do heap.");
+        }
+        if (memory.equals("mapped") && !inputMethod.equals("b")) {
+            throw new IllegalArgumentException("O arquivo mapeado exige um arquivo binário (in=b).");
+        }
+        if (!inputMethod.equals("r") && !inputMethod.equals("b")) {
+            throw new IllegalArgumentException("A memória nativa exige dados aleatórios (in=r) ou um arquivo binário (in=b).");
+        }
+    }
+
+    /**
+     * Carrega os dados fora do heap: sorteados direto na memória nativa, copiados de um arquivo binário
+     * ou mapeados do próprio arquivo, que então é ordenado no lugar.
+     *
+     * @param args Os argumentos da linha de comando.
+     * @throws IllegalArgumentException Se o tamanho ou o arquivo forem inválidos.
+     */
+    private void processOffHeapInput(String[] args) {
+        if (inputMethod.equals("r")) {
+            long length = parseLong(getArgumentValue(args, "l"));
+            if (length <= 0) {
+                throw new IllegalArgumentException("O tamanho tem que ser maior que zero.");
             }
+            intSegment = IntSegment.allocate(length);
+            //Gera números inteiros no intervalo de -1000 a 1000, como no heap
+            new DataGenerator(distribution, seed, swaps).ints(intSegment, -1000, 1000);
+        } else if (memory.equals("mapped")) {
+            intSegment = IntSegment.map(getFilePath(args));
         } else {
-            throw new IllegalArgumentException("Tipo não suportado: " + type);
+            intSegment = IntSegment.copyOf(getFilePath(args));
+        }
+    }
+
+    /**
+     * Processa os argumentos do serviço de ordenação: a porta e os valores padrão das requisições que não
+     * informam o algoritmo ou a ordem.
+     *
+     * @param args Os argumentos da linha de comando.
+     * @throws IllegalArgumentException Se a porta ou o algoritmo forem inválidos.
+     */
+    private void processServiceArguments(String[] args) {
+        String algorithmCode = getArgumentValue(args, "a");
+        this.algorithm = algorithmCode.isEmpty() ? "h" : algorithmCode;
+        String orderCode = getArgumentValue(args, "o");
+        this.order = orderCode.isEmpty() ? "AZ" : orderCode;
+        this.cutoff = parseInt(getArgumentValue(args, "c"), SortAlgorithms.DEFAULT_CUTOFF);
+        //Falha na inicialização, e não na primeira requisição, se o algoritmo não existir
+        SortAlgorithms.create(algorithm, cutoff);
+        this.port = parseInt(getArgumentValue(args, "port"), SortService.DEFAULT_PORT);
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("A porta tem que estar entre 0 e 65535.");
+        }
+    }
+
+    /**
+     * Processa os argumentos da exportação da animação: o destino e a quantidade e o ritmo dos quadros.
+     *
+     * @param args Os argumentos da linha de comando.
+     * @throws IllegalArgumentException Se o destino não for informado ou se algum argumento for inválido.
+     */
+    private void processExportArguments(String[] args) {
+        String output = getArgumentValue(args, "out");
+        if (output.isEmpty()) {
+            throw new IllegalArgumentException("Destino da animação não informado.");
+        }
+        this.outputFile = Path.of(output);
+        this.frameCount = parseInt(getArgumentValue(args, "frames"), AnimationExporter.DEFAULT_FRAME_COUNT);
+        if (frameCount < 2) {
+            throw new IllegalArgumentException("A quantidade de quadros tem que ser de pelo menos dois.");
+        }
+        this.framesPerSecond = parseInt(getArgumentValue(args, "fps"), AnimationExporter.DEFAULT_FRAMES_PER_SECOND);
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("A quantidade de quadros por segundo tem que ser maior que zero.");
+        }
+    }
+
+    /**
+     * Processa os argumentos da ordenação externa. Os dados não são carregados na memória:
+     * apenas os caminhos são guardados e o tamanho é calculado a partir do arquivo de entrada.
+     *
+     * @param args Os argumentos da linha de comando.
+     * @throws IllegalArgumentException Se a entrada não for um arquivo binário de "n" ou "l",
+     *                                  ou se algum argumento for inválido.
+     */
+    private void processExternalArguments(String[] args) {
+        if (!inputMethod.equals("b")) {
+            throw new IllegalArgumentException("A ordenação externa exige um arquivo binário (in=b).");
+        }
+        if (keyType != KeyType.INT && keyType != KeyType.LONG) {
+            throw new IllegalArgumentException("Tipo não suportado na ordenação externa: " + type);
+        }
+        this.inputFile = getFilePath(args);
+        String output = getArgumentValue(args, "out");
+        if (output.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo de saída não informado.");
+        }
+        this.outputFile = Path.of(output);
+        String temp = getArgumentValue(args, "tmp");
+        this.tempDirectory = temp.isEmpty() ? null : Path.of(temp);
+        this.chunkSize = parseInt(getArgumentValue(args, "chunk"), ExternalMergeSort.DEFAULT_CHUNK_SIZE);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("O tamanho do bloco tem que ser maior que zero.");
+        }
+
+        int width = keyType == KeyType.INT ? Integer.BYTES : Long.BYTES;
+        try {
+            long elements = Files.size(inputFile) / width;
+            this.size = (int) Math.min(Integer.MAX_VALUE, elements);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + inputFile, e);
         }
+    }
+
+    /**
+     * Gera dados aleatórios com base no tipo especificado, diretamente em arrays primitivos,
+     * com a distribuição e a semente informadas.
+     */
+    private void generateRandomData() {
+        DataGenerator generator = new DataGenerator(distribution, seed, swaps);
 
-        return randomData;
+        switch (keyType) {
+            case INT:
+                //Gera números inteiros no intervalo de -1000 a 1000
+                intData = generator.ints(size, -1000, 1000);
+                break;
+            case CHAR:
+                //Gera caracteres entre 'A' e 'Z'
+                charData = generator.chars(size, 'A', 'Z');
+                break;
+            case LONG:
+                //Gera longs em todo o intervalo do tipo
+                longData = generator.longs(size, Long.MIN_VALUE, Long.MAX_VALUE);
+                break;
+            case DOUBLE:
+                //Gera doubles no intervalo de -1000 a 1000
+                doubleData = generator.doubles(size, -1000, 1000);
+                break;
+            case STRING:
+                //Gera palavras de 1 a 8 letras minúsculas
+                stringData = generator.strings(size);
+                break;
+        }
+    }
+
+    /**
+     * Obtém a quantidade de elementos do array primitivo preenchido.
+     */
+    private int dataLength() {
+        switch (keyType) {
+            case INT:
+                return intData.length;
+            case CHAR:
+                return charData.length;
+            case LONG:
+                return longData.length;
+            case DOUBLE:
+                return doubleData.length;
+            default:
+                return stringData.length;
+        }
     }
 
     /**
      * Processa a entrada com base no método especificado.
      *
      * @param args Os argumentos da linha de comando.
-     * @return Um array de objetos contendo os dados processados.
      * @throws IllegalArgumentException Se o método de entrada não for suportado.
      */
-    private Object[] processInput(String[] args) {
+    private void processInput(String[] args) {
         if (inputMethod.equals("r")) {
-            return generateRandomData();
+            generateRandomData();
         } else if (inputMethod.equals("m")) {
-            return processCLIInput(args); // Passa os argumentos corretos para o método
+            processCLIInput(args); // Passa os argumentos corretos para o método
+        } else if (inputMethod.equals("f")) {
+            processTextFile(getFilePath(args));
+        } else if (inputMethod.equals("b")) {
+            processBinaryFile(getFilePath(args));
         } else {
             throw new IllegalArgumentException("Método de entrada não suportado: " + inputMethod);
         }
     }
 
     /**
-     * Processa a entrada fornecida na linha de comando.
+     * Obtém o caminho do arquivo de entrada.
+     *
+     * @param args Os argumentos da linha de comando.
+     * @return O caminho informado no argumento "f".
+     * @throws IllegalArgumentException Se o caminho não for informado.
+     */
+    private Path getFilePath(String[] args) {
+        String file = getArgumentValue(args, "f");
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo de entrada não informado.");
+        }
+        return Path.of(file);
+    }
+
+    /**
+     * Lê os dados de um arquivo de texto, com os valores separados por vírgula, espaço ou quebra de linha.
+     *
+     * @param path O caminho do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou algum valor tiver formato inválido.
+     */
+    private void processTextFile(Path path) {
+        switch (keyType) {
+            case INT:
+                intData = FileInput.readTextInts(path);
+                break;
+            case CHAR:
+                charData = FileInput.readTextChars(path);
+                break;
+            case LONG:
+                longData = FileInput.readTextLongs(path);
+                break;
+            case DOUBLE:
+                doubleData = FileInput.readTextDoubles(path);
+                break;
+            case STRING:
+                stringData = FileInput.readTextStrings(path);
+                break;
+        }
+    }
+
+    /**
+     * Lê os dados de um arquivo binário little-endian, mapeado em memória.
+     *
+     * @param path O caminho do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou o tipo não tiver formato binário.
+     */
+    private void processBinaryFile(Path path) {
+        switch (keyType) {
+            case INT:
+                intData = FileInput.readBinaryInts(path);
+                break;
+            case LONG:
+                longData = FileInput.readBinaryLongs(path);
+                break;
+            case DOUBLE:
+                doubleData = FileInput.readBinaryDoubles(path);
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo não suportado em arquivo binário: " + type);
+        }
+    }
+
+    /**
+     * Processa a entrada fornecida na linha de comando, sem criar objetos por elemento nos tipos primitivos.
      *
      * @param args Os argumentos da linha de comando.
-     * @return Um array de objetos contendo os dados fornecidos pelo usuário.
-     * @throws IllegalArgumentException Se o tipo não for suportado.
+     * @throws IllegalArgumentException Se algum valor tiver formato inválido.
      */
-    private Object[] processCLIInput(String[] args) {
+    private void processCLIInput(String[] args) {
         String input = getArgumentValue(args, "v"); // Pega o valor do argumento "v"
-        if (type.equals("n")) {
-            return Arrays.stream(input.split(","))
-                    .map(String::trim) // Remove espaços em branco
-                    .map(Integer::parseInt)
-                    .toArray(Integer[]::new);
-        } else if (type.equals("c")) {
-            return input.chars()
-                    .mapToObj(c -> (char) c)
-                    .toArray(Character[]::new);
-        } else {
-            throw new IllegalArgumentException("Tipo não suportado: " + type);
+        switch (keyType) {
+            case INT:
+                intData = parseIntList(input);
+                break;
+            case CHAR:
+                charData = input.toCharArray();
+                break;
+            case LONG:
+                String[] longValues = splitList(input);
+                longData = new long[longValues.length];
+                for (int i = 0; i < longValues.length; i++) {
+                    longData[i] = parseNumber(longValues[i], Long::parseLong);
+                }
+                break;
+            case DOUBLE:
+                String[] doubleValues = splitList(input);
+                doubleData = new double[doubleValues.length];
+                for (int i = 0; i < doubleValues.length; i++) {
+                    doubleData[i] = parseNumber(doubleValues[i], Double::parseDouble);
+                }
+                break;
+            case STRING:
+                stringData = splitList(input);
+                break;
+        }
+    }
+
+    /**
+     * Separa uma lista de valores por vírgula, removendo os espaços em volta de cada valor.
+     *
+     * @param input A lista de valores.
+     * @return Os valores separados.
+     */
+    private String[] splitList(String input) {
+        String[] values = input.split(",", -1);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim();
         }
+        return values;
+    }
+
+    /**
+     * Converte um valor da lista com o conversor informado, lançando uma exceção se o formato for inválido.
+     *
+     * @param value  O valor a ser convertido.
+     * @param parser O conversor.
+     * @param <T>    O tipo do valor convertido.
+     * @return O valor convertido.
+     * @throws IllegalArgumentException Se o formato do número for inválido.
+     */
+    private <T> T parseNumber(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Formato de número inválido para: " + value, e);
+        }
+    }
+
+    /**
+     * Converte uma lista de inteiros separados por vírgula em um array primitivo.
+     *
+     * @param input A lista de valores (por exemplo, "3, -1, 7").
+     * @return O array de inteiros correspondente.
+     * @throws IllegalArgumentException Se algum valor tiver formato inválido.
+     */
+    private int[] parseIntList(String input) {
+        int count = 1;
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) == ',') {
+                count++;
+            }
+        }
+
+        int[] values = new int[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = input.indexOf(',', start);
+            if (end < 0) {
+                end = input.length();
+            }
+            values[i] = parseInt(input.substring(start, end).trim()); // Remove espaços em branco
+            start = end + 1;
+        }
+        return values;
     }
 
     /**
@@ -165,6 +651,47 @@ public class ArgumentProcessor {
         return algorithm;
     }
 
+    /**
+     * Obtém os algoritmos de ordenação especificados, separados por vírgula no argumento "a".
+     *
+     * @return Os códigos dos algoritmos, na ordem informada.
+     */
+    public String[] getAlgorithms() {
+        return splitList(algorithm);
+    }
+
+    /**
+     * Indica se mais de um algoritmo foi informado, para que eles sejam comparados lado a lado.
+     *
+     * @return true se o argumento "a" contém mais de um código.
+     */
+    public boolean isRace() {
+        return algorithm.indexOf(',') >= 0;
+    }
+
+    /**
+     * Indica se algum dos algoritmos informados é a ordenação parcial ("k").
+     *
+     * @return true se o argumento "a" contém o código "k".
+     */
+    public boolean isPartialSort() {
+        for (String code : getAlgorithms()) {
+            if (code.equalsIgnoreCase("k")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtém a quantidade de elementos da ordenação parcial, informada no argumento "k".
+     *
+     * @return A quantidade de elementos ordenados, ou zero se nenhum algoritmo for a ordenação parcial.
+     */
+    public int getTopK() {
+        return topK;
+    }
+
     /**
      * Obtém o tipo de dados (números ou caracteres).
      *
@@ -184,23 +711,245 @@ public class ArgumentProcessor {
     }
 
     /**
-     * Obtém os dados a serem ordenados.
+     * Obtém o tipo das chaves já resolvido.
+     *
+     * @return O tipo correspondente ao argumento "t".
+     */
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Obtém a direção da ordenação já resolvida.
+     *
+     * @return {@link SortOrder#ZA} para ordem decrescente, {@link SortOrder#AZ} caso contrário.
+     */
+    public SortOrder getSortOrder() {
+        return SortOrder.fromString(order);
+    }
+
+    /**
+     * Obtém os dados a serem ordenados como objetos, para o painel de visualização.
+     * O array é criado a partir dos dados primitivos apenas na primeira chamada.
      *
      * @return O array de dados.
      */
     public Object[] getData() {
+        if (data == null) {
+            data = new Object[size];
+            for (int i = 0; i < size; i++) {
+                switch (keyType) {
+                    case INT:
+                        data[i] = intData[i];
+                        break;
+                    case CHAR:
+                        data[i] = charData[i];
+                        break;
+                    case LONG:
+                        data[i] = longData[i];
+                        break;
+                    case DOUBLE:
+                        data[i] = doubleData[i];
+                        break;
+                    case STRING:
+                        data[i] = stringData[i];
+                        break;
+                }
+            }
+        }
         return data;
     }
 
     /**
-     * Obtém o tempo de pausa entre cada passo de ordenação.
+     * Obtém os dados inteiros sem boxing (apenas quando o tipo é "n").
+     *
+     * @return O array de inteiros, ou null se o tipo não for numérico.
+     */
+    public int[] getIntData() {
+        return intData;
+    }
+
+    /**
+     * Obtém os dados de caracteres sem boxing (apenas quando o tipo é "c").
+     *
+     * @return O array de caracteres, ou null se o tipo não for caractere.
+     */
+    public char[] getCharData() {
+        return charData;
+    }
+
+    /**
+     * Obtém os dados longs sem boxing (apenas quando o tipo é "l").
+     *
+     * @return O array de longs, ou null se o tipo não for long.
+     */
+    public long[] getLongData() {
+        return longData;
+    }
+
+    /**
+     * Obtém os dados doubles sem boxing (apenas quando o tipo é "d").
      *
-     * @return O tempo de pausa em milissegundos.
+     * @return O array de doubles, ou null se o tipo não for double.
      */
-    public int getPause() {
+    public double[] getDoubleData() {
+        return doubleData;
+    }
+
+    /**
+     * Obtém os dados de strings (apenas quando o tipo é "s").
+     *
+     * @return O array de strings, ou null se o tipo não for string.
+     */
+    public String[] getStringData() {
+        return stringData;
+    }
+
+    /**
+     * Obtém o tempo de cada passo de ordenação na animação.
+     *
+     * @return O tempo em milissegundos, possivelmente fracionário (zero para a velocidade máxima).
+     */
+    public double getPause() {
         return pause;
     }
 
+    /**
+     * Obtém o limite sequencial dos algoritmos paralelos.
+     *
+     * @return A quantidade de elementos abaixo da qual os algoritmos paralelos trabalham sequencialmente.
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Indica se a ordenação deve ser executada sem interface gráfica.
+     *
+     * @return true se o argumento "mode=headless" foi informado.
+     */
+    public boolean isHeadless() {
+        return mode.equals("headless");
+    }
+
+    /**
+     * Indica se a ordenação deve ser feita de arquivo para arquivo, sem carregar todos os dados na memória.
+     *
+     * @return true se o argumento "mode=external" foi informado.
+     */
+    public boolean isExternal() {
+        return mode.equals("external");
+    }
+
+    /**
+     * Indica se a animação da ordenação deve ser exportada para imagens, sem interface gráfica.
+     *
+     * @return true se o argumento "mode=export" foi informado.
+     */
+    public boolean isExport() {
+        return mode.equals("export");
+    }
+
+    /**
+     * Indica se a aplicação deve rodar como um serviço HTTP de ordenação.
+     *
+     * @return true se o argumento "mode=serve" foi informado.
+     */
+    public boolean isService() {
+        return mode.equals("serve");
+    }
+
+    /**
+     * Obtém a porta do serviço de ordenação.
+     *
+     * @return O valor do argumento "port", ou {@link SortService#DEFAULT_PORT}; zero escolhe uma porta livre.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Obtém o arquivo de entrada da ordenação externa.
+     *
+     * @return O caminho informado no argumento "f", ou null fora do modo externo.
+     */
+    public Path getInputFile() {
+        return inputFile;
+    }
+
+    /**
+     * Obtém o arquivo de saída da ordenação externa, ou o destino da animação exportada.
+     *
+     * @return O caminho informado no argumento "out", ou null fora dos modos externo e de exportação.
+     */
+    public Path getOutputFile() {
+        return outputFile;
+    }
+
+    /**
+     * Obtém o diretório das corridas temporárias da ordenação externa.
+     *
+     * @return O caminho informado no argumento "tmp", ou null para o diretório temporário do sistema.
+     */
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Obtém a quantidade de elementos ordenados na memória de cada vez pela ordenação externa.
+     *
+     * @return O valor do argumento "chunk", ou {@link ExternalMergeSort#DEFAULT_CHUNK_SIZE}.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Obtém a quantidade máxima de quadros da animação exportada.
+     *
+     * @return O valor do argumento "frames", ou {@link AnimationExporter#DEFAULT_FRAME_COUNT}.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Obtém a quantidade de quadros por segundo do GIF exportado, ou a meta da renderização ativa.
+     *
+     * @return O valor do argumento "fps"; sem ele, {@link AnimationExporter#DEFAULT_FRAMES_PER_SECOND} na
+     *         exportação e zero (a frequência da tela) na renderização ativa.
+     */
+    public int getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Indica se os dados ficam fora do heap, na memória nativa ou em um arquivo mapeado.
+     *
+     * @return true se o argumento "mem=native" ou "mem=mapped" foi informado.
+     */
+    public boolean isOffHeap() {
+        return "native".equals(memory) || "mapped".equals(memory);
+    }
+
+    /**
+     * Obtém os dados inteiros fora do heap (apenas com "mem=native" ou "mem=mapped").
+     *
+     * @return O array fora do heap, ou null se os dados estiverem no heap.
+     */
+    public IntSegment getIntSegment() {
+        return intSegment;
+    }
+
+    /**
+     * Indica se a interface gráfica deve ser desenhada por uma thread própria, com {@link java.awt.image.BufferStrategy}.
+     *
+     * @return true se o argumento "render=active" foi informado.
+     */
+    public boolean isActiveRendering() {
+        return "active".equals(render);
+    }
+
     /**
      * Obtém o tamanho do array de dados.
      *
@@ -209,4 +958,31 @@ public class ArgumentProcessor {
     public int getSize() {
         return size;
     }
+
+    /**
+     * Indica se os dados foram gerados aleatoriamente (in=r).
+     *
+     * @return true se os dados foram gerados pelo {@link DataGenerator}.
+     */
+    public boolean isRandomInput() {
+        return inputMethod.equals("r");
+    }
+
+    /**
+     * Obtém a distribuição dos dados aleatórios.
+     *
+     * @return A distribuição informada em "dist", ou {@link Distribution#UNIFORM}.
+     */
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * Obtém a semente dos dados aleatórios; repetida em "seed", ela gera os mesmos dados.
+     *
+     * @return A semente informada em "seed", ou a sorteada quando o argumento não foi informado.
+     */
+    public long getSeed() {
+        return seed;
+    }
 }
@@ -0,0 +1,348 @@
+package TratamentoArgs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lê os dados de entrada a partir de arquivos, diretamente em arrays primitivos.
+ *
+ * Arquivos binários (little-endian, sem cabeçalho) são mapeados em memória com {@link FileChannel#map}
+ * e copiados em blocos para o array. Arquivos de texto são lidos em blocos por um único buffer reutilizado
+ * e separados em valores por vírgula, ponto e vírgula, espaço ou quebra de linha; inteiros e longs são
+ * convertidos a partir dos bytes, sem criar uma String por valor.
+ */
+final class FileInput {
+
+    /**
+     * Tamanho do buffer de leitura dos arquivos de texto.
+     */
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Maior região mapeada de uma vez; múltiplo de 8 para que nenhum valor fique dividido entre duas regiões.
+     */
+    private static final long MAX_MAPPING = Integer.MAX_VALUE & ~7L;
+
+    private FileInput() {
+    }
+
+    /**
+     * Consumidor dos valores encontrados em um arquivo de texto.
+     */
+    private interface TokenConsumer {
+
+        /**
+         * Processa um valor.
+         *
+         * @param bytes  O buffer com os bytes do valor (reutilizado entre as chamadas).
+         * @param length A quantidade de bytes do valor.
+         */
+        void accept(byte[] bytes, int length);
+    }
+
+    /**
+     * Lê um arquivo binário de inteiros de 32 bits.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou o tamanho não for múltiplo de 4 bytes.
+     */
+    static int[] readBinaryInts(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int[] values = new int[elementCount(channel.size(), Integer.BYTES)];
+            int offset = 0;
+            for (long position = 0; position < channel.size(); position += MAX_MAPPING) {
+                MappedByteBuffer region = map(channel, position);
+                int count = region.remaining() / Integer.BYTES;
+                region.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values, offset, count);
+                offset += count;
+            }
+            return values;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        }
+    }
+
+    /**
+     * Lê um arquivo binário de inteiros de 64 bits.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou o tamanho não for múltiplo de 8 bytes.
+     */
+    static long[] readBinaryLongs(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] values = new long[elementCount(channel.size(), Long.BYTES)];
+            int offset = 0;
+            for (long position = 0; position < channel.size(); position += MAX_MAPPING) {
+                MappedByteBuffer region = map(channel, position);
+                int count = region.remaining() / Long.BYTES;
+                region.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(values, offset, count);
+                offset += count;
+            }
+            return values;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        }
+    }
+
+    /**
+     * Lê um arquivo binário de doubles (IEEE 754, 64 bits).
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou o tamanho não for múltiplo de 8 bytes.
+     */
+    static double[] readBinaryDoubles(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            double[] values = new double[elementCount(channel.size(), Double.BYTES)];
+            int offset = 0;
+            for (long position = 0; position < channel.size(); position += MAX_MAPPING) {
+                MappedByteBuffer region = map(channel, position);
+                int count = region.remaining() / Double.BYTES;
+                region.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values, offset, count);
+                offset += count;
+            }
+            return values;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        }
+    }
+
+    /**
+     * Lê um arquivo de texto de inteiros.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou algum valor tiver formato inválido.
+     */
+    static int[] readTextInts(Path path) {
+        int[][] values = {new int[1024]};
+        int[] count = {0};
+        scan(path, false, (bytes, length) -> {
+            long value = parseLong(bytes, length);
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw invalidNumber(bytes, length);
+            }
+            if (count[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], grow(count[0]));
+            }
+            values[0][count[0]++] = (int) value;
+        });
+        return Arrays.copyOf(values[0], count[0]);
+    }
+
+    /**
+     * Lê um arquivo de texto de longs.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou algum valor tiver formato inválido.
+     */
+    static long[] readTextLongs(Path path) {
+        long[][] values = {new long[1024]};
+        int[] count = {0};
+        scan(path, false, (bytes, length) -> {
+            long value = parseLong(bytes, length);
+            if (count[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], grow(count[0]));
+            }
+            values[0][count[0]++] = value;
+        });
+        return Arrays.copyOf(values[0], count[0]);
+    }
+
+    /**
+     * Lê um arquivo de texto de doubles. Cada valor é convertido por {@link Double#parseDouble}.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os valores do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido ou algum valor tiver formato inválido.
+     */
+    static double[] readTextDoubles(Path path) {
+        double[][] values = {new double[1024]};
+        int[] count = {0};
+        scan(path, false, (bytes, length) -> {
+            String text = new String(bytes, 0, length, StandardCharsets.US_ASCII);
+            double value;
+            try {
+                value = Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Formato de número inválido para: " + text, e);
+            }
+            if (count[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], grow(count[0]));
+            }
+            values[0][count[0]++] = value;
+        });
+        return Arrays.copyOf(values[0], count[0]);
+    }
+
+    /**
+     * Lê um arquivo de texto de caracteres: todos os caracteres do arquivo, exceto os separadores.
+     *
+     * @param path O caminho do arquivo.
+     * @return Os caracteres do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido.
+     */
+    static char[] readTextChars(Path path) {
+        StringBuilder chars = new StringBuilder();
+        scan(path, false, (bytes, length) -> chars.append(new String(bytes, 0, length, StandardCharsets.UTF_8)));
+        char[] values = new char[chars.length()];
+        chars.getChars(0, values.length, values, 0);
+        return values;
+    }
+
+    /**
+     * Lê um arquivo de texto de strings, separadas por vírgula ou quebra de linha (UTF-8).
+     * Os espaços em volta de cada string são removidos.
+     *
+     * @param path O caminho do arquivo.
+     * @return As strings do arquivo.
+     * @throws IllegalArgumentException Se o arquivo não puder ser lido.
+     */
+    static String[] readTextStrings(Path path) {
+        String[][] values = {new String[1024]};
+        int[] count = {0};
+        scan(path, true, (bytes, length) -> {
+            String value = new String(bytes, 0, length, StandardCharsets.UTF_8).trim();
+            if (value.isEmpty()) {
+                return;
+            }
+            if (count[0] == values[0].length) {
+                values[0] = Arrays.copyOf(values[0], grow(count[0]));
+            }
+            values[0][count[0]++] = value;
+        });
+        return Arrays.copyOf(values[0], count[0]);
+    }
+
+    /**
+     * Percorre o arquivo de texto em blocos, entregando cada valor ao consumidor.
+     *
+     * @param path         O caminho do arquivo.
+     * @param keepSpaces   Se verdadeiro, espaços e tabulações fazem parte dos valores em vez de separá-los.
+     * @param consumer     O consumidor dos valores.
+     */
+    private static void scan(Path path, boolean keepSpaces, TokenConsumer consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            byte[] token = new byte[64];
+            int length = 0;
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                byte[] bytes = buffer.array();
+                int end = buffer.limit();
+                for (int i = 0; i < end; i++) {
+                    byte b = bytes[i];
+                    if (isSeparator(b, keepSpaces)) {
+                        if (length > 0) {
+                            consumer.accept(token, length);
+                            length = 0;
+                        }
+                        continue;
+                    }
+                    if (length == token.length) {
+                        token = Arrays.copyOf(token, token.length * 2);
+                    }
+                    token[length++] = b;
+                }
+                buffer.clear();
+            }
+            if (length > 0) {
+                consumer.accept(token, length);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível ler o arquivo: " + path, e);
+        }
+    }
+
+    private static boolean isSeparator(byte b, boolean keepSpaces) {
+        switch (b) {
+            case ',':
+            case ';':
+            case '\n':
+            case '\r':
+                return true;
+            case ' ':
+            case '\t':
+                return !keepSpaces;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converte os dígitos ASCII (com sinal opcional) em um long, sem criar uma String.
+     *
+     * @throws IllegalArgumentException Se o formato for inválido ou o valor não couber em um long.
+     */
+    private static long parseLong(byte[] bytes, int length) {
+        int i = 0;
+        boolean negative = bytes[0] == '-';
+        if (negative || bytes[0] == '+') {
+            i++;
+        }
+        if (i == length) {
+            throw invalidNumber(bytes, length);
+        }
+        //Acumula em negativo, que comporta Long.MIN_VALUE
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+                throw invalidNumber(bytes, length);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw invalidNumber(bytes, length);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalidNumber(byte[] bytes, int length) {
+        return new IllegalArgumentException(
+                "Formato de número inválido para: " + new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Calcula a nova capacidade de um array que está cheio.
+     */
+    private static int grow(int capacity) {
+        if (capacity == Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("O arquivo tem valores demais para um único array.");
+        }
+        return (int) Math.min(Integer.MAX_VALUE - 8, capacity * 2L);
+    }
+
+    /**
+     * Calcula a quantidade de valores de um arquivo binário.
+     */
+    private static int elementCount(long size, int elementBytes) {
+        if (size % elementBytes != 0) {
+            throw new IllegalArgumentException("O tamanho do arquivo não é múltiplo de " + elementBytes + " bytes.");
+        }
+        if (size / elementBytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("O arquivo tem valores demais para um único array.");
+        }
+        return (int) (size / elementBytes);
+    }
+
+    /**
+     * Mapeia, somente para leitura, a região do arquivo que começa na posição informada.
+     */
+    private static MappedByteBuffer map(FileChannel channel, long position) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPING, channel.size() - position));
+    }
+}